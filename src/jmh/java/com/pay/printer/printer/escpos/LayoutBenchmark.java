@@ -0,0 +1,63 @@
+package com.pay.printer.printer.escpos;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : LayoutBenchmark
+ * @date : 2026-10-17
+ * @description : 100줄 영수증 열 맞춤 (상품명 / 수량 / 금액)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+
+    private static final int LINES = 100;
+    private static final LayoutColumn[] ITEM = {
+        new LayoutColumn(0, TextAlign.LEFT, true),
+        new LayoutColumn(4, TextAlign.RIGHT, false),
+        new LayoutColumn(10, TextAlign.RIGHT, false)
+    };
+
+    private String[][] rows;
+    private ReceiptBuilder receipt;
+
+    @Setup
+    public void setUp() {
+        String[] names = {"아이스 아메리카노", "Caffe Latte", "바닐라 라떼 (벤티 사이즈, 샷 추가)", "치즈 케이크"};
+        rows = new String[LINES][];
+        for (int i = 0; i < LINES; i++) {
+            rows[i] = new String[] {names[i % names.length], String.valueOf(i % 3 + 1), String.format("%,d", 4500 * (i + 1))};
+        }
+        receipt = new ReceiptBuilder(new KoreanTextEncoder("EUC-KR", "?", 256), 16384);
+    }
+
+    @Benchmark
+    public int layout100Lines() {
+        ReceiptLayout layout = new ReceiptLayout(receipt.reset(), 48);
+        layout.text("영수증", TextAlign.CENTER).rule('-');
+        for (String[] row : rows) {
+            layout.row(ITEM, row);
+        }
+        layout.rule('-');
+        return receipt.size();
+    }
+}
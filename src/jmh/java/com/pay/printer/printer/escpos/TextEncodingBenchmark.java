@@ -0,0 +1,74 @@
+package com.pay.printer.printer.escpos;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : TextEncodingBenchmark
+ * @date : 2026-10-17
+ * @description : 한글 텍스트 인코딩 (String.getBytes vs KoreanTextEncoder)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextEncodingBenchmark {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @Param({"ascii", "menu", "receipt"})
+    private String sample;
+
+    private String text;
+    private KoreanTextEncoder encoder;
+    private ReceiptBuilder receipt;
+
+    @Setup
+    public void setUp() {
+        switch (sample) {
+            case "ascii":
+                text = "TOTAL               12,500  CARD ****-1234";
+                break;
+            case "menu":
+                text = "아이스 아메리카노";  // 캐시 대상 (짧은 반복 문자열)
+                break;
+            default:
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < 20; i++) {
+                    sb.append("아메리카노 x").append(i).append("      4,500원\n");
+                }
+                text = sb.toString();
+        }
+        encoder = new KoreanTextEncoder("EUC-KR", "?", 256);
+        receipt = new ReceiptBuilder(encoder, 4096);
+    }
+
+    @Benchmark
+    public byte[] stringGetBytes() {
+        return text.getBytes(EUC_KR);
+    }
+
+    @Benchmark
+    public int encoderIntoReusedBuffer() {
+        receipt.reset().text(text);
+        return receipt.size();
+    }
+}
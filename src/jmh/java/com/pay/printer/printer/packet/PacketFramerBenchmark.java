@@ -0,0 +1,62 @@
+package com.pay.printer.printer.packet;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketFramerBenchmark
+ * @date : 2026-10-17
+ * @description : 패킷 조립/LRC 계산 (새 배열 vs 재사용 버퍼)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketFramerBenchmark {
+
+    @Param({"16", "256", "1024"})
+    private int length;
+
+    private byte[] data;
+    private byte[] frame;
+
+    @Setup
+    public void setUp() {
+        data = new byte[length];
+        new Random(42).nextBytes(data);
+        frame = new byte[PacketFramer.MAX_FRAME_LENGTH];
+    }
+
+    @Benchmark
+    public byte[] buildPacket() {
+        return PacketFramer.buildPacket(PacketFramer.CMD_PRINT, data);
+    }
+
+    @Benchmark
+    public int frameIntoReusedBuffer() {
+        return PacketFramer.frame(PacketFramer.CMD_PRINT, data, 0, data.length, frame, 0);
+    }
+
+    @Benchmark
+    public byte calculateLRC() {
+        return PacketFramer.calculateLRC(data, 0, data.length);
+    }
+}
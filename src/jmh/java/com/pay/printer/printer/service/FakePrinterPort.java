@@ -0,0 +1,53 @@
+package com.pay.printer.printer.service;
+
+import com.pay.printer.printer.packet.PacketFramer;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : FakePrinterPort
+ * @date : 2026-10-17
+ * @description : 메모리 안의 가짜 포트 (보낸 바이트 수만 세고, 패킷마다 바로 ACK)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+final class FakePrinterPort {
+
+    private int pendingAcks;
+    long bytesWritten;
+
+    final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) {
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytesWritten += len;
+            // PacketTransport 는 패킷 하나를 write 한 번으로 보낸다
+            if (len > 0 && b[off] == PacketFramer.STX) {
+                pendingAcks++;
+            }
+        }
+    };
+
+    final InputStream in = new InputStream() {
+        @Override
+        public int read() {
+            if (pendingAcks == 0) {
+                return -1;
+            }
+            pendingAcks--;
+            return PacketFramer.ACK;
+        }
+
+        @Override
+        public int available() {
+            return pendingAcks;
+        }
+    };
+}
@@ -0,0 +1,116 @@
+package com.pay.printer.printer.service;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.template.ReceiptTemplate;
+import com.pay.printer.printer.template.TemplateCompiler;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : ReceiptBenchmark
+ * @date : 2026-10-17
+ * @description : 영수증 조립(텍스트/템플릿)과 가짜 포트로의 전송까지 (시리얼 대기 시간 제외)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReceiptBenchmark {
+
+    private static final String TEMPLATE = String.join("\n",
+        "#align center",
+        "#size double",
+        "{{storeName}}",
+        "#size normal",
+        "#align left",
+        "==========================================",
+        "#each items",
+        "{{name:<24}}{{qty:>6}}{{amount:>12}}",
+        "#end",
+        "------------------------------------------",
+        "합계{{total:>38}}",
+        "주문번호: {{orderNo}}",
+        "");
+
+    private PrinterService printerService;
+    private ReceiptContent textContent;
+    private ReceiptContent templateContent;
+    private PrinterDevice escposDevice;
+    private PrinterDevice packetDevice;
+    private FakePrinterPort port;
+
+    @Setup
+    public void setUp() {
+        KoreanTextEncoder encoder = new KoreanTextEncoder("EUC-KR", "?", 256);
+        printerService = new PrinterService(null, encoder, PrinterMetrics.noop());
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        StringBuilder text = new StringBuilder("테스트 매장\n==========================================\n");
+        for (int i = 0; i < 10; i++) {
+            items.add(Map.of("name", "아이스 아메리카노", "qty", 1, "amount", "4,500"));
+            text.append("아이스 아메리카노                1       4,500\n");
+        }
+        text.append("합계                                  45,000\n");
+        textContent = ReceiptContent.text(text.toString());
+
+        ReceiptTemplate template = new TemplateCompiler(encoder).compile("bench", TEMPLATE);
+        templateContent = template.bind(Map.of(
+            "storeName", "테스트 매장", "items", items, "total", "45,000", "orderNo", "A-0001"));
+
+        escposDevice = PrinterDevice.of("escpos", "FAKE");
+        escposDevice.setStatusCheck(false);
+        packetDevice = PrinterDevice.of("packet", "FAKE");
+        packetDevice.setProtocol(PrinterProtocol.PACKET);
+        packetDevice.getPacket().setWindowSize(4);
+        port = new FakePrinterPort();
+    }
+
+    @Benchmark
+    public int assembleText() {
+        return printerService.assemble(textContent).size();
+    }
+
+    @Benchmark
+    public int assembleTemplate() {
+        return printerService.assemble(templateContent).size();
+    }
+
+    @Benchmark
+    public long sendEscPos() throws IOException, InterruptedException {
+        ReceiptBuilder receipt = printerService.assemble(templateContent);
+        printerService.send(escposDevice, receipt, port.in, port.out);
+        return port.bytesWritten;
+    }
+
+    @Benchmark
+    public long sendPacket() throws IOException, InterruptedException {
+        ReceiptBuilder receipt = printerService.assemble(templateContent);
+        printerService.send(packetDevice, receipt, port.in, port.out);
+        return port.bytesWritten;
+    }
+}
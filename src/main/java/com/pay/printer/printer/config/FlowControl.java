@@ -0,0 +1,40 @@
+package com.pay.printer.printer.config;
+
+import com.fazecast.jSerialComm.SerialPort;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.config
+ * @fileName : FlowControl
+ * @date : 2026-10-17
+ * @description : 프린터 수신 버퍼에 맞춰 전송 속도를 조절하는 방식
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum FlowControl {
+    NONE(SerialPort.FLOW_CONTROL_DISABLED),
+    // 하드웨어 흐름 제어 (프린터가 CTS 를 내리면 드라이버가 전송을 멈춘다)
+    RTS_CTS(SerialPort.FLOW_CONTROL_RTS_ENABLED | SerialPort.FLOW_CONTROL_CTS_ENABLED),
+    // 소프트웨어 흐름 제어 (XOFF/XON 문자)
+    XON_XOFF(SerialPort.FLOW_CONTROL_XONXOFF_IN_ENABLED | SerialPort.FLOW_CONTROL_XONXOFF_OUT_ENABLED),
+    // 흐름 제어 신호가 없는 케이블: 수신 버퍼 크기만큼 보낸 뒤 DLE EOT 로 상태 확인
+    STATUS_POLL(SerialPort.FLOW_CONTROL_DISABLED);
+
+    private final int serialFlags;
+
+    FlowControl(int serialFlags) {
+        this.serialFlags = serialFlags;
+    }
+
+    public int getSerialFlags() {
+        return serialFlags;
+    }
+
+    /**
+     * 드라이버나 상태 조회가 속도를 맞춰 주므로 고정 대기가 필요 없음
+     */
+    public boolean isPaced() {
+        return this != NONE;
+    }
+}
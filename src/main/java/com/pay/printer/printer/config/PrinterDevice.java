@@ -0,0 +1,66 @@
+package com.pay.printer.printer.config;
+
+import com.pay.printer.printer.image.ImageMode;
+import com.pay.printer.printer.packet.PacketSettings;
+import lombok.Data;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.config
+ * @fileName : PrinterDevice
+ * @date : 2026-10-17
+ * @description : application.yml 의 printer.devices 항목 하나 (프린터 한 대)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Data
+public class PrinterDevice {
+    private String id;
+    private String port;
+    // 속도 탐색이 실행 중에 바꾸므로 volatile
+    private volatile int baudRate = 115200;
+
+    // 시작할 때 빠른 속도부터 상태 조회로 확인해서 baudRate 를 정한다
+    private boolean probeBaudRate;
+
+    // 찾은 속도가 이보다 느리면 프린터 설정(GS ( E)을 이 속도로 바꾼다 (0 이면 바꾸지 않음)
+    private int switchBaudRate;
+    private PrinterProtocol protocol = PrinterProtocol.ESCPOS;
+    private FlowControl flowControl = FlowControl.NONE;
+
+    // 전송 전에 DLE EOT 로 용지 없음/커버 열림 확인 (ESCPOS 방식만)
+    private boolean statusCheck = true;
+    private int statusTimeoutMillis = 300;
+
+    // STATUS_POLL 방식에서 상태 확인 없이 연속으로 보낼 바이트 수
+    private int receiveBufferSize = 4096;
+
+    // 인쇄 폭 (dot, 80mm 용지 576 / 58mm 용지 384) - 이미지 변환 폭 상한
+    private int printWidthDots = 576;
+
+    // POST /print/image 에서 mode 를 주지 않았을 때 쓰는 명령 (느린 시리얼은 GRAPHICS 가 유리)
+    private ImageMode imageMode = ImageMode.RASTER;
+
+    // GRAPHICS 에서 PackBits 압축 래스터를 받는 GS ( L 함수 번호 (펌웨어마다 다름, 0 이면 압축 안 함)
+    private int graphicsCompressionFunction;
+
+    // 글꼴 A 기준 한 줄 칸 수 (80mm 48 / 58mm 32) - 긴 문서 스트리밍 인쇄의 줄바꿈 기준
+    private int lineColumns = 48;
+
+    // 백그라운드 상태 조회 대상 (printer.health.interval-ms 마다)
+    private boolean healthCheck = true;
+
+    // 이 프린터가 DOWN 이면 대신 받을 프린터 ID (없으면 바로 거절)
+    private String backup;
+
+    // PACKET 방식의 ACK/NAK 설정
+    private PacketSettings packet = new PacketSettings();
+
+    public static PrinterDevice of(String id, String port) {
+        PrinterDevice device = new PrinterDevice();
+        device.setId(id);
+        device.setPort(port);
+        return device;
+    }
+}
@@ -0,0 +1,39 @@
+package com.pay.printer.printer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.config
+ * @fileName : PrinterProperties
+ * @date : 2026-10-17
+ * @description : 여러 대의 프린터 설정 (printer.devices, printer.routing)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "printer")
+public class PrinterProperties {
+
+    // 비어 있으면 printer.port.name 하나로 "default" 프린터를 만든다
+    private List<PrinterDevice> devices = new ArrayList<>();
+
+    private Routing routing = new Routing();
+
+    @Data
+    public static class Routing {
+        // 프린터를 지정하지 않은 영수증의 분배 방식
+        private RoutingMode mode = RoutingMode.LEAST_LOADED;
+    }
+
+    public enum RoutingMode {
+        ROUND_ROBIN,   // 순서대로 돌아가며
+        LEAST_LOADED   // 대기 작업이 가장 적은 프린터로
+    }
+}
@@ -0,0 +1,16 @@
+package com.pay.printer.printer.config;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.config
+ * @fileName : PrinterProtocol
+ * @date : 2026-10-17
+ * @description : 프린터별 전송 방식
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum PrinterProtocol {
+    ESCPOS,  // ESC/POS 명령어 그대로 전송
+    PACKET   // STX/길이/명령/데이터/ETX/LRC 패킷으로 감싸서 전송
+}
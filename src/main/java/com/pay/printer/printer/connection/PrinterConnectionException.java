@@ -0,0 +1,22 @@
+package com.pay.printer.printer.connection;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : PrinterConnectionException
+ * @date : 2026-10-17
+ * @description : 포트 열기/전송 실패 (이 예외가 나면 커넥션을 버리고 다음 사용 때 다시 연다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class PrinterConnectionException extends RuntimeException {
+
+    public PrinterConnectionException(String message) {
+        super(message);
+    }
+
+    public PrinterConnectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,185 @@
+package com.pay.printer.printer.connection;
+
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : PrinterConnectionManager
+ * @date : 2026-10-17
+ * @description : 포트 이름별로 연결(시리얼, pty, 가상 프린터) 하나를 열어 두고 재사용
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Component
+public class PrinterConnectionManager {
+
+    private final PrinterTransportFactory transportFactory;
+    private final PrinterMetrics metrics;
+    private final WireTracer wireTracer;
+
+    private final ConcurrentMap<String, PooledPort> ports = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PrinterConnectionManager(PrinterTransportFactory transportFactory, PrinterMetrics metrics,
+                                    WireTracer wireTracer) {
+        this.transportFactory = transportFactory;
+        this.metrics = metrics;
+        this.wireTracer = wireTracer;
+    }
+
+    public PrinterConnectionManager(PrinterTransportFactory transportFactory, PrinterMetrics metrics) {
+        this(transportFactory, metrics, WireTracer.disabled());
+    }
+
+    /**
+     * 포트를 독점으로 빌려 작업을 수행한다.
+     * 같은 포트의 호출은 순서대로 처리되고, 연결 오류가 나면 다음 호출 때 포트를 다시 연다.
+     */
+    public <T> T execute(String portName, SerialSettings settings, TransportCallback<T> callback) {
+        PooledPort pooled = ports.computeIfAbsent(portName, this::newPooledPort);
+        pooled.lock.lock();
+        try {
+            try {
+                return callback.doWithTransport(pooled.acquire(settings));
+            } catch (PrinterConnectionException | IOException e) {
+                log.warn("포트 오류로 연결을 재설정합니다: {} ({})", portName, e.getMessage());
+                pooled.close();
+                throw asRuntime(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PrinterConnectionException("포트 작업이 중단되었습니다: " + portName, e);
+            } catch (Exception e) {
+                throw asRuntime(e);
+            }
+        } finally {
+            pooled.lock.unlock();
+        }
+    }
+
+    /**
+     * 포트를 다른 작업이 쓰고 있으면 기다리지 않고 빈 값을 돌려준다 (상태 점검 등 급하지 않은 작업)
+     */
+    public <T> Optional<T> tryExecute(String portName, SerialSettings settings, TransportCallback<T> callback) {
+        PooledPort pooled = ports.computeIfAbsent(portName, this::newPooledPort);
+        if (!pooled.lock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(execute(portName, settings, callback));
+        } finally {
+            pooled.lock.unlock();
+        }
+    }
+
+    public boolean isOpen(String portName) {
+        PooledPort pooled = ports.get(portName);
+        return pooled != null && pooled.isUsable();
+    }
+
+    /**
+     * 열려 있는 연결을 닫는다 (장치 교체 등). 다음 execute 때 다시 열린다.
+     */
+    public void invalidate(String portName) {
+        PooledPort pooled = ports.get(portName);
+        if (pooled == null) {
+            return;
+        }
+        pooled.lock.lock();
+        try {
+            pooled.close();
+        } finally {
+            pooled.lock.unlock();
+        }
+    }
+
+    /**
+     * 포트가 사라지면(USB 분리) 열어 둔 연결을 바로 닫는다. 다시 나타나면 다음 execute 때 새로 연다.
+     */
+    @EventListener
+    public void onPortChanged(PrinterPortEvent event) {
+        for (String portName : ports.keySet()) {
+            if (!event.matches(portName)) {
+                continue;
+            }
+            if (event.isAttached()) {
+                log.info("프린터 포트가 다시 연결되었습니다: {}", portName);
+            } else {
+                log.warn("프린터 포트가 분리되었습니다: {}", portName);
+                invalidate(portName);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        ports.keySet().forEach(this::invalidate);
+        ports.clear();
+        log.info("프린터 연결을 모두 닫았습니다.");
+    }
+
+    private PooledPort newPooledPort(String portName) {
+        PooledPort pooled = new PooledPort(portName);
+        metrics.gaugePortOpen(portName, pooled, port -> port.isUsable() ? 1 : 0);
+        return pooled;
+    }
+
+    private static RuntimeException asRuntime(Exception e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new PrinterConnectionException("포트 작업 실패: " + e.getMessage(), e);
+    }
+
+    private final class PooledPort {
+
+        private final String portName;
+        private final ReentrantLock lock = new ReentrantLock();
+        private PrinterTransport transport;
+        private SerialSettings applied;
+
+        private PooledPort(String portName) {
+            this.portName = portName;
+        }
+
+        private boolean isUsable() {
+            PrinterTransport current = transport;
+            return current != null && current.isOpen();
+        }
+
+        private PrinterTransport acquire(SerialSettings settings) throws IOException {
+            if (!isUsable()) {
+                close();
+                transport = wireTracer.wrap(portName,
+                    metrics.portConnect(portName).record(() -> transportFactory.open(portName, settings)));
+                applied = settings;
+                log.info("포트 연결: {} ({} bps)", portName, settings.getBaudRate());
+            } else if (!settings.equals(applied)) {
+                // 같은 포트를 다른 속도로 쓰는 경우 (9600 ESC/POS ↔ 115200 패킷)
+                transport.configure(settings);
+                applied = settings;
+            }
+            return transport;
+        }
+
+        private void close() {
+            if (transport != null) {
+                transport.close();
+            }
+            transport = null;
+            applied = null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.pay.printer.printer.connection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : PrinterPortEvent
+ * @date : 2026-10-17
+ * @description : 시리얼 포트가 새로 나타나거나(USB 연결) 사라졌을 때(분리) 발행
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PrinterPortEvent {
+
+    private final SerialPortInfo port;
+    private final boolean attached;
+
+    public boolean matches(String portName) {
+        return port.matches(portName);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pay.printer.printer.connection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : PrinterTransport
+ * @date : 2026-10-17
+ * @description : 프린터와 바이트를 주고받는 연결 (시리얼 포트, 의사 터미널, 가상 프린터)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public interface PrinterTransport extends Closeable {
+
+    String getName();
+
+    /**
+     * 열려 있고 연결이 끊어지지 않았으면 true
+     */
+    boolean isOpen();
+
+    /**
+     * 열린 연결의 통신 설정을 바꾼다 (같은 포트를 다른 속도로 쓰는 경우)
+     */
+    void configure(SerialSettings settings) throws IOException;
+
+    InputStream getInputStream();
+
+    OutputStream getOutputStream();
+
+    @Override
+    void close();
+}
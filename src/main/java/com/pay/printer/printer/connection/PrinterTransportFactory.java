@@ -0,0 +1,77 @@
+package com.pay.printer.printer.connection;
+
+import com.pay.printer.printer.virtual.VirtualPrinter;
+import com.pay.printer.printer.virtual.VirtualPrinterTransport;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : PrinterTransportFactory
+ * @date : 2026-10-17
+ * @description : 포트 이름에 맞는 연결을 연다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * <ul>
+ *   <li>virtual:이름?옵션 - 가상 프린터 (옵션은 VirtualPrinter.parse)</li>
+ *   <li>tcp:호스트[:포트] - 네트워크 프린터 (기본 9100, 셀렉터 스레드 하나가 모든 연결을 처리)</li>
+ *   <li>pty:/경로 - 리눅스 의사 터미널</li>
+ *   <li>그 밖 - 시리얼 포트 (COM4, /dev/ttyUSB0)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class PrinterTransportFactory {
+
+    public static final String VIRTUAL_PREFIX = "virtual:";
+
+    private final TcpSelectorLoop selectorLoop;
+
+    // 다시 연결해도 같은 가상 프린터 (받은 양 통계 유지)
+    private final ConcurrentMap<String, VirtualPrinter> virtualPrinters = new ConcurrentHashMap<>();
+
+    /**
+     * @throws PrinterConnectionException 열 수 없는 경우
+     */
+    public PrinterTransport open(String portName, SerialSettings settings) {
+        if (portName.startsWith(VIRTUAL_PREFIX)) {
+            return new VirtualPrinterTransport(portName, getVirtualPrinter(portName), settings);
+        }
+        if (portName.startsWith(TcpTransport.PREFIX)) {
+            return TcpTransport.open(portName, settings, selectorLoop);
+        }
+        if (portName.startsWith(PtyTransport.PREFIX)) {
+            return PtyTransport.open(portName, settings);
+        }
+        return SerialTransport.open(portName, settings);
+    }
+
+    /**
+     * 시리얼 포트 이름인지 (가상/TCP/pty 가 아닌 경우)
+     */
+    public static boolean isSerial(String portName) {
+        return !portName.startsWith(VIRTUAL_PREFIX)
+            && !portName.startsWith(TcpTransport.PREFIX)
+            && !portName.startsWith(PtyTransport.PREFIX);
+    }
+
+    public VirtualPrinter getVirtualPrinter(String portName) {
+        return virtualPrinters.computeIfAbsent(portName, name -> {
+            try {
+                return VirtualPrinter.parse(name.substring(VIRTUAL_PREFIX.length()));
+            } catch (IllegalArgumentException e) {
+                throw new PrinterConnectionException("가상 프린터 설정 오류: " + name + " (" + e.getMessage() + ")", e);
+            }
+        });
+    }
+
+    public Collection<VirtualPrinter> getVirtualPrinters() {
+        return virtualPrinters.values();
+    }
+}
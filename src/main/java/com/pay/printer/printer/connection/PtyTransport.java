@@ -0,0 +1,121 @@
+package com.pay.printer.printer.connection;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : PtyTransport
+ * @date : 2026-10-17
+ * @description : 리눅스 의사 터미널(pty) 연결 (포트 이름 pty:/경로)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 실제 프린터 없이 socat 으로 만든 pty 쌍의 한쪽을 열고, 다른 쪽에서 VirtualPrinterPtyServer 를 돌린다.
+ * <pre>
+ * socat pty,raw,echo=0,link=/tmp/printer-host pty,raw,echo=0,link=/tmp/printer-dev
+ * </pre>
+ * jSerialComm 은 pty 에 모뎀 제어(ioctl)를 걸다 실패하는 경우가 있어 파일 스트림으로 직접 연다.
+ */
+@Slf4j
+public class PtyTransport implements PrinterTransport {
+
+    public static final String PREFIX = "pty:";
+
+    private final String name;
+    private final Path path;
+    private final FileInputStream in;
+    private final FileOutputStream out;
+    private volatile boolean closed;
+
+    private PtyTransport(String name, Path path) throws IOException {
+        this.name = name;
+        this.path = path;
+        this.in = new FileInputStream(path.toFile());
+        this.out = new FileOutputStream(path.toFile());
+    }
+
+    /**
+     * @throws PrinterConnectionException pty 가 없거나 열 수 없는 경우
+     */
+    public static PtyTransport open(String portName, SerialSettings settings) {
+        Path path = Paths.get(portName.substring(PREFIX.length()));
+        if (!Files.exists(path)) {
+            throw new PrinterConnectionException("pty 가 없습니다: " + path);
+        }
+        try {
+            PtyTransport transport = new PtyTransport(portName, path);
+            transport.configure(settings);
+            return transport;
+        } catch (IOException e) {
+            throw new PrinterConnectionException("pty 를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed && Files.exists(path);
+    }
+
+    /**
+     * 회선 규율을 raw 로 바꾼다 (줄 단위 버퍼링, 에코, 0x0A → 0x0D0A 변환이 있으면 ESC/POS 바이트가 바뀐다).
+     * pty 에는 실제 전송 속도가 없으므로 속도는 상대편 가상 프린터가 흉내 낸다.
+     */
+    @Override
+    public void configure(SerialSettings settings) throws IOException {
+        Process stty = new ProcessBuilder("stty", "-F", path.toString(), "raw", "-echo",
+            String.valueOf(settings.getBaudRate()))
+            .redirectErrorStream(true)
+            .start();
+        try {
+            if (!stty.waitFor(5, TimeUnit.SECONDS)) {
+                stty.destroyForcibly();
+                throw new IOException("stty 응답 없음: " + path);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("stty 대기 중단: " + path);
+        }
+        if (stty.exitValue() != 0) {
+            String message = new String(stty.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            throw new IOException("stty 실패: " + path + " (" + message + ")");
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            in.close();
+            out.close();
+        } catch (IOException e) {
+            log.warn("pty 닫기 실패: {} ({})", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.pay.printer.printer.connection;
+
+import com.fazecast.jSerialComm.SerialPort;
+import lombok.Data;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : SerialPortInfo
+ * @date : 2026-10-17
+ * @description : 시스템에 있는 시리얼 포트 한 개 (USB-시리얼이면 VID/PID 포함)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Data
+public class SerialPortInfo {
+
+    private final String systemName;    // COM4, ttyUSB0
+    private final String path;          // \\.\COM4, /dev/ttyUSB0
+    private final String description;
+    private final String vendorId;      // USB 가 아니면 null (16진수 4자리)
+    private final String productId;
+    private final String serialNumber;
+    private final String location;      // USB 포트 위치 (같은 제품 여러 대 구분)
+
+    static SerialPortInfo from(SerialPort port) {
+        return new SerialPortInfo(
+            port.getSystemPortName(),
+            port.getSystemPortPath(),
+            port.getDescriptivePortName(),
+            usbId(port.getVendorID()),
+            usbId(port.getProductID()),
+            port.getSerialNumber(),
+            port.getPortLocation());
+    }
+
+    /**
+     * 프린터 설정의 포트 이름(COM4, ttyUSB0, /dev/ttyUSB0)이 이 포트인지
+     */
+    public boolean matches(String portName) {
+        return portName.equalsIgnoreCase(systemName) || portName.equals(path);
+    }
+
+    private static String usbId(int id) {
+        return id < 0 ? null : String.format("%04X", id);
+    }
+}
@@ -0,0 +1,190 @@
+package com.pay.printer.printer.connection;
+
+import com.fazecast.jSerialComm.SerialPort;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : SerialPortInventory
+ * @date : 2026-10-17
+ * @description : 시리얼 포트 목록을 백그라운드에서 갱신해 두고 메모리에서 응답
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * SerialPort.getCommPorts() 는 장치를 매번 열거해서 USB-시리얼이 많으면 느리다.
+ * refresh-ms 마다 (Linux 는 /dev 에 장치가 생기거나 지워지면 바로) 다시 열거하고,
+ * 포트가 생기거나 사라지면 {@link PrinterPortEvent} 를 발행한다.
+ */
+@Slf4j
+@Component
+public class SerialPortInventory {
+
+    // 장치 파일이 생긴 뒤 udev 가 권한/링크를 만들 때까지 기다린다
+    private static final long HOTPLUG_SETTLE_MILLIS = 200;
+
+    private final ApplicationEventPublisher publisher;
+    private final Supplier<List<SerialPortInfo>> scanner;
+
+    // 주기적으로 다시 열거하는 간격
+    @Value("${printer.ports.refresh-ms:2000}")
+    private long refreshMillis;
+
+    private volatile List<SerialPortInfo> ports = List.of();
+    private volatile Instant refreshedAt;
+    private volatile boolean running;
+    private Thread watcher;
+    private WatchService deviceWatch;
+
+    @Autowired
+    public SerialPortInventory(ApplicationEventPublisher publisher) {
+        this(publisher, SerialPortInventory::scan);
+    }
+
+    SerialPortInventory(ApplicationEventPublisher publisher, Supplier<List<SerialPortInfo>> scanner) {
+        this.publisher = publisher;
+        this.scanner = scanner;
+    }
+
+    @PostConstruct
+    public void start() {
+        refresh();
+        running = true;
+        deviceWatch = openDeviceWatch();
+        watcher = new Thread(this::watch, "printer-port-watch");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("시리얼 포트 {}개: {}", ports.size(), ports.stream()
+            .map(SerialPortInfo::getSystemName).collect(Collectors.joining(", ")));
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+        if (deviceWatch != null) {
+            deviceWatch.close();
+        }
+    }
+
+    /**
+     * 마지막으로 열거한 포트 목록 (장치를 다시 열거하지 않는다)
+     */
+    public List<SerialPortInfo> getPorts() {
+        return ports;
+    }
+
+    public Optional<SerialPortInfo> find(String portName) {
+        return ports.stream().filter(port -> port.matches(portName)).findFirst();
+    }
+
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * 다시 열거해서 생기거나 사라진 포트를 알린다
+     */
+    synchronized void refresh() {
+        boolean initial = refreshedAt == null;
+        Map<String, SerialPortInfo> previous = byName(ports);
+        Map<String, SerialPortInfo> current = byName(scanner.get());
+        ports = List.copyOf(current.values());
+        refreshedAt = Instant.now();
+        if (initial) {
+            return;
+        }
+        // 같은 이름이라도 다른 장치로 바뀌었으면 (일련번호/위치가 다르면) 분리 후 연결로 본다
+        previous.forEach((name, port) -> {
+            if (!port.equals(current.get(name))) {
+                log.info("시리얼 포트 분리: {} ({})", name, port.getDescription());
+                publisher.publishEvent(new PrinterPortEvent(port, false));
+            }
+        });
+        current.forEach((name, port) -> {
+            if (!port.equals(previous.get(name))) {
+                log.info("시리얼 포트 연결: {} ({})", name, port.getDescription());
+                publisher.publishEvent(new PrinterPortEvent(port, true));
+            }
+        });
+    }
+
+    private void watch() {
+        while (running) {
+            try {
+                if (deviceWatch == null) {
+                    Thread.sleep(refreshMillis);
+                } else {
+                    WatchKey key = deviceWatch.poll(refreshMillis, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        key.pollEvents();
+                        key.reset();
+                        Thread.sleep(HOTPLUG_SETTLE_MILLIS);
+                    }
+                }
+                refresh();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("시리얼 포트 목록 갱신 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Linux 는 /dev 의 장치 파일 생성/삭제로 USB 연결/분리를 바로 알 수 있다 (그 외는 주기 갱신만)
+    private static WatchService openDeviceWatch() {
+        Path devices = Paths.get("/dev");
+        if (!Files.isDirectory(devices)) {
+            return null;
+        }
+        try {
+            WatchService watch = FileSystems.getDefault().newWatchService();
+            devices.register(watch, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+            return watch;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("/dev 감시를 쓸 수 없어 주기 갱신만 합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, SerialPortInfo> byName(List<SerialPortInfo> ports) {
+        Map<String, SerialPortInfo> byName = new LinkedHashMap<>();
+        for (SerialPortInfo port : ports) {
+            byName.put(port.getSystemName(), port);
+        }
+        return byName;
+    }
+
+    private static List<SerialPortInfo> scan() {
+        return Arrays.stream(SerialPort.getCommPorts())
+            .map(SerialPortInfo::from)
+            .collect(Collectors.toList());
+    }
+}
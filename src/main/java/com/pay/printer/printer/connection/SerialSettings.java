@@ -0,0 +1,73 @@
+package com.pay.printer.printer.connection;
+
+import com.fazecast.jSerialComm.SerialPort;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : SerialSettings
+ * @date : 2026-10-17
+ * @description : 시리얼 포트 통신 설정 (같은 설정이면 열린 포트를 그대로 재사용)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Value
+@Builder
+public class SerialSettings {
+
+    @Builder.Default
+    int baudRate = 115200;
+
+    @Builder.Default
+    int dataBits = 8;
+
+    @Builder.Default
+    int stopBits = SerialPort.ONE_STOP_BIT;
+
+    @Builder.Default
+    int parity = SerialPort.NO_PARITY;
+
+    @Builder.Default
+    int flowControl = SerialPort.FLOW_CONTROL_DISABLED;
+
+    @Builder.Default
+    int timeoutMode = SerialPort.TIMEOUT_WRITE_BLOCKING;
+
+    @Builder.Default
+    int readTimeout = 0;
+
+    @Builder.Default
+    int writeTimeout = 1000;
+
+    /**
+     * 포트에 설정 적용 (열린 포트에 호출하면 재설정된다)
+     */
+    void applyTo(SerialPort serialPort) {
+        serialPort.setComPortParameters(baudRate, dataBits, stopBits, parity);
+        serialPort.setFlowControl(flowControl);
+        serialPort.setComPortTimeouts(timeoutMode, readTimeout, writeTimeout);
+    }
+
+    /**
+     * 바이트 하나를 보내는 데 필요한 비트 수 (시작 비트 + 데이터 + 패리티 + 정지 비트)
+     */
+    public double bitsPerByte() {
+        double stop = stopBits == SerialPort.TWO_STOP_BITS ? 2
+            : stopBits == SerialPort.ONE_POINT_FIVE_STOP_BITS ? 1.5 : 1;
+        return 1 + dataBits + (parity == SerialPort.NO_PARITY ? 0 : 1) + stop;
+    }
+
+    /**
+     * bytes 바이트가 선로를 지나가는 시간 (나노초)
+     */
+    public long wireNanos(int bytes) {
+        return (long) (bytes * bitsPerByte() * 1_000_000_000L / baudRate);
+    }
+
+    public boolean isFlowControlled() {
+        return flowControl != SerialPort.FLOW_CONTROL_DISABLED;
+    }
+}
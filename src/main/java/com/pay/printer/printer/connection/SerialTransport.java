@@ -0,0 +1,89 @@
+package com.pay.printer.printer.connection;
+
+import com.fazecast.jSerialComm.SerialPort;
+import com.fazecast.jSerialComm.SerialPortDataListener;
+import com.fazecast.jSerialComm.SerialPortEvent;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : SerialTransport
+ * @date : 2026-10-17
+ * @description : jSerialComm 시리얼 포트 연결
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+public class SerialTransport implements PrinterTransport {
+
+    private final String portName;
+    private final SerialPort serialPort;
+    private volatile boolean disconnected;
+
+    private SerialTransport(String portName, SerialPort serialPort) {
+        this.portName = portName;
+        this.serialPort = serialPort;
+    }
+
+    /**
+     * @throws PrinterConnectionException 포트를 열 수 없는 경우
+     */
+    public static SerialTransport open(String portName, SerialSettings settings) {
+        SerialPort port = SerialPort.getCommPort(portName);
+        settings.applyTo(port);
+        if (!port.openPort()) {
+            throw new PrinterConnectionException("포트를 열 수 없습니다: " + portName);
+        }
+        SerialTransport transport = new SerialTransport(portName, port);
+        port.addDataListener(new SerialPortDataListener() {
+            @Override
+            public int getListeningEvents() {
+                return SerialPort.LISTENING_EVENT_PORT_DISCONNECTED;
+            }
+
+            @Override
+            public void serialEvent(SerialPortEvent event) {
+                log.warn("포트 연결이 끊어졌습니다: {}", portName);
+                transport.disconnected = true;
+            }
+        });
+        return transport;
+    }
+
+    @Override
+    public String getName() {
+        return portName;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return serialPort.isOpen() && !disconnected;
+    }
+
+    @Override
+    public void configure(SerialSettings settings) {
+        settings.applyTo(serialPort);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return serialPort.getInputStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return serialPort.getOutputStream();
+    }
+
+    @Override
+    public void close() {
+        serialPort.removeDataListener();
+        if (serialPort.isOpen()) {
+            serialPort.closePort();
+        }
+    }
+}
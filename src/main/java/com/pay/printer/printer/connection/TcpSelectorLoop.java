@@ -0,0 +1,116 @@
+package com.pay.printer.printer.connection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : TcpSelectorLoop
+ * @date : 2026-10-17
+ * @description : 네트워크 프린터 연결 전부를 스레드 하나로 읽고 쓰는 셀렉터
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 채널 등록과 관심 이벤트 변경은 셀렉터 스레드에서만 한다 (execute 로 넘긴다).
+ * 네트워크 프린터가 없으면 스레드를 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class TcpSelectorLoop {
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private Selector selector;
+    private Thread thread;
+    private volatile boolean running;
+
+    /**
+     * 채널을 셀렉터에 등록한다 (이벤트는 handler.handle 로 셀렉터 스레드에서 온다)
+     */
+    void register(SocketChannel channel, int ops, TcpTransport handler) {
+        execute(() -> {
+            try {
+                channel.register(selector, ops, handler);
+            } catch (ClosedChannelException e) {
+                handler.fail(e);
+            }
+        });
+    }
+
+    /**
+     * 셀렉터 스레드에서 실행한다
+     */
+    void execute(Runnable task) {
+        ensureStarted();
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    private synchronized void ensureStarted() {
+        if (running) {
+            return;
+        }
+        try {
+            selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("셀렉터를 열 수 없습니다.", e);
+        }
+        running = true;
+        thread = new Thread(this::run, "printer-tcp-selector");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("네트워크 프린터 셀렉터 시작");
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select();
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    ((TcpTransport) key.attachment()).handle(key);
+                }
+            } catch (IOException e) {
+                log.error("셀렉터 오류", e);
+            } catch (RuntimeException e) {
+                // 연결 하나의 오류로 다른 프린터 전송이 멈추지 않도록
+                log.error("네트워크 프린터 이벤트 처리 오류", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+}
@@ -0,0 +1,478 @@
+package com.pay.printer.printer.connection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : TcpTransport
+ * @date : 2026-10-17
+ * @description : 네트워크 프린터 raw TCP 연결 (포트 이름 tcp:호스트[:포트], 기본 9100)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 작업 스레드는 다이렉트 버퍼에 복사해서 쓰기 대기열에 넣기만 하고, 실제 전송은 TcpSelectorLoop 스레드가
+ * 대기열의 버퍼들을 한 번에 (gathering write) 보낸다. 쌓인 양이 HIGH_WATER_MARK 를 넘거나 flush 하면
+ * 작업 스레드가 전송이 끝나기를 기다린다 (프린터가 느리면 TCP 창이 닫혀서 여기서 속도가 맞춰진다).
+ * 프린터가 보낸 바이트는 아무도 읽지 않아도 MAX_INBOUND 까지만 쌓고 넘치면 오래된 것부터 버린다.
+ */
+@Slf4j
+public class TcpTransport implements PrinterTransport {
+
+    public static final String PREFIX = "tcp:";
+    public static final int DEFAULT_PORT = 9100;
+
+    // 버퍼 하나 크기와 한 번에 보낼 최대 버퍼 수
+    private static final int CHUNK_SIZE = 8192;
+    private static final int MAX_GATHER = 16;
+    private static final int HIGH_WATER_MARK = 64 * 1024;
+    private static final int CONNECT_TIMEOUT_MILLIS = 3000;
+    // 읽지 않은 수신 바이트 최대 보관량 (상태 응답은 몇 바이트라 최근 것만 있으면 된다)
+    static final int MAX_INBOUND = 64 * 1024;
+
+    private final String name;
+    private final SocketChannel channel;
+    private final TcpSelectorLoop loop;
+    private volatile SerialSettings settings;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // 아래는 lock 으로 보호
+    private final Deque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private final Deque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+    private long pendingBytes;
+    private byte[] inbound = new byte[1024];
+    private int inboundStart;
+    private int inboundEnd;
+    private boolean connected;
+    private boolean endOfStream;
+    private IOException failure;
+
+    // 셀렉터 스레드 전용
+    private SelectionKey key;
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(4096);
+    private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+    private final Runnable writeTask = () -> {
+        if (key != null && key.isValid()) {
+            try {
+                write();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    };
+
+    // 작업 스레드 전용 (채우는 중인 버퍼)
+    private ByteBuffer current;
+    private volatile boolean closed;
+
+    private final InputStream in = new InputStream() {
+        @Override
+        public int available() {
+            lock.lock();
+            try {
+                return inboundEnd - inboundStart;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        // 한 바이트라도 오면 그만큼 돌려준다
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            lock.lock();
+            try {
+                long timeout = settings.getReadTimeout();
+                long remaining = timeout > 0 ? TimeUnit.MILLISECONDS.toNanos(timeout) : Long.MAX_VALUE;
+                while (inboundEnd == inboundStart) {
+                    if (endOfStream || closed) {
+                        return -1;
+                    }
+                    throwIfFailed();
+                    if (remaining <= 0) {
+                        throw new SocketTimeoutException("프린터 응답 대기 시간 초과: " + name);
+                    }
+                    remaining = changed.awaitNanos(remaining);
+                }
+                int n = Math.min(len, inboundEnd - inboundStart);
+                System.arraycopy(inbound, inboundStart, b, off, n);
+                inboundStart += n;
+                return n;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("프린터 응답 대기 중단: " + name);
+            } finally {
+                lock.unlock();
+            }
+        }
+    };
+
+    private final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (current == null) {
+                    current = takeBuffer();
+                }
+                int n = Math.min(len, current.remaining());
+                current.put(b, off, n);
+                off += n;
+                len -= n;
+                if (!current.hasRemaining()) {
+                    enqueue();
+                }
+            }
+            awaitPending(HIGH_WATER_MARK);
+        }
+
+        // 프린터 쪽 소켓 버퍼까지 다 넘어가면 돌아온다
+        @Override
+        public void flush() throws IOException {
+            if (current != null && current.position() > 0) {
+                enqueue();
+            }
+            awaitPending(0);
+        }
+    };
+
+    private TcpTransport(String name, SocketChannel channel, TcpSelectorLoop loop, SerialSettings settings) {
+        this.name = name;
+        this.channel = channel;
+        this.loop = loop;
+        this.settings = settings;
+    }
+
+    /**
+     * @throws PrinterConnectionException 연결할 수 없는 경우
+     */
+    public static TcpTransport open(String portName, SerialSettings settings, TcpSelectorLoop loop) {
+        InetSocketAddress address = parseAddress(portName);
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+            TcpTransport transport = new TcpTransport(portName, channel, loop, settings);
+            channel.connect(address);
+            loop.register(channel, SelectionKey.OP_CONNECT, transport);
+            transport.awaitConnected();
+            return transport;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new PrinterConnectionException("네트워크 프린터에 연결할 수 없습니다: " + address + " (" + e.getMessage() + ")", e);
+        }
+    }
+
+    static InetSocketAddress parseAddress(String portName) {
+        String target = portName.substring(PREFIX.length());
+        int colon = target.lastIndexOf(':');
+        try {
+            if (colon < 0) {
+                return new InetSocketAddress(target, DEFAULT_PORT);
+            }
+            return new InetSocketAddress(target.substring(0, colon), Integer.parseInt(target.substring(colon + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new PrinterConnectionException("네트워크 프린터 주소 오류: " + portName, e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isOpen() {
+        lock.lock();
+        try {
+            return !closed && connected && !endOfStream && failure == null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 네트워크 프린터는 속도 설정이 없다 (시간 제한만 바뀐다)
+     */
+    @Override
+    public void configure(SerialSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        loop.execute(() -> {
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+        });
+    }
+
+    // ---- 셀렉터 스레드 ----
+
+    void handle(SelectionKey key) {
+        this.key = key;
+        try {
+            if (key.isConnectable()) {
+                channel.finishConnect();
+                lock.lock();
+                try {
+                    connected = true;
+                    changed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                updateInterest();
+            }
+            if (key.isValid() && key.isReadable()) {
+                read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                write();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    void fail(IOException e) {
+        log.warn("네트워크 프린터 연결 오류: {} ({})", name, e.getMessage());
+        lock.lock();
+        try {
+            failure = e;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        closeQuietly(channel);
+    }
+
+    private void read() throws IOException {
+        readBuffer.clear();
+        int n = channel.read(readBuffer);
+        lock.lock();
+        try {
+            if (n < 0) {
+                endOfStream = true;
+                key.cancel();
+            } else if (n > 0) {
+                readBuffer.flip();
+                dropOldestInbound(n);
+                ensureInboundCapacity(n);
+                readBuffer.get(inbound, inboundEnd, n);
+                inboundEnd += n;
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대기열의 버퍼를 한 번에 보내고, 다 보낸 버퍼는 재사용 목록으로 돌린다
+    private void write() throws IOException {
+        int count;
+        lock.lock();
+        try {
+            count = 0;
+            for (ByteBuffer buffer : writeQueue) {
+                if (count == MAX_GATHER) {
+                    break;
+                }
+                gather[count++] = buffer;
+            }
+        } finally {
+            lock.unlock();
+        }
+        long written = count == 0 ? 0 : channel.write(gather, 0, count);
+        lock.lock();
+        try {
+            pendingBytes -= written;
+            while (!writeQueue.isEmpty() && !writeQueue.peekFirst().hasRemaining()) {
+                ByteBuffer done = writeQueue.pollFirst();
+                done.clear();
+                freeBuffers.addLast(done);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        Arrays.fill(gather, 0, count, null);
+        updateInterest();
+    }
+
+    private void updateInterest() {
+        if (!key.isValid()) {
+            return;
+        }
+        boolean hasPending;
+        lock.lock();
+        try {
+            hasPending = !writeQueue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+        key.interestOps(SelectionKey.OP_READ | (hasPending ? SelectionKey.OP_WRITE : 0));
+    }
+
+    // ---- 작업 스레드 ----
+
+    private ByteBuffer takeBuffer() {
+        lock.lock();
+        try {
+            ByteBuffer free = freeBuffers.pollFirst();
+            return free != null ? free : ByteBuffer.allocateDirect(CHUNK_SIZE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue() throws IOException {
+        ByteBuffer buffer = current;
+        current = null;
+        buffer.flip();
+        lock.lock();
+        try {
+            throwIfFailed();
+            writeQueue.addLast(buffer);
+            pendingBytes += buffer.remaining();
+        } finally {
+            lock.unlock();
+        }
+        loop.execute(writeTask);
+    }
+
+    private void awaitPending(long limit) throws IOException {
+        lock.lock();
+        try {
+            long timeout = settings.getWriteTimeout();
+            long remaining = timeout > 0 ? TimeUnit.MILLISECONDS.toNanos(timeout) : Long.MAX_VALUE;
+            while (pendingBytes > limit) {
+                throwIfFailed();
+                if (closed) {
+                    throw new IOException("닫힌 연결입니다: " + name);
+                }
+                if (remaining <= 0) {
+                    throw new SocketTimeoutException("네트워크 프린터 전송 시간 초과: " + name
+                        + " (남은 " + pendingBytes + " bytes)");
+                }
+                remaining = changed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("네트워크 프린터 전송 중단: " + name);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitConnected() throws IOException {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(CONNECT_TIMEOUT_MILLIS);
+            while (!connected) {
+                throwIfFailed();
+                if (remaining <= 0) {
+                    throw new SocketTimeoutException("연결 시간 초과");
+                }
+                remaining = changed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("연결 대기 중단");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failure != null) {
+            throw new IOException("네트워크 프린터 연결 오류: " + name + " (" + failure.getMessage() + ")", failure);
+        }
+    }
+
+    // 새로 받을 n 바이트가 들어가도록 읽지 않은 앞부분을 버린다 (WireTrace 처럼 최근 바이트만 남긴다)
+    private void dropOldestInbound(int n) {
+        int excess = inboundEnd - inboundStart + n - MAX_INBOUND;
+        if (excess > 0) {
+            inboundStart += excess;
+            log.debug("네트워크 프린터 {} 읽지 않은 수신 {} bytes 버림", name, excess);
+        }
+    }
+
+    private void ensureInboundCapacity(int n) {
+        if (inboundEnd + n <= inbound.length) {
+            return;
+        }
+        int size = inboundEnd - inboundStart;
+        byte[] target = size + n > inbound.length ? new byte[Math.min(MAX_INBOUND, Math.max(inbound.length * 2, size + n))] : inbound;
+        System.arraycopy(inbound, inboundStart, target, 0, size);
+        inbound = target;
+        inboundStart = 0;
+        inboundEnd = size;
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("소켓 닫기 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.pay.printer.printer.connection;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : TracingTransport
+ * @date : 2026-10-17
+ * @description : 연결로 보내고 받은 바이트를 WireTrace 에 복사한다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class TracingTransport implements PrinterTransport {
+
+    private final PrinterTransport delegate;
+    private final WireTrace trace;
+
+    // 포트 구현이 스트림을 새로 만들어 돌려주는 경우에만 다시 감싼다
+    private InputStream source;
+    private InputStream in;
+    private OutputStream sink;
+    private OutputStream out;
+
+    TracingTransport(PrinterTransport delegate, WireTrace trace) {
+        this.delegate = delegate;
+        this.trace = trace;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public void configure(SerialSettings settings) throws IOException {
+        delegate.configure(settings);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        InputStream current = delegate.getInputStream();
+        if (current != source) {
+            source = current;
+            in = new TracingInputStream(current, trace);
+        }
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        OutputStream current = delegate.getOutputStream();
+        if (current != sink) {
+            sink = current;
+            out = new TracingOutputStream(current, trace);
+        }
+        return out;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static final class TracingInputStream extends FilterInputStream {
+
+        private final WireTrace trace;
+
+        private TracingInputStream(InputStream in, WireTrace trace) {
+            super(in);
+            this.trace = trace;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                trace.record(true, b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            trace.record(true, b, off, read);
+            return read;
+        }
+    }
+
+    private static final class TracingOutputStream extends FilterOutputStream {
+
+        private final WireTrace trace;
+
+        private TracingOutputStream(OutputStream out, WireTrace trace) {
+            super(out);
+            this.trace = trace;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            trace.record(false, b);
+        }
+
+        // FilterOutputStream 기본 구현은 한 바이트씩 쓰므로 그대로 넘긴다
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            trace.record(false, b, off, len);
+        }
+    }
+}
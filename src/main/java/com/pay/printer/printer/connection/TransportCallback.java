@@ -0,0 +1,17 @@
+package com.pay.printer.printer.connection;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : TransportCallback
+ * @date : 2026-10-17
+ * @description : 커넥션 매니저가 빌려준 연결로 수행할 작업
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@FunctionalInterface
+public interface TransportCallback<T> {
+
+    T doWithTransport(PrinterTransport transport) throws Exception;
+}
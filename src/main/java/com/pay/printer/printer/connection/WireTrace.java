@@ -0,0 +1,123 @@
+package com.pay.printer.printer.connection;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : WireTrace
+ * @date : 2026-10-17
+ * @description : 포트 하나로 오간 바이트를 최근 것만 고정 크기 배열에 돌려 담는다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 바이트는 data 에, 쓰기/읽기 한 번마다 시각/방향/위치는 기본형 배열 슬롯에 남긴다.
+ * 기록할 때는 배열 복사만 하고 객체를 만들지 않는다 (16진수 변환은 꺼내 볼 때만).
+ */
+public class WireTrace {
+
+    private final byte[] data;
+    private final long[] eventStart;      // 전체 스트림에서의 위치
+    private final int[] eventLength;
+    private final long[] eventEpochNanos;
+    private final boolean[] eventReceived;
+
+    // 시각은 nanoTime 차이로 계산 (currentTimeMillis 는 ms 단위라 바이트 간격을 볼 수 없다)
+    private final long baseEpochNanos = System.currentTimeMillis() * 1_000_000L;
+    private final long baseNanos = System.nanoTime();
+
+    private long written;
+    private long events;
+
+    public WireTrace(int capacityBytes, int maxEvents) {
+        this.data = new byte[capacityBytes];
+        this.eventStart = new long[maxEvents];
+        this.eventLength = new int[maxEvents];
+        this.eventEpochNanos = new long[maxEvents];
+        this.eventReceived = new boolean[maxEvents];
+    }
+
+    public synchronized void record(boolean received, byte[] bytes, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        // 버퍼보다 길면 뒷부분만 남는다
+        int skip = Math.max(0, length - data.length);
+        int pos = (int) ((written + skip) % data.length);
+        int first = Math.min(length - skip, data.length - pos);
+        System.arraycopy(bytes, offset + skip, data, pos, first);
+        System.arraycopy(bytes, offset + skip + first, data, 0, length - skip - first);
+        addEvent(received, length);
+    }
+
+    public synchronized void record(boolean received, int b) {
+        data[(int) (written % data.length)] = (byte) b;
+        addEvent(received, 1);
+    }
+
+    public synchronized long getBytesTraced() {
+        return written;
+    }
+
+    /**
+     * 최근 maxBytes 안의 기록을 오래된 것부터 (버퍼에서 밀려난 앞부분은 잘린다)
+     */
+    public synchronized List<Record> snapshot(int maxBytes) {
+        long from = Math.max(written - data.length, written - Math.max(0, maxBytes));
+        List<Record> records = new ArrayList<>();
+        long oldest = Math.max(0, events - eventStart.length);
+        for (long e = events - 1; e >= oldest; e--) {
+            int slot = (int) (e % eventStart.length);
+            long end = eventStart[slot] + eventLength[slot];
+            if (end <= from) {
+                break;
+            }
+            long start = Math.max(eventStart[slot], from);
+            records.add(new Record(toInstant(eventEpochNanos[slot]), eventReceived[slot],
+                copy(start, (int) (end - start))));
+        }
+        Collections.reverse(records);
+        return records;
+    }
+
+    private void addEvent(boolean received, int length) {
+        int slot = (int) (events % eventStart.length);
+        eventStart[slot] = written;
+        eventLength[slot] = length;
+        eventEpochNanos[slot] = baseEpochNanos + (System.nanoTime() - baseNanos);
+        eventReceived[slot] = received;
+        events++;
+        written += length;
+    }
+
+    private byte[] copy(long start, int length) {
+        byte[] bytes = new byte[length];
+        int pos = (int) (start % data.length);
+        int first = Math.min(length, data.length - pos);
+        System.arraycopy(data, pos, bytes, 0, first);
+        System.arraycopy(data, 0, bytes, first, length - first);
+        return bytes;
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    /**
+     * 쓰기/읽기 한 번 (received 면 프린터에서 받은 바이트)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Record {
+
+        private final Instant time;
+        private final boolean received;
+        private final byte[] bytes;
+    }
+}
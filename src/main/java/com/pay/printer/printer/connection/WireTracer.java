@@ -0,0 +1,63 @@
+package com.pay.printer.printer.connection;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : WireTracer
+ * @date : 2026-10-17
+ * @description : 포트별 최근 송수신 바이트 기록 (/actuator/wiretrace/{printerId} 로 16진수 확인)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 전송할 때마다 16진수 문자열을 만들어 로그로 남기던 것을 대신한다.
+ * 기록은 배열 복사뿐이라 켜 두어도 되고, 문제가 생긴 뒤에 직전 송수신을 본다.
+ */
+@Component
+public class WireTracer {
+
+    private final boolean enabled;
+    private final int bufferBytes;
+    private final int maxEvents;
+    private final ConcurrentMap<String, WireTrace> traces = new ConcurrentHashMap<>();
+
+    public WireTracer(@Value("${printer.trace.enabled:true}") boolean enabled,
+                      @Value("${printer.trace.buffer-bytes:65536}") int bufferBytes,
+                      @Value("${printer.trace.max-events:4096}") int maxEvents) {
+        this.enabled = enabled && bufferBytes > 0 && maxEvents > 0;
+        this.bufferBytes = bufferBytes;
+        this.maxEvents = maxEvents;
+    }
+
+    /**
+     * 기록하지 않는 tracer (테스트, 벤치마크용)
+     */
+    public static WireTracer disabled() {
+        return new WireTracer(false, 0, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 연결의 입출력 스트림이 trace 를 거치도록 감싼다 (꺼져 있으면 그대로)
+     */
+    public PrinterTransport wrap(String portName, PrinterTransport transport) {
+        if (!enabled) {
+            return transport;
+        }
+        return new TracingTransport(transport,
+            traces.computeIfAbsent(portName, name -> new WireTrace(bufferBytes, maxEvents)));
+    }
+
+    public Optional<WireTrace> find(String portName) {
+        return Optional.ofNullable(traces.get(portName));
+    }
+}
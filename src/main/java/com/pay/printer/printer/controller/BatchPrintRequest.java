@@ -0,0 +1,27 @@
+package com.pay.printer.printer.controller;
+
+import com.pay.printer.printer.job.PrintPriority;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+// 묶음 인쇄 요청 (한 프린터에 여러 장을 이어서)
+@Data
+public class BatchPrintRequest {
+    private String printerId;  // 없으면 라우팅 방식에 따라 선택
+    private List<Item> items;
+    private PrintPriority priority = PrintPriority.NORMAL;  // URGENT (영수증, 주문서) | NORMAL | BULK (보고서)
+
+    // null 이면 NORMAL (PrintRequest 와 같다)
+    public void setPriority(PrintPriority priority) {
+        this.priority = priority == null ? PrintPriority.NORMAL : priority;
+    }
+
+    // 한 장 - text 또는 template + values
+    @Data
+    public static class Item {
+        private String text;
+        private String template;
+        private Map<String, Object> values;
+    }
+}
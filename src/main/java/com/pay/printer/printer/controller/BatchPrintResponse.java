@@ -0,0 +1,13 @@
+package com.pay.printer.printer.controller;
+
+import java.util.List;
+import lombok.Data;
+
+// 묶음 인쇄 접수 응답 (요청 순서대로 장마다 작업 ID 또는 거절 사유)
+@Data
+public class BatchPrintResponse {
+    private String printerId;
+    private int accepted;
+    private int rejected;
+    private List<PrintJobResponse> jobs;
+}
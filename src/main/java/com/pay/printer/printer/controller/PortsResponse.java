@@ -0,0 +1,39 @@
+package com.pay.printer.printer.controller;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Data;
+
+// 포트 목록 + 설정된 프린터별 부하
+@Data
+public class PortsResponse {
+    private String[] availablePorts;
+    private List<PortInfo> ports;
+    private Instant refreshedAt;  // 포트 목록을 마지막으로 열거한 시각
+    private List<PrinterInfo> printers;
+
+    @Data
+    public static class PortInfo {
+        private String name;
+        private String path;
+        private String description;
+        private String vendorId;
+        private String productId;
+        private String serialNumber;
+        private String location;
+        private String printerId;  // 이 포트를 쓰는 프린터 (설정에 없으면 null)
+        private boolean open;      // 이 서버가 열어 둔 포트
+    }
+
+    @Data
+    public static class PrinterInfo {
+        private String id;
+        private String port;
+        private int baudRate;
+        private String protocol;
+        private boolean open;
+        private boolean present;  // 시리얼 포트면 시스템에 장치가 있는지 (그 외 연결은 항상 true)
+        private int queueDepth;
+        private String health;  // HEALTHY | DEGRADED | DOWN
+    }
+}
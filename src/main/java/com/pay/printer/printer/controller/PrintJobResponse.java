@@ -0,0 +1,39 @@
+package com.pay.printer.printer.controller;
+
+import com.pay.printer.printer.job.PrintJob;
+import java.time.Instant;
+import lombok.Data;
+
+// 인쇄 작업 접수/조회 응답
+@Data
+public class PrintJobResponse {
+    private String jobId;
+    private String status;
+    private String printerId;
+    private String priority;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String message;
+    private boolean duplicate;  // Idempotency-Key 재시도로 찾은 기존 작업
+
+    public static PrintJobResponse from(PrintJob job) {
+        PrintJobResponse response = new PrintJobResponse();
+        response.setJobId(job.getId());
+        response.setStatus(job.getStatus().name());
+        response.setPrinterId(job.getPrinterId());
+        response.setPriority(job.getPriority().name());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        response.setMessage(job.getErrorMessage());
+        return response;
+    }
+
+    public static PrintJobResponse rejected(String message) {
+        PrintJobResponse response = new PrintJobResponse();
+        response.setStatus("REJECTED");
+        response.setMessage(message);
+        return response;
+    }
+}
@@ -1,9 +1,54 @@
 package com.pay.printer.printer.controller;
 
+import com.pay.printer.printer.escpos.BarcodeType;
+import com.pay.printer.printer.escpos.HriPosition;
+import com.pay.printer.printer.escpos.QrErrorCorrection;
+import com.pay.printer.printer.escpos.TextAlign;
+import com.pay.printer.printer.job.PrintPriority;
+import java.util.List;
 import lombok.Data;
 
 // DTO 클래스
 @Data  // lombok 사용
 public class PrintRequest {
     private String text;
+    private String printerId;  // 없으면 라우팅 방식에 따라 선택
+    private List<Line> lines;  // text 대신 서버에서 칸을 맞춰 인쇄 (한글 2칸)
+    private Integer columns;   // 한 줄 칸 수 (없으면 프린터 설정 line-columns)
+    private PrintPriority priority = PrintPriority.NORMAL;  // URGENT (영수증, 주문서) | NORMAL | BULK (보고서)
+
+    // "priority": null 도 NORMAL 로 (null 이 대기열까지 가면 작업 스레드에서 실패하고 요청은 모른다)
+    public void setPriority(PrintPriority priority) {
+        this.priority = priority == null ? PrintPriority.NORMAL : priority;
+    }
+
+    // text, cells, rule, symbol 중 하나
+    @Data
+    public static class Line {
+        private String text;                   // 한 줄 전체 (넘치면 단어 단위 줄바꿈)
+        private TextAlign align = TextAlign.LEFT;
+        private List<Cell> cells;              // 여러 칸 (칸 사이 공백 1칸)
+        private String rule;                   // 가로줄 글자 ("-", "=")
+        private Symbol symbol;                 // QR/바코드 (align 에 맞춰 정렬)
+    }
+
+    // 프린터가 직접 그리는 QR/바코드 (이미지 대신 명령으로 보낸다)
+    @Data
+    public static class Symbol {
+        private String data;
+        private BarcodeType type;              // 없으면 QR
+        private int size = 6;                  // QR 모듈 크기 1~16 (dot)
+        private QrErrorCorrection errorCorrection = QrErrorCorrection.M;
+        private int height = 80;               // 바코드 높이 (dot)
+        private int moduleWidth = 2;           // 바코드 막대 폭 2~6 (dot)
+        private HriPosition hri = HriPosition.BELOW;  // 바코드 아래 숫자
+    }
+
+    @Data
+    public static class Cell {
+        private String text;
+        private int width;                     // 0 이면 남은 칸
+        private TextAlign align = TextAlign.LEFT;
+        private boolean wrap = true;           // false 면 넘치는 부분을 자른다
+    }
 }
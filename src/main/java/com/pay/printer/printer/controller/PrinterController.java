@@ -1,15 +1,72 @@
 package com.pay.printer.printer.controller;
 
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.connection.PrinterConnectionException;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.PrinterTransportFactory;
+import com.pay.printer.printer.connection.SerialPortInfo;
+import com.pay.printer.printer.connection.SerialPortInventory;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.LayoutColumn;
+import com.pay.printer.printer.escpos.PrinterNotReadyException;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.escpos.ReceiptLayout;
+import com.pay.printer.printer.escpos.SymbolEncoder;
+import com.pay.printer.printer.escpos.TextAlign;
+import com.pay.printer.printer.image.Dithering;
+import com.pay.printer.printer.image.ImageException;
+import com.pay.printer.printer.image.ImageMode;
+import com.pay.printer.printer.image.ImageService;
+import com.pay.printer.printer.image.Logo;
+import com.pay.printer.printer.image.LogoRepository;
+import com.pay.printer.printer.image.RasterCommands;
+import com.pay.printer.printer.image.RasterImage;
+import com.pay.printer.printer.job.IdempotencyCache;
+import com.pay.printer.printer.job.PrintJob;
+import com.pay.printer.printer.job.PrintJobQueue;
+import com.pay.printer.printer.job.PrintPriority;
+import com.pay.printer.printer.job.PrintQueueFullException;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.service.LinkSpeedProbe;
+import com.pay.printer.printer.service.PrinterRouter;
 import com.pay.printer.printer.service.PrinterService;
 import com.pay.printer.printer.service.PrinterService2;
 import com.pay.printer.printer.service.PrinterService3;
-import lombok.Data;
+import com.pay.printer.printer.service.PrinterUnavailableException;
+import com.pay.printer.printer.service.UnknownPrinterException;
+import com.pay.printer.printer.template.ReceiptTemplate;
+import com.pay.printer.printer.template.TemplateException;
+import com.pay.printer.printer.template.TemplateRepository;
+import com.pay.printer.printer.virtual.VirtualPrinter;
+import com.pay.printer.printer.virtual.VirtualPrinterStats;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -27,25 +84,429 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = "*")  // CORS 설정 추가
 public class PrinterController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final PrinterService printerService;
     private final PrinterService2 printerService2;
     private final PrinterService3 printerService3;
+    private final PrintJobQueue printJobQueue;
+    private final PrinterRouter printerRouter;
+    private final PrinterConnectionManager connectionManager;
+    private final TemplateRepository templateRepository;
+    private final ImageService imageService;
+    private final LogoRepository logoRepository;
+    private final PrinterTransportFactory transportFactory;
+    private final LinkSpeedProbe linkSpeedProbe;
+    private final IdempotencyCache idempotencyCache;
+    private final SerialPortInventory portInventory;
+    private final PrinterMetrics metrics;
+    private final SymbolEncoder symbolEncoder;
+
+    // 묶음 인쇄 한 번에 받을 최대 장 수
+    @Value("${printer.queue.max-batch-size:100}")
+    private int maxBatchSize;
 
+    // 대기열에 넣고 작업 ID를 바로 돌려준다 (전송은 프린터 전용 스레드가 처리)
+    // Idempotency-Key 가 같은 재시도는 다시 인쇄하지 않고 처음 작업을 돌려준다 (200)
     @PostMapping("/print")
-    public String print(@RequestBody PrintRequest request) {
+    public ResponseEntity<PrintJobResponse> print(@RequestBody PrintRequest request,
+                                                  @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        try {
+            // 재시도는 라우팅 전에 찾는다 (처음 보낸 프린터가 그 뒤 DOWN 이어도 처음 작업 상태를 돌려준다)
+            return accepted(idempotencyCache.submit("text", idempotencyKey,
+                () -> request.getPrinterId() + "|" + request.getText() + "|" + request.getLines(),
+                () -> {
+                    PrinterDevice device = printerRouter.route(request.getPrinterId());
+                    ReceiptContent content = request.getLines() == null
+                        ? ReceiptContent.text(request.getText())
+                        : toLayout(request.getLines(),
+                            request.getColumns() == null ? device.getLineColumns() : request.getColumns());
+                    return printJobQueue.submit(device, content, request.getPriority());
+                }));
+        } catch (UnknownPrinterException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(PrintJobResponse.rejected(e.getMessage()));
+        } catch (PrintQueueFullException | PrinterUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(PrintJobResponse.rejected(e.getMessage()));
+        }
+    }
+
+    // 등록된 템플릿에 값만 채워서 인쇄 (고정 레이아웃은 미리 인코딩되어 있다)
+    @PostMapping("/print/template")
+    public ResponseEntity<PrintJobResponse> printTemplate(@RequestBody TemplatePrintRequest request,
+                                                          @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        try {
+            Map<String, Object> values = request.getValues() == null ? Map.of() : request.getValues();
+            return accepted(idempotencyCache.submit("template", idempotencyKey,
+                () -> request.getPrinterId() + "|" + request.getTemplate() + "|" + values,
+                () -> {
+                    ReceiptContent content = templateRepository.get(request.getTemplate()).bind(values);
+                    PrinterDevice device = printerRouter.route(request.getPrinterId());
+                    return printJobQueue.submit(device, content, request.getPriority());
+                }));
+        } catch (UnknownPrinterException | TemplateException e) {
+            return ResponseEntity.badRequest().body(PrintJobResponse.rejected(e.getMessage()));
+        } catch (PrintQueueFullException | PrinterUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(PrintJobResponse.rejected(e.getMessage()));
+        }
+    }
+
+    // 여러 장을 한 번에 접수해서 포트를 한 번만 빌려 이어서 인쇄 (초기화 한 번, 장마다 커팅)
+    // 장마다 작업 ID 가 나오므로 /jobs/{jobId} 로 각각 성공/실패를 확인한다
+    // Idempotency-Key 가 같은 재시도는 처음 접수한 작업들의 현재 상태를 돌려준다 (200)
+    @PostMapping("/print/batch")
+    public ResponseEntity<BatchPrintResponse> printBatch(@RequestBody BatchPrintRequest request,
+                                                         @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        BatchPrintResponse response = new BatchPrintResponse();
+        List<BatchPrintRequest.Item> items = request.getItems() == null ? List.of() : request.getItems();
+        if (items.isEmpty() || items.size() > maxBatchSize) {
+            response.setJobs(List.of(PrintJobResponse.rejected("한 번에 1~" + maxBatchSize + "장까지 인쇄할 수 있습니다.")));
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        // 잘못된 장은 빼고 나머지만 보낸다
+        PrintJobResponse[] results = new PrintJobResponse[items.size()];
+        List<ReceiptContent> contents = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                contents.add(toContent(items.get(i)));
+                positions.add(i);
+            } catch (TemplateException e) {
+                results[i] = PrintJobResponse.rejected(e.getMessage());
+            }
+        }
+        response.setAccepted(contents.size());
+        response.setRejected(items.size() - contents.size());
+        if (contents.isEmpty()) {
+            response.setJobs(Arrays.asList(results));
+            return ResponseEntity.badRequest().body(response);
+        }
+        try {
+            IdempotencyCache.Result<BatchPrintResponse> result = idempotencyCache.submit("batch", idempotencyKey,
+                () -> request.getPrinterId() + "|" + items,
+                () -> {
+                    PrinterDevice device = printerRouter.route(request.getPrinterId());
+                    List<PrintJob> jobs = printJobQueue.submitBatch(device, contents, request.getPriority());
+                    for (int i = 0; i < jobs.size(); i++) {
+                        results[positions.get(i)] = PrintJobResponse.from(jobs.get(i));
+                    }
+                    response.setPrinterId(device.getId());
+                    response.setJobs(Arrays.asList(results));
+                    return response;
+                });
+            if (result.isDuplicate()) {
+                return ResponseEntity.ok(refresh(result.getValue()));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(result.getValue());
+        } catch (UnknownPrinterException e) {
+            response.setJobs(List.of(PrintJobResponse.rejected(e.getMessage())));
+            return ResponseEntity.badRequest().body(response);
+        } catch (PrintQueueFullException | PrinterUnavailableException e) {
+            response.setJobs(List.of(PrintJobResponse.rejected(e.getMessage())));
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+    }
+
+    // 재시도에는 처음 접수한 작업들의 지금 상태로 응답한다 (보관 기간이 지난 작업은 접수 때 상태)
+    private BatchPrintResponse refresh(BatchPrintResponse accepted) {
+        BatchPrintResponse response = new BatchPrintResponse();
+        response.setPrinterId(accepted.getPrinterId());
+        response.setAccepted(accepted.getAccepted());
+        response.setRejected(accepted.getRejected());
+        response.setJobs(accepted.getJobs().stream()
+            .map(job -> job.getJobId() == null ? job : printJobQueue.find(job.getJobId())
+                .map(PrintJobResponse::from)
+                .orElse(job))
+            .peek(job -> job.setDuplicate(job.getJobId() != null))
+            .collect(Collectors.toList()));
+        return response;
+    }
+
+    // 긴 문서(재고/일일 매출 등)를 받는 대로 인쇄 (본문은 text/plain, 인코딩이 없으면 UTF-8)
+    // 대기열을 거치지 않고 요청 스레드가 포트를 빌려 보내므로 다 찍힌 뒤에 응답한다
+    @PostMapping(value = "/print/stream", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> printStream(HttpServletRequest request,
+                                              @RequestParam(required = false) String printerId) {
+        try {
+            PrinterDevice device = printerRouter.route(printerId);
+            String encoding = request.getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            try (Reader reader = new InputStreamReader(request.getInputStream(), charset)) {
+                long chars = printerService.printStream(device, reader);
+                return ResponseEntity.ok(device.getId() + ": " + chars + "자 인쇄");
+            }
+        } catch (UnknownPrinterException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PrinterNotReadyException e) {
+            // DOWN 이라 보내지 않은 경우(PrinterUnavailableException)도 여기서 503, 다른 인쇄 API 와 같다
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인쇄 실패: " + e.getMessage());
+        }
+    }
+
+    // 재시도로 찾은 기존 작업이면 새로 접수하지 않았으므로 202 대신 200
+    private static ResponseEntity<PrintJobResponse> accepted(IdempotencyCache.Result<PrintJob> result) {
+        PrintJobResponse response = PrintJobResponse.from(result.getValue());
+        response.setDuplicate(result.isDuplicate());
+        return ResponseEntity.status(result.isDuplicate() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(response);
+    }
+
+    // 칸 지정을 미리 배열로 바꿔 두고, 인쇄할 때 레이아웃 엔진이 버퍼에 바로 쓴다
+    // QR/바코드 명령도 접수할 때 만들어 둔다 (같은 내용은 캐시에서)
+    private ReceiptContent toLayout(List<PrintRequest.Line> lines, int columns) {
+        List<LayoutColumn[]> layouts = new ArrayList<>(lines.size());
+        List<String[]> cells = new ArrayList<>(lines.size());
+        List<byte[]> symbols = new ArrayList<>(lines.size());
+        for (PrintRequest.Line line : lines) {
+            if (line.getSymbol() != null) {
+                layouts.add(null);
+                cells.add(null);
+                symbols.add(toSymbol(line.getSymbol(), line.getAlign()));
+                continue;
+            }
+            symbols.add(null);
+            if (line.getRule() != null && !line.getRule().isEmpty()) {
+                layouts.add(null);
+                cells.add(new String[]{line.getRule()});
+                continue;
+            }
+            LayoutColumn[] layout;
+            if (line.getCells() != null && !line.getCells().isEmpty()) {
+                layout = line.getCells().stream()
+                    .map(cell -> new LayoutColumn(cell.getWidth(), cell.getAlign(), cell.isWrap()))
+                    .toArray(LayoutColumn[]::new);
+                cells.add(line.getCells().stream().map(PrintRequest.Cell::getText).toArray(String[]::new));
+            } else {
+                layout = new LayoutColumn[]{LayoutColumn.full(line.getAlign())};
+                cells.add(new String[]{line.getText()});
+            }
+            // 칸 너비 합이 넘치면 접수할 때 400 으로 알린다
+            ReceiptLayout.validate(layout, columns);
+            layouts.add(layout);
+        }
+        return receipt -> {
+            ReceiptLayout layout = new ReceiptLayout(receipt, columns);
+            for (int i = 0; i < layouts.size(); i++) {
+                if (symbols.get(i) != null) {
+                    receipt.command(symbols.get(i)).newLine();
+                } else if (layouts.get(i) == null) {
+                    layout.rule(cells.get(i)[0].charAt(0));
+                } else {
+                    layout.row(layouts.get(i), cells.get(i));
+                }
+            }
+        };
+    }
+
+    // 정렬 명령 + QR/바코드 + 왼쪽 정렬 복귀 (레이아웃 엔진은 공백으로 정렬하므로 ESC a 는 여기서만 쓴다)
+    private byte[] toSymbol(PrintRequest.Symbol symbol, TextAlign align) {
+        byte[] command = symbol.getType() == null
+            ? symbolEncoder.qr(symbol.getData(), symbol.getSize(), symbol.getErrorCorrection())
+            : symbolEncoder.barcode(symbol.getType(), symbol.getData(), symbol.getHeight(), symbol.getModuleWidth(),
+                symbol.getHri());
+        return new ReceiptBuilder(command.length + 6)
+            .command(align(align))
+            .command(command)
+            .command(EscPosCommands.ALIGN_LEFT)
+            .toByteArray();
+    }
+
+    private static byte[] align(TextAlign align) {
+        if (align == TextAlign.CENTER) {
+            return EscPosCommands.ALIGN_CENTER;
+        }
+        return align == TextAlign.RIGHT ? EscPosCommands.ALIGN_RIGHT : EscPosCommands.ALIGN_LEFT;
+    }
+
+    private ReceiptContent toContent(BatchPrintRequest.Item item) {
+        if (item.getTemplate() != null) {
+            Map<String, Object> values = item.getValues() == null ? Map.of() : item.getValues();
+            return templateRepository.get(item.getTemplate()).bind(values);
+        }
+        if (item.getText() == null) {
+            throw new TemplateException("text 나 template 이 필요합니다.");
+        }
+        return ReceiptContent.text(item.getText());
+    }
+
+    private void writeImage(ReceiptBuilder receipt, PrinterDevice device, RasterImage image, ImageMode mode) {
+        int start = receipt.size();
+        RasterCommands.image(receipt, image, mode, device.getGraphicsCompressionFunction());
+        if (mode == ImageMode.GRAPHICS) {
+            metrics.recordImageBytesSaved(device.getId(), RasterCommands.rasterSize(image) - (receipt.size() - start));
+        }
+    }
+
+    // 템플릿 등록/교체 (본문은 템플릿 원문, text/plain)
+    @PutMapping(value = "/templates/{name}", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> putTemplate(@PathVariable String name, @RequestBody String source) {
+        try {
+            ReceiptTemplate template = templateRepository.register(name, source);
+            return ResponseEntity.ok("템플릿 등록: " + template.getName() + " (" + template.fixedSize() + " bytes)");
+        } catch (TemplateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/templates")
+    public Set<String> getTemplates() {
+        return templateRepository.getNames();
+    }
+
+    // 이미지 한 장 인쇄 (본문은 PNG/JPEG 파일, 폭은 프린터 인쇄 폭 이하)
+    @PostMapping(value = "/print/image", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<PrintJobResponse> printImage(@RequestBody byte[] imageData,
+                                                       @RequestParam(required = false) String printerId,
+                                                       @RequestParam(required = false) Integer width,
+                                                       @RequestParam(defaultValue = "FLOYD_STEINBERG") Dithering dithering,
+                                                       @RequestParam(required = false) ImageMode mode,
+                                                       @RequestParam(defaultValue = "NORMAL") PrintPriority priority,
+                                                       @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         try {
+            // 재시도면 라우팅도 이미지 변환도 하지 않는다
+            return accepted(idempotencyCache.submit("image", idempotencyKey,
+                () -> printerId + "|" + width + "|" + dithering + "|" + mode + "|"
+                    + Base64.getEncoder().encodeToString(imageData),
+                () -> {
+                    PrinterDevice device = printerRouter.route(printerId);
+                    int dots = width == null ? device.getPrintWidthDots() : Math.min(width, device.getPrintWidthDots());
+                    ImageMode imageMode = mode == null ? device.getImageMode() : mode;
+                    RasterImage image = imageService.convert(imageData, dots, dithering);
+                    return printJobQueue.submit(device,
+                        receipt -> writeImage(receipt, device, image, imageMode), priority);
+                }));
+        } catch (UnknownPrinterException | ImageException e) {
+            return ResponseEntity.badRequest().body(PrintJobResponse.rejected(e.getMessage()));
+        } catch (PrintQueueFullException | PrinterUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(PrintJobResponse.rejected(e.getMessage()));
+        }
+    }
+
+    // 로고 등록/교체 (템플릿에서 #logo 이름 으로 사용)
+    @PutMapping(value = "/logos/{name}", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<String> putLogo(@PathVariable String name, @RequestBody byte[] imageData,
+                                          @RequestParam(defaultValue = "384") int width,
+                                          @RequestParam(defaultValue = "THRESHOLD") Dithering dithering) {
+        try {
+            Logo logo = logoRepository.register(name, imageData, width, dithering);
+            return ResponseEntity.ok("로고 등록: " + name + " ("
+                + logo.getImage().getWidth() + "x" + logo.getImage().getHeight() + ")");
+        } catch (ImageException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 모든 프린터의 NV 메모리에 로고 저장 (이후 영수증에는 출력 명령만 보낸다)
+    @PostMapping("/logos/{name}/nv")
+    public ResponseEntity<String> storeLogoInNv(@PathVariable String name) {
+        try {
+            logoRepository.storeInNv(name, printerRouter.getDevices());
+            return ResponseEntity.ok("NV 등록 완료: " + name);
+        } catch (ImageException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("NV 등록 실패: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/logos")
+    public Set<String> getLogos() {
+        return logoRepository.getNames();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<PrintJobResponse> getJob(@PathVariable String jobId) {
+        return printJobQueue.find(jobId)
+            .map(job -> ResponseEntity.ok(PrintJobResponse.from(job)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 프린터 연결 테스트 (기존 /print 동작)
+    @PostMapping("/test")
+    public String test(@RequestParam(required = false) String printerId) {
+        try {
+            String portName = printerId == null
+                ? printerRouter.getDevices().get(0).getPort()
+                : printerRouter.getDevice(printerId).getPort();
 //            printerService2.testPrinter();
-            printerService3.testWithESCPOS();
-            printerService3.testWithPacket();
+            printerService3.testWithESCPOS(portName);
+            printerService3.testWithPacket(portName);
             return "인쇄 성공";
         } catch (Exception e) {
             return "인쇄 실패: " + e.getMessage();
         }
     }
 
+    // 프린터가 응답하는 가장 빠른 속도를 찾아 이후 인쇄에 사용 (switch-baud-rate 가 있으면 프린터 설정도 변경)
+    @PostMapping("/printers/{printerId}/probe")
+    public ResponseEntity<String> probeLinkSpeed(@PathVariable String printerId) {
+        try {
+            PrinterDevice device = printerRouter.getDevice(printerId);
+            return ResponseEntity.ok(device.getId() + ": " + linkSpeedProbe.probe(device) + " bps");
+        } catch (UnknownPrinterException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PrinterConnectionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+    }
+
+    // 포트 목록은 백그라운드에서 갱신해 둔 것을 돌려준다 (장치를 다시 열거하지 않는다)
     @GetMapping("/ports")
-    public String[] getAvailablePorts() {
-        return printerService.getAvailablePorts();
+    public PortsResponse getAvailablePorts() {
+        List<SerialPortInfo> ports = portInventory.getPorts();
+        PortsResponse response = new PortsResponse();
+        response.setAvailablePorts(ports.stream().map(SerialPortInfo::getSystemName).toArray(String[]::new));
+        response.setPorts(ports.stream().map(this::toPortInfo).collect(Collectors.toList()));
+        response.setRefreshedAt(portInventory.getRefreshedAt());
+        response.setPrinters(printerRouter.getDevices().stream()
+            .map(this::toPrinterInfo)
+            .collect(Collectors.toList()));
+        return response;
+    }
+
+    // 가상 프린터(port: virtual:...)가 받고 인쇄한 양 (부하 시험 결과 확인용)
+    @GetMapping("/virtual-printers")
+    public List<VirtualPrinterStats> getVirtualPrinters() {
+        return transportFactory.getVirtualPrinters().stream()
+            .map(VirtualPrinter::getStats)
+            .collect(Collectors.toList());
+    }
+
+    private PortsResponse.PrinterInfo toPrinterInfo(PrinterDevice device) {
+        PortsResponse.PrinterInfo info = new PortsResponse.PrinterInfo();
+        info.setId(device.getId());
+        info.setPort(device.getPort());
+        info.setBaudRate(device.getBaudRate());
+        info.setProtocol(device.getProtocol().name());
+        info.setOpen(connectionManager.isOpen(device.getPort()));
+        info.setPresent(!PrinterTransportFactory.isSerial(device.getPort())
+            || portInventory.find(device.getPort()).isPresent());
+        info.setQueueDepth(printJobQueue.queueDepth(device.getId()));
+        info.setHealth(printerRouter.getHealth(device.getId()).name());
+        return info;
+    }
+
+    private PortsResponse.PortInfo toPortInfo(SerialPortInfo port) {
+        PortsResponse.PortInfo info = new PortsResponse.PortInfo();
+        info.setName(port.getSystemName());
+        info.setPath(port.getPath());
+        info.setDescription(port.getDescription());
+        info.setVendorId(port.getVendorId());
+        info.setProductId(port.getProductId());
+        info.setSerialNumber(port.getSerialNumber());
+        info.setLocation(port.getLocation());
+        printerRouter.getDevices().stream()
+            .filter(device -> port.matches(device.getPort()))
+            .findFirst()
+            .ifPresent(device -> {
+                info.setPrinterId(device.getId());
+                info.setOpen(connectionManager.isOpen(device.getPort()));
+            });
+        return info;
     }
 }
 
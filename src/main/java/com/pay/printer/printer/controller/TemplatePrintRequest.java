@@ -0,0 +1,19 @@
+package com.pay.printer.printer.controller;
+
+import com.pay.printer.printer.job.PrintPriority;
+import java.util.Map;
+import lombok.Data;
+
+// 템플릿 인쇄 요청 (템플릿 이름 + 슬롯 값)
+@Data
+public class TemplatePrintRequest {
+    private String template;
+    private String printerId;  // 없으면 라우팅 방식에 따라 선택
+    private Map<String, Object> values;  // 반복 구간은 목록 (예: items: [{name, qty, amount}])
+    private PrintPriority priority = PrintPriority.NORMAL;  // URGENT (영수증, 주문서) | NORMAL | BULK (보고서)
+
+    // null 이면 NORMAL (PrintRequest 와 같다)
+    public void setPriority(PrintPriority priority) {
+        this.priority = priority == null ? PrintPriority.NORMAL : priority;
+    }
+}
@@ -0,0 +1,111 @@
+package com.pay.printer.printer.controller;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.connection.WireTrace;
+import com.pay.printer.printer.connection.WireTracer;
+import com.pay.printer.printer.service.PrinterRouter;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.controller
+ * @fileName : WireTraceEndpoint
+ * @date : 2026-10-17
+ * @description : 프린터별 최근 송수신 바이트 (/actuator/wiretrace, /actuator/wiretrace/{printerId}?kb=4)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Component
+@Endpoint(id = "wiretrace")
+@RequiredArgsConstructor
+public class WireTraceEndpoint {
+
+    private static final int DEFAULT_KB = 4;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final WireTracer wireTracer;
+    private final PrinterRouter printerRouter;
+
+    // 프린터별 지금까지 기록한 바이트 수
+    @ReadOperation
+    public Map<String, Long> traced() {
+        Map<String, Long> traced = new LinkedHashMap<>();
+        for (PrinterDevice device : printerRouter.getDevices()) {
+            traced.put(device.getId(),
+                wireTracer.find(device.getPort()).map(WireTrace::getBytesTraced).orElse(0L));
+        }
+        return traced;
+    }
+
+    @ReadOperation
+    public WireDump dump(@Selector String printerId, @Nullable Integer kb) {
+        PrinterDevice device = printerRouter.getDevice(printerId);
+        int maxBytes = (kb == null ? DEFAULT_KB : kb) * 1024;
+        WireDump dump = new WireDump();
+        dump.setPrinterId(printerId);
+        dump.setPort(device.getPort());
+        dump.setEnabled(wireTracer.isEnabled());
+        dump.setRecords(wireTracer.find(device.getPort())
+            .map(trace -> trace.snapshot(maxBytes))
+            .orElse(List.of())
+            .stream()
+            .map(WireTraceEndpoint::toLine)
+            .collect(Collectors.toList()));
+        return dump;
+    }
+
+    private static Line toLine(WireTrace.Record record) {
+        Line line = new Line();
+        line.setTime(record.getTime());
+        line.setDirection(record.isReceived() ? "RX" : "TX");
+        line.setLength(record.getBytes().length);
+        line.setHex(hex(record.getBytes()));
+        return line;
+    }
+
+    static String hex(byte[] bytes) {
+        if (bytes.length == 0) {
+            return "";
+        }
+        char[] chars = new char[bytes.length * 3 - 1];
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            if (i > 0) {
+                chars[i * 3 - 1] = ' ';
+            }
+            chars[i * 3] = HEX[b >>> 4];
+            chars[i * 3 + 1] = HEX[b & 0xF];
+        }
+        return new String(chars);
+    }
+
+    // 한 프린터의 기록 (오래된 것부터)
+    @Data
+    public static class WireDump {
+        private String printerId;
+        private String port;
+        private boolean enabled;
+        private List<Line> records;
+    }
+
+    // 쓰기/읽기 한 번 - TX 는 프린터로 보낸 것, RX 는 받은 것
+    @Data
+    public static class Line {
+        private Instant time;
+        private String direction;
+        private int length;
+        private String hex;
+    }
+}
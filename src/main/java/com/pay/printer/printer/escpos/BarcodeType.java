@@ -0,0 +1,33 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : BarcodeType
+ * @date : 2026-10-17
+ * @description : 1차원 바코드 종류 (GS k m, 길이를 따로 보내는 m=65~73 형식)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum BarcodeType {
+    UPC_A(65),
+    UPC_E(66),
+    EAN13(67),
+    EAN8(68),
+    CODE39(69),
+    ITF(70),
+    CODABAR(71),
+    CODE93(72),
+    CODE128(73);  // 숫자만 4자리 이상 짝수 개면 코드 세트 C 로 두 자리씩 묶어 보낸다
+
+    private final int code;
+
+    BarcodeType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
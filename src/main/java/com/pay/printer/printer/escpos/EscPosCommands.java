@@ -0,0 +1,50 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : EscPosCommands
+ * @date : 2026-10-17
+ * @description : 서비스마다 흩어져 있던 ESC/POS 명령어 모음
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public final class EscPosCommands {
+
+    public static final byte ESC = 0x1B;
+    public static final byte GS = 0x1D;
+    public static final byte FS = 0x1C;
+    public static final byte LF = 0x0A;
+
+    // 초기화
+    public static final byte[] INIT = {0x1B, 0x40};
+
+    // 한글 모드 설정
+    public static final byte[] KOREAN_MODE = {0x1C, 0x26}; // 한글 모드 시작
+    public static final byte[] ASCII_MODE = {0x1C, 0x2E};  // 한글 모드 해제
+
+    // 코드페이지
+    public static final byte[] CODEPAGE_KOREAN = {0x1B, 0x74, 0x03};
+    public static final byte[] CODEPAGE_ENGLISH = {0x1B, 0x74, 0x00};
+
+    // 정렬
+    public static final byte[] ALIGN_LEFT = {0x1B, 0x61, 0x00};
+    public static final byte[] ALIGN_CENTER = {0x1B, 0x61, 0x01};
+    public static final byte[] ALIGN_RIGHT = {0x1B, 0x61, 0x02};
+
+    // 글자 모양
+    public static final byte[] TEXT_NORMAL = {0x1B, 0x21, 0x00};  // 기본 크기
+    public static final byte[] BOLD_ON = {0x1B, 0x45, 0x01};
+    public static final byte[] BOLD_OFF = {0x1B, 0x45, 0x00};
+
+    // 용지 컷팅
+    public static final byte[] PAPER_CUT = {0x1D, 0x56, 0x00};       // 전체 컷
+    public static final byte[] PAPER_PART_CUT = {0x1D, 0x56, 0x01};  // 부분 컷
+    public static final byte[] FEED_AND_CUT = {
+        0x1D, 0x56, 0x42, 0x50  // GS V B n - n은 커팅 전 피드할 라인 수
+    };
+
+    private EscPosCommands() {
+    }
+}
@@ -0,0 +1,203 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : FormattingState
+ * @date : 2026-10-17
+ * @description : 조립된 영수증 바이트를 따라가며 글자 모양 상태(정렬/굵게/밑줄/글자 크기/한글 모드)를 추적한다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 긴 본문을 나눠 보내다 중간에 잘라서 다른 작업에 자리를 내주면, 이어서 보낼 때 ESC @ 로 초기화하므로
+ * 나눈 지점의 상태를 다시 설정해야 한다 (restoreCommands).
+ * 이 프로젝트가 만드는 명령(텍스트, 이미지, QR/바코드, 커팅 등)은 길이를 알고 건너뛴다.
+ * 모르는 ESC/GS 명령은 인자 하나짜리로 보고 넘어간다 (상태만 읽으므로 틀려도 출력은 바뀌지 않는다).
+ */
+public final class FormattingState {
+
+    private static final int DLE = 0x10;
+
+    private int align;          // ESC a (0 왼쪽, 1 가운데, 2 오른쪽)
+    private boolean bold;       // ESC E
+    private int underline;      // ESC - (0~2)
+    private int printMode;      // ESC ! (글꼴/굵게/배율/밑줄 묶음)
+    private int size;           // GS ! (상위 4비트 가로, 하위 4비트 세로 배율)
+    private boolean korean;     // FS & / FS .
+
+    // 앞 조각에서 끝나지 않은 명령 데이터 (이미지 등)
+    private int skip;
+
+    private FormattingState(boolean korean) {
+        this.korean = korean;
+    }
+
+    /**
+     * 영수증 시작 명령(ALIGN_LEFT, TEXT_NORMAL, KOREAN_MODE) 직후 상태
+     */
+    public static FormattingState afterPreamble() {
+        return new FormattingState(true);
+    }
+
+    /**
+     * 영수증 시작 명령 직후와 같은 상태인지 (같으면 다시 설정할 것이 없다)
+     */
+    public boolean isDefault() {
+        return align == 0 && !bold && underline == 0 && printMode == 0 && size == 0 && korean;
+    }
+
+    /**
+     * 지금 상태를 영수증 시작 상태에서 다시 만드는 명령
+     */
+    public byte[] restoreCommands() {
+        ReceiptBuilder commands = new ReceiptBuilder(20);
+        commands.append(EscPosCommands.ESC).append('!').append(printMode)
+            .append(EscPosCommands.ESC).append('E').append(bold ? 1 : 0)
+            .append(EscPosCommands.ESC).append('-').append(underline)
+            .append(EscPosCommands.GS).append('!').append(size)
+            .append(EscPosCommands.ESC).append('a').append(align)
+            .command(korean ? EscPosCommands.KOREAN_MODE : EscPosCommands.ASCII_MODE);
+        return commands.toByteArray();
+    }
+
+    /**
+     * data[from, to) 의 명령을 반영한다 (이어지는 구간을 차례로 넘기면 된다)
+     */
+    public void scan(byte[] data, int from, int to) {
+        int i = from + Math.min(skip, to - from);
+        skip -= i - from;
+        while (i < to) {
+            int b = data[i] & 0xFF;
+            int length;
+            if (b == EscPosCommands.ESC) {
+                length = escape(data, i, to);
+            } else if (b == EscPosCommands.GS) {
+                length = group(data, i, to);
+            } else if (b == EscPosCommands.FS) {
+                length = kanji(data, i, to);
+            } else if (b == DLE) {
+                length = at(data, i + 1, to) == 0x14 ? 5 : 3;  // DLE DC4 fn m t / DLE EOT n
+            } else {
+                length = 1;
+            }
+            if (i + length > to) {
+                skip = i + length - to;
+                return;
+            }
+            i += length;
+        }
+    }
+
+    private int escape(byte[] data, int i, int to) {
+        int command = at(data, i + 1, to);
+        int n = at(data, i + 2, to);
+        switch (command) {
+            case '@':
+                align = 0;
+                bold = false;
+                underline = 0;
+                printMode = 0;
+                size = 0;
+                korean = false;
+                return 2;
+            case 'a':
+                align = n & 0x03;
+                return 3;
+            case 'E':
+                bold = (n & 0x01) != 0;
+                return 3;
+            case '-':
+                underline = n & 0x03;
+                return 3;
+            case '!':
+                printMode = n;
+                bold = (n & 0x08) != 0;
+                underline = (n & 0x80) != 0 ? 1 : 0;
+                size = ((n & 0x20) != 0 ? 0x10 : 0) | ((n & 0x10) != 0 ? 0x01 : 0);
+                return 3;
+            case '*':
+                // ESC * m nL nH - 24점 모드(32, 33)는 열마다 3바이트
+                int columns = n2(data, i + 3, to);
+                return 5 + (n >= 32 ? columns * 3 : columns);
+            case 'p':
+                return 5;
+            case '2':
+            case 'i':
+            case 'm':
+            case '<':
+                return 2;
+            default:
+                return 3;
+        }
+    }
+
+    private int group(byte[] data, int i, int to) {
+        int command = at(data, i + 1, to);
+        int m = at(data, i + 2, to);
+        switch (command) {
+            case '!':
+                size = m;
+                return 3;
+            case 'v':
+                // GS v 0 m xL xH yL yH + 데이터
+                return 8 + n2(data, i + 4, to) * n2(data, i + 6, to);
+            case '(':
+                // GS ( fn pL pH + 데이터 (그래픽스, QR 등)
+                return 5 + n2(data, i + 3, to);
+            case '8':
+                // GS 8 L p1 p2 p3 p4 + 데이터
+                return 7 + (n2(data, i + 3, to) | n2(data, i + 5, to) << 16);
+            case 'k':
+                if (m >= 65) {
+                    return 4 + at(data, i + 3, to);
+                }
+                for (int end = i + 3; end < to; end++) {
+                    if (data[end] == 0) {
+                        return end - i + 1;
+                    }
+                }
+                return to - i + 1;
+            case 'V':
+                return m >= 65 ? 4 : 3;
+            case 'L':
+            case 'P':
+            case 'W':
+            case '$':
+            case '\\':
+                return 4;
+            default:
+                return 3;
+        }
+    }
+
+    private int kanji(byte[] data, int i, int to) {
+        int command = at(data, i + 1, to);
+        switch (command) {
+            case '&':
+                korean = true;
+                return 2;
+            case '.':
+                korean = false;
+                return 2;
+            case 'p':
+                return 4;
+            case '!':
+            case '-':
+            case 'C':
+            case 'W':
+                return 3;
+            default:
+                return 2;
+        }
+    }
+
+    // 구간 밖이면 0 (길이 계산만 틀어지고, 남은 길이는 다음 구간에서 건너뛴다)
+    private static int at(byte[] data, int index, int to) {
+        return index < to ? data[index] & 0xFF : 0;
+    }
+
+    private static int n2(byte[] data, int index, int to) {
+        return at(data, index, to) | at(data, index + 1, to) << 8;
+    }
+}
@@ -0,0 +1,18 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : HriPosition
+ * @date : 2026-10-17
+ * @description : 바코드 아래/위에 찍을 사람이 읽는 글자 (GS H n)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum HriPosition {
+    NONE,   // 0
+    ABOVE,  // 1
+    BELOW,  // 2
+    BOTH    // 3
+}
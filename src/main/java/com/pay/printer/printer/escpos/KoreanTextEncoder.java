@@ -0,0 +1,406 @@
+package com.pay.printer.printer.escpos;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : KoreanTextEncoder
+ * @date : 2026-10-17
+ * @description : 영수증 텍스트를 프린터 코드페이지로 인코딩해서 영수증 버퍼에 바로 쓴다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Component
+public class KoreanTextEncoder {
+
+    // 이보다 긴 문자열은 캐시하지 않는다 (상호, 메뉴명 같은 짧은 반복 문자열 대상)
+    private static final int MAX_CACHED_LENGTH = 64;
+
+    private final Charset charset;
+    private final byte[] replacement;
+    private final LruCache<String, byte[]> cache;
+
+    // 글자 -> 코드 (1바이트는 0x01~0xFF, 2바이트는 상위/하위 바이트, 0 은 코드페이지에 없음)
+    // EUC-KR/CP949 처럼 글자마다 최대 2바이트인 코드페이지는 CharsetEncoder 없이 표로 변환한다
+    private final char[] table;
+
+    // 글자 -> 인쇄 칸 수 (글꼴 A 기준, 레이아웃 엔진이 인코딩 전에 폭을 잴 때 사용)
+    private final byte[] widths;
+
+    // 표를 쓸 수 없는 코드페이지용. CharsetEncoder 는 스레드 안전하지 않아서 작업 스레드마다 하나씩 둔다
+    private final ThreadLocal<EncoderState> encoders;
+
+    public KoreanTextEncoder(@Value("${printer.encoding.charset:EUC-KR}") String charsetName,
+                             @Value("${printer.encoding.replacement:?}") String replacement,
+                             @Value("${printer.encoding.cache-size:256}") int cacheSize) {
+        this.charset = Charset.forName(charsetName);
+        this.replacement = replacement.getBytes(charset);
+        this.cache = new LruCache<>(cacheSize);
+        this.encoders = ThreadLocal.withInitial(EncoderState::new);
+        requireAsciiCompatible(charset);
+        this.table = buildTable(charset);
+        this.widths = buildWidths(table, this.replacement.length);
+        log.info("텍스트 인코딩: {} (대체 문자 '{}', 변환표 {})", charset.name(), replacement,
+            table == null ? "사용 안 함" : "사용");
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public LruCache<String, byte[]> getCache() {
+        return cache;
+    }
+
+    /**
+     * text 를 builder 버퍼에 인코딩해서 붙인다.
+     * ASCII 구간은 그대로 복사하고, 한글이 섞인 짧은 문자열은 캐시에서 가져온다.
+     */
+    public void encode(CharSequence text, ReceiptBuilder builder) {
+        encode(text, 0, text.length(), builder);
+    }
+
+    public void encode(CharSequence text, int start, int end, ReceiptBuilder builder) {
+        int before = builder.size();
+        int i = copyAscii(text, start, end, builder);
+        if (i == end) {
+            return;
+        }
+
+        if (start == 0 && end == text.length() && end <= MAX_CACHED_LENGTH && text instanceof String) {
+            String key = (String) text;
+            byte[] cached = cache.get(key);
+            if (cached != null) {
+                builder.commit(before);
+                builder.command(cached);
+                return;
+            }
+            encodeFrom(text, i, end, builder);
+            cache.put(key, builder.copyOfRange(before, builder.size()));
+            return;
+        }
+        encodeFrom(text, i, end, builder);
+    }
+
+    /**
+     * 한 글자(코드 포인트)를 인코딩한다 (레이아웃 엔진이 폭을 재면서 바로 쓸 때 사용).
+     * 이모지 같은 서로게이트 쌍은 합친 코드 포인트로 넘겨야 대체 문자가 하나만 나온다.
+     */
+    public void encode(int codePoint, ReceiptBuilder builder) {
+        if (codePoint < 0x80) {
+            builder.append((char) codePoint);
+            return;
+        }
+        if (table != null) {
+            char code = Character.isBmpCodePoint(codePoint) ? table[codePoint] : 0;
+            byte[] buffer = builder.reserve(Math.max(2, replacement.length));
+            builder.commit(writeCode(code, buffer, builder.size()));
+            return;
+        }
+        EncoderState state = encoders.get();
+        encodeNonAscii(state, state.chars(codePoint), builder);
+    }
+
+    /**
+     * 인쇄했을 때 차지하는 칸 수 (한글 2, ASCII 1, 제어 문자 0, 코드페이지에 없으면 대체 문자 폭).
+     * 짝이 없는 서로게이트도 대체 문자 하나로 인쇄되므로 대체 문자 폭이다.
+     */
+    public int width(int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            return widths[codePoint];
+        }
+        if (table != null) {
+            return replacement.length;
+        }
+        return isWide(codePoint) ? 2 : 1;
+    }
+
+    /**
+     * text[start, end) 의 칸 수 (서로게이트 쌍은 한 글자로 센다, encode 와 같게)
+     */
+    public int width(CharSequence text, int start, int end) {
+        int width = 0;
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                width += width(Character.toCodePoint(c, text.charAt(i + 1)));
+                i += 2;
+            } else {
+                width += widths[c];
+                i++;
+            }
+        }
+        return width;
+    }
+
+    /**
+     * 줄바꿈 이외의 제어 문자(ESC, GS, DEL 등)를 뺀 text (없으면 text 그대로, 복사하지 않는다).
+     * 요청에서 온 칸/슬롯 값이 프린터 명령으로 해석되지 않게 한다 (스트림 인쇄의 LineWrapper 처럼 버린다).
+     */
+    public static CharSequence stripControls(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length && !isStripped(text.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return text;
+        }
+        StringBuilder stripped = new StringBuilder(length - 1).append(text, 0, i);
+        for (i++; i < length; i++) {
+            char c = text.charAt(i);
+            if (!isStripped(c)) {
+                stripped.append(c);
+            }
+        }
+        return stripped;
+    }
+
+    private static boolean isStripped(char c) {
+        return c != '\n' && Character.isISOControl(c);
+    }
+
+    public byte[] encode(CharSequence text) {
+        ReceiptBuilder builder = new ReceiptBuilder(text.length() * 2);
+        encode(text, builder);
+        return builder.toByteArray();
+    }
+
+    // 앞쪽 ASCII 구간을 복사하고 처음 나온 ASCII 이외 글자의 위치를 돌려준다
+    private static int copyAscii(CharSequence text, int start, int end, ReceiptBuilder builder) {
+        byte[] buffer = builder.reserve(end - start);
+        int pos = builder.size();
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                break;
+            }
+            buffer[pos++] = (byte) c;
+            i++;
+        }
+        builder.commit(pos);
+        return i;
+    }
+
+    private void encodeFrom(CharSequence text, int start, int end, ReceiptBuilder builder) {
+        if (table != null) {
+            encodeWithTable(text, start, end, builder);
+        } else {
+            encodeRuns(text, start, end, builder);
+        }
+    }
+
+    private void encodeWithTable(CharSequence text, int start, int end, ReceiptBuilder builder) {
+        byte[] buffer = builder.reserve((end - start) * Math.max(2, replacement.length));
+        int pos = builder.size();
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer[pos++] = (byte) c;
+                continue;
+            }
+            pos = writeCode(table[c], buffer, pos);
+            // 서로게이트 쌍은 대체 문자 하나로 (CharsetEncoder 와 같게)
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                i++;
+            }
+        }
+        builder.commit(pos);
+    }
+
+    private int writeCode(char code, byte[] buffer, int pos) {
+        if (code == 0) {
+            System.arraycopy(replacement, 0, buffer, pos, replacement.length);
+            return pos + replacement.length;
+        }
+        if (code > 0xFF) {
+            buffer[pos++] = (byte) (code >> 8);
+        }
+        buffer[pos++] = (byte) code;
+        return pos;
+    }
+
+    private void encodeRuns(CharSequence text, int start, int end, ReceiptBuilder builder) {
+        EncoderState state = encoders.get();
+        int i = start;
+        while (i < end) {
+            int runEnd = i;
+            while (runEnd < end && text.charAt(runEnd) >= 0x80) {
+                runEnd++;
+            }
+            encodeNonAscii(state, state.chars(text, i, runEnd), builder);
+            i = copyAscii(text, runEnd, end, builder);
+        }
+    }
+
+    private void encodeNonAscii(EncoderState state, CharBuffer in, ReceiptBuilder builder) {
+        CharsetEncoder encoder = state.encoder;
+        encoder.reset();
+
+        int estimate = (int) Math.ceil(in.remaining() * (double) encoder.maxBytesPerChar()) + replacement.length;
+        while (true) {
+            ByteBuffer out = state.output(builder.reserve(estimate), builder.size());
+            CoderResult result = encoder.encode(in, out, true);
+            if (!result.isOverflow()) {
+                result = encoder.flush(out);
+            }
+            builder.commit(out.position());
+            if (!result.isOverflow()) {
+                return;
+            }
+            estimate = Math.max(estimate * 2, 16);
+        }
+    }
+
+    // ASCII 는 변환 없이 복사하므로 ASCII 가 그대로인 코드페이지만 받는다
+    private static void requireAsciiCompatible(Charset charset) {
+        char[] ascii = new char[0x80];
+        for (char c = 0; c < ascii.length; c++) {
+            ascii[c] = c;
+        }
+        byte[] encoded = new String(ascii).getBytes(charset);
+        for (int i = 0; i < ascii.length; i++) {
+            if (encoded.length != ascii.length || encoded[i] != i) {
+                throw new IllegalArgumentException("ASCII 호환 코드페이지가 아닙니다: " + charset.name());
+            }
+        }
+    }
+
+    /**
+     * 글자마다 1~2바이트로 바뀌는 코드페이지면 변환표를 만든다 (시작할 때 한 번, 128KB)
+     *
+     * @return 3바이트 이상이거나 앞 글자에 따라 바뀌는 코드페이지면 null
+     */
+    private static char[] buildTable(Charset charset) {
+        if (!charset.canEncode()) {
+            return null;
+        }
+        CharsetEncoder encoder = charset.newEncoder();
+        if (encoder.maxBytesPerChar() > 2) {
+            return null;
+        }
+        char[] table = new char[0x10000];
+        CharBuffer in = CharBuffer.allocate(1);
+        ByteBuffer out = ByteBuffer.allocate(8);
+        for (int c = 0x80; c < table.length; c++) {
+            if (Character.isSurrogate((char) c)) {
+                continue;
+            }
+            in.clear();
+            in.put((char) c).flip();
+            out.clear();
+            encoder.reset();
+            CoderResult result = encoder.encode(in, out, true);
+            if (result.isError()) {
+                continue;  // 코드페이지에 없는 글자
+            }
+            encoder.flush(out);
+            out.flip();
+            int first = out.get() & 0xFF;
+            if (out.remaining() == 0 && first != 0) {
+                table[c] = (char) first;
+            } else if (out.remaining() == 1 && first != 0) {
+                table[c] = (char) (first << 8 | out.get() & 0xFF);
+            } else {
+                return null;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 변환표가 있으면 인코딩된 바이트 수가 칸 수다 (EUC-KR 2바이트 글자는 전각 2칸).
+     * 변환표가 없는 코드페이지는 유니코드 전각 범위(한글, 한자, 가나, 전각 기호)를 2칸으로 본다.
+     */
+    private static byte[] buildWidths(char[] table, int replacementWidth) {
+        byte[] widths = new byte[0x10000];
+        for (int c = 0x20; c < 0x7F; c++) {
+            widths[c] = 1;
+        }
+        for (int c = 0x80; c < widths.length; c++) {
+            // 짝이 없는 서로게이트는 대체 문자 하나로 인쇄된다 (쌍은 width(int) 로 따로 잰다)
+            if (Character.isSurrogate((char) c)) {
+                widths[c] = (byte) replacementWidth;
+            } else if (table != null) {
+                char code = table[c];
+                widths[c] = (byte) (code == 0 ? replacementWidth : code > 0xFF ? 2 : 1);
+            } else {
+                widths[c] = (byte) (isWide(c) ? 2 : 1);
+            }
+        }
+        return widths;
+    }
+
+    private static boolean isWide(int c) {
+        return (c >= 0x1100 && c <= 0x115F)      // 한글 자모
+            || (c >= 0x2E80 && c <= 0xA4CF)      // CJK 부수 ~ 이(彝) 문자 (한자, 가나, 한글 호환 자모 포함)
+            || (c >= 0xAC00 && c <= 0xD7A3)      // 한글 음절
+            || (c >= 0xF900 && c <= 0xFAFF)      // CJK 호환 한자
+            || (c >= 0xFE30 && c <= 0xFE4F)      // CJK 호환 형태
+            || (c >= 0xFF00 && c <= 0xFF60)      // 전각 ASCII
+            || (c >= 0xFFE0 && c <= 0xFFE6)      // 전각 기호
+            || (c >= 0x1F300 && c <= 0x1F64F)    // 그림 문자, 이모티콘
+            || (c >= 0x1F900 && c <= 0x1F9FF)    // 보충 그림 문자
+            || (c >= 0x20000 && c <= 0x3FFFD);   // CJK 확장 한자
+    }
+
+    private final class EncoderState {
+
+        private final CharsetEncoder encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE)
+            .replaceWith(replacement);
+
+        // 변환할 때마다 버퍼 객체를 만들지 않도록 재사용
+        private char[] scratch = new char[64];
+        private CharBuffer chars = CharBuffer.wrap(scratch);
+        private byte[] outputArray;
+        private ByteBuffer output;
+
+        private CharBuffer chars(CharSequence text, int start, int end) {
+            int length = end - start;
+            if (length > scratch.length) {
+                scratch = Arrays.copyOf(scratch, Math.max(length, scratch.length * 2));
+                chars = CharBuffer.wrap(scratch);
+            }
+            for (int i = 0; i < length; i++) {
+                scratch[i] = text.charAt(start + i);
+            }
+            chars.clear();
+            chars.limit(length);
+            return chars;
+        }
+
+        private CharBuffer chars(int codePoint) {
+            int length = Character.toChars(codePoint, scratch, 0);
+            chars.clear();
+            chars.limit(length);
+            return chars;
+        }
+
+        // 영수증 버퍼가 커지면 배열이 바뀌므로 그때만 다시 감싼다
+        private ByteBuffer output(byte[] buffer, int position) {
+            if (outputArray != buffer) {
+                outputArray = buffer;
+                output = ByteBuffer.wrap(buffer);
+            }
+            output.clear();
+            output.position(position);
+            return output;
+        }
+    }
+}
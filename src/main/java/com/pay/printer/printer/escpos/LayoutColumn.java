@@ -0,0 +1,42 @@
+package com.pay.printer.printer.escpos;
+
+import lombok.Getter;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : LayoutColumn
+ * @date : 2026-10-17
+ * @description : 레이아웃 행의 칸 하나 (너비, 정렬, 넘칠 때 줄바꿈/자르기)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Getter
+public final class LayoutColumn {
+
+    // 한 줄 전체를 쓰는 칸
+    public static final LayoutColumn FULL_LEFT = new LayoutColumn(0, TextAlign.LEFT, true);
+    public static final LayoutColumn FULL_CENTER = new LayoutColumn(0, TextAlign.CENTER, true);
+    public static final LayoutColumn FULL_RIGHT = new LayoutColumn(0, TextAlign.RIGHT, true);
+
+    private final int width;       // 칸 수, 0 이면 다른 칸을 뺀 나머지 (여럿이면 나눠 가진다)
+    private final TextAlign align;
+    private final boolean wrap;    // false 면 넘치는 부분을 자른다
+
+    public LayoutColumn(int width, TextAlign align, boolean wrap) {
+        if (width < 0) {
+            throw new IllegalArgumentException("칸 너비는 0 이상이어야 합니다: " + width);
+        }
+        this.width = width;
+        this.align = align == null ? TextAlign.LEFT : align;
+        this.wrap = wrap;
+    }
+
+    public static LayoutColumn full(TextAlign align) {
+        if (align == TextAlign.CENTER) {
+            return FULL_CENTER;
+        }
+        return align == TextAlign.RIGHT ? FULL_RIGHT : FULL_LEFT;
+    }
+}
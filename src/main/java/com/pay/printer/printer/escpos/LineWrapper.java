@@ -0,0 +1,104 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : LineWrapper
+ * @date : 2026-10-17
+ * @description : 조각으로 들어오는 텍스트를 인코딩하면서 한 줄 칸 수에 맞춰 줄을 나눈다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 칸 수는 인코딩된 바이트 수로 센다 (EUC-KR 한글 2바이트 = 2칸, {@link ReceiptBuilder#column} 과 같다).
+ * 조각 경계에서 끊긴 줄/서로게이트 쌍은 다음 조각으로 이어진다.
+ */
+public class LineWrapper {
+
+    private static final int TAB_STOP = 8;
+
+    private final int columns;
+    private int column;
+    // 조각 끝에서 짝을 기다리는 서로게이트 앞 글자 (0 이면 없음)
+    private char pendingHigh;
+
+    public LineWrapper(int columns) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("한 줄 칸 수는 1 이상이어야 합니다: " + columns);
+        }
+        this.columns = columns;
+    }
+
+    /**
+     * chars 를 receipt 에 인코딩해서 붙인다. 줄이 넘치면 그 글자 앞에서 줄을 바꾼다.
+     * 제어 문자(줄바꿈/탭 제외)는 프린터 명령이 되지 않도록 버린다.
+     */
+    public void append(char[] chars, int offset, int length, ReceiptBuilder receipt) {
+        KoreanTextEncoder encoder = receipt.getTextEncoder();
+        for (int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            if (pendingHigh != 0) {
+                char high = pendingHigh;
+                pendingHigh = 0;
+                // 서로게이트 쌍은 한 코드 포인트로 인코딩한다 (대체 문자 하나, 폭도 한 글자)
+                if (Character.isLowSurrogate(c)) {
+                    print(Character.toCodePoint(high, c), receipt, encoder);
+                    continue;
+                }
+                print(high, receipt, encoder);
+            }
+            if (Character.isHighSurrogate(c)) {
+                pendingHigh = c;
+            } else if (c == '\n') {
+                receipt.newLine();
+                column = 0;
+            } else if (c == '\t') {
+                if (column >= columns) {
+                    receipt.newLine();
+                    column = 0;
+                }
+                int spaces = Math.min(TAB_STOP - column % TAB_STOP, columns - column);
+                for (int s = 0; s < spaces; s++) {
+                    receipt.append(' ');
+                }
+                column += spaces;
+            } else if (c >= 0x20 && c != 0x7F) {
+                print(c, receipt, encoder);
+            }
+        }
+    }
+
+    /**
+     * 끝나지 않은 마지막 줄을 마친다
+     */
+    public void finish(ReceiptBuilder receipt) {
+        if (pendingHigh != 0) {
+            print(pendingHigh, receipt, receipt.getTextEncoder());
+            pendingHigh = 0;
+        }
+        if (column > 0) {
+            receipt.newLine();
+            column = 0;
+        }
+    }
+
+    private void print(int codePoint, ReceiptBuilder receipt, KoreanTextEncoder encoder) {
+        int start = receipt.size();
+        encoder.encode(codePoint, receipt);
+        place(receipt, start, receipt.size() - start);
+    }
+
+    // 방금 쓴 글자가 줄을 넘으면 글자 앞에 줄바꿈을 끼운다 (2칸 글자가 줄 끝에서 잘리지 않게)
+    // 꽉 찬 줄은 다음 글자가 올 때 바꾸므로 바로 뒤에 오는 줄바꿈이 빈 줄을 만들지 않는다
+    private void place(ReceiptBuilder receipt, int start, int width) {
+        if (column + width <= columns || column == 0) {
+            column += width;
+            return;
+        }
+        byte[] buffer = receipt.reserve(1);
+        System.arraycopy(buffer, start, buffer, start + 1, width);
+        buffer[start] = EscPosCommands.LF;
+        receipt.commit(start + width + 1);
+        column = width;
+    }
+}
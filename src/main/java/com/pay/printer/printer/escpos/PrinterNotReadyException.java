@@ -0,0 +1,18 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : PrinterNotReadyException
+ * @date : 2026-10-17
+ * @description : 용지 없음/커버 열림/응답 없음 등으로 인쇄할 수 없는 상태
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class PrinterNotReadyException extends RuntimeException {
+
+    public PrinterNotReadyException(String message) {
+        super(message);
+    }
+}
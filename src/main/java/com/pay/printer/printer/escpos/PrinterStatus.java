@@ -0,0 +1,81 @@
+package com.pay.printer.printer.escpos;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : PrinterStatus
+ * @date : 2026-10-17
+ * @description : DLE EOT 실시간 상태 응답 (n=1 프린터, n=2 오프라인 원인, n=4 용지 센서)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Getter
+public class PrinterStatus {
+
+    private final boolean offline;
+    private final boolean coverOpen;
+    private final boolean paperEnd;
+    private final boolean paperNearEnd;
+    private final boolean error;
+
+    private PrinterStatus(boolean offline, boolean coverOpen, boolean paperEnd, boolean paperNearEnd, boolean error) {
+        this.offline = offline;
+        this.coverOpen = coverOpen;
+        this.paperEnd = paperEnd;
+        this.paperNearEnd = paperNearEnd;
+        this.error = error;
+    }
+
+    /**
+     * DLE EOT 응답 바이트는 항상 0xx1xx10 형태
+     */
+    public static boolean isStatusByte(int b) {
+        return (b & 0x93) == 0x12;
+    }
+
+    public static PrinterStatus of(int printerStatus, int offlineCause, int paperSensor) {
+        return new PrinterStatus(
+            (printerStatus & 0x08) != 0,   // n=1 bit3: 오프라인
+            (offlineCause & 0x04) != 0,    // n=2 bit2: 커버 열림
+            (offlineCause & 0x20) != 0 || (paperSensor & 0x60) != 0,  // n=2 bit5, n=4 bit5,6: 용지 없음
+            (paperSensor & 0x0C) != 0,     // n=4 bit2,3: 용지 거의 없음
+            (offlineCause & 0x40) != 0);   // n=2 bit6: 오류
+    }
+
+    /**
+     * 인쇄 가능 여부 (용지 거의 없음은 경고만)
+     */
+    public boolean isReady() {
+        return !coverOpen && !paperEnd && !error;
+    }
+
+    public String describe() {
+        List<String> reasons = new ArrayList<>();
+        if (coverOpen) {
+            reasons.add("커버 열림");
+        }
+        if (paperEnd) {
+            reasons.add("용지 없음");
+        }
+        if (error) {
+            reasons.add("프린터 오류");
+        }
+        if (paperNearEnd) {
+            reasons.add("용지 부족");
+        }
+        if (offline && reasons.isEmpty()) {
+            reasons.add("오프라인");
+        }
+        return reasons.isEmpty() ? "정상" : String.join(", ", reasons);
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
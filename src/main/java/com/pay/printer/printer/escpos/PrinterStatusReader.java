@@ -0,0 +1,96 @@
+package com.pay.printer.printer.escpos;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : PrinterStatusReader
+ * @date : 2026-10-17
+ * @description : DLE EOT 실시간 상태 조회 (오프라인/버퍼가 찬 상태에서도 프린터가 바로 응답)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public final class PrinterStatusReader {
+
+    // DLE EOT 1 (프린터 상태), DLE EOT 2 (오프라인 원인), DLE EOT 4 (용지 센서)
+    private static final byte[] STATUS_QUERY = {
+        0x10, 0x04, 0x01,
+        0x10, 0x04, 0x02,
+        0x10, 0x04, 0x04
+    };
+
+    private PrinterStatusReader() {
+    }
+
+    /**
+     * 상태를 조회한다.
+     *
+     * @return 응답이 없으면 null
+     */
+    public static PrinterStatus query(InputStream in, OutputStream out, int timeoutMillis) throws IOException {
+        discardPending(in);
+        out.write(STATUS_QUERY);
+        out.flush();
+
+        int[] response = new int[3];
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (int i = 0; i < response.length; i++) {
+            int b = readByte(in, deadline);
+            // 이전 작업의 응답 등 상태 바이트가 아닌 것은 건너뛴다
+            while (b >= 0 && !PrinterStatus.isStatusByte(b)) {
+                b = readByte(in, deadline);
+            }
+            if (b < 0) {
+                return null;
+            }
+            response[i] = b;
+        }
+        return PrinterStatus.of(response[0], response[1], response[2]);
+    }
+
+    /**
+     * 인쇄 전 확인: 용지 없음/커버 열림/응답 없음이면 예외
+     */
+    public static PrinterStatus requireReady(InputStream in, OutputStream out, int timeoutMillis) throws IOException {
+        PrinterStatus status = query(in, out, timeoutMillis);
+        if (status == null) {
+            throw new PrinterNotReadyException("프린터 응답 없음 (전원/케이블 확인)");
+        }
+        if (!status.isReady()) {
+            throw new PrinterNotReadyException("인쇄할 수 없는 상태: " + status.describe());
+        }
+        return status;
+    }
+
+    /**
+     * deadline 까지 한 바이트를 기다린다.
+     *
+     * @return 시간 초과 시 -1
+     */
+    public static int readByte(InputStream in, long deadline) throws IOException {
+        while (in.available() <= 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return -1;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("상태 응답 대기 중단");
+            }
+        }
+        return in.read();
+    }
+
+    private static void discardPending(InputStream in) throws IOException {
+        int available;
+        while ((available = in.available()) > 0) {
+            in.skip(available);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : QrErrorCorrection
+ * @date : 2026-10-17
+ * @description : QR 코드 오류 정정 수준 (GS ( k fn 169 값)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum QrErrorCorrection {
+    L(48),  // 약 7% 복원
+    M(49),  // 약 15% 복원
+    Q(50),  // 약 25% 복원
+    H(51);  // 약 30% 복원 (구겨지거나 번진 영수증)
+
+    private final int code;
+
+    QrErrorCorrection(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,260 @@
+package com.pay.printer.printer.escpos;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : ReceiptBuilder
+ * @date : 2026-10-17
+ * @description : 영수증 한 장의 명령어/텍스트를 버퍼 하나에 모아서 한 번에 전송
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class ReceiptBuilder {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final KoreanTextEncoder textEncoder;
+
+    private byte[] buffer;
+    private int size;
+
+    // 프린터가 실제로 대기가 필요한 위치 (초기화, 커팅 직후)
+    private int[] pauseOffsets = new int[4];
+    private int[] pauseMillis = new int[4];
+    private int pauseCount;
+
+    // 줄바꿈 바로 뒤 위치 (명령 중간이 아니라서 여기서 나눠 보내도 된다)
+    private int[] lineEnds = new int[16];
+    private int lineEndCount;
+
+    public ReceiptBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ReceiptBuilder(int initialCapacity) {
+        this(null, initialCapacity);
+    }
+
+    public ReceiptBuilder(KoreanTextEncoder textEncoder) {
+        this(textEncoder, DEFAULT_CAPACITY);
+    }
+
+    public ReceiptBuilder(KoreanTextEncoder textEncoder, int initialCapacity) {
+        this.textEncoder = textEncoder;
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * 버퍼를 비운다 (배열은 그대로 재사용)
+     */
+    public ReceiptBuilder reset() {
+        size = 0;
+        pauseCount = 0;
+        lineEndCount = 0;
+        return this;
+    }
+
+    public ReceiptBuilder command(byte[] command) {
+        return append(command, 0, command.length);
+    }
+
+    public ReceiptBuilder append(byte[] data, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(data, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * 미리 만든 바이트를 붙이면서 그 안의 줄 끝도 나눠 보낼 수 있는 곳으로 기록한다
+     *
+     * @param lineEnds data 기준 줄 끝 위치 (offset ~ offset + length 사이, 오름차순)
+     */
+    public ReceiptBuilder append(byte[] data, int offset, int length, int[] lineEnds) {
+        int base = size - offset;
+        append(data, offset, length);
+        for (int end : lineEnds) {
+            markLineEnd(base + end);
+        }
+        return this;
+    }
+
+    public ReceiptBuilder append(int b) {
+        ensureCapacity(size + 1);
+        buffer[size++] = (byte) b;
+        return this;
+    }
+
+    /**
+     * 프린터 초기화 후 initDelayMillis 만큼 대기
+     */
+    public ReceiptBuilder init(int initDelayMillis) {
+        command(EscPosCommands.INIT);
+        return pause(initDelayMillis);
+    }
+
+    public ReceiptBuilder text(String text, Charset charset) {
+        return command(text.getBytes(charset));
+    }
+
+    /**
+     * 설정된 코드페이지로 인코딩해서 버퍼에 바로 쓴다
+     */
+    public ReceiptBuilder text(CharSequence text) {
+        if (textEncoder == null) {
+            throw new IllegalStateException("텍스트 인코더 없이 만든 ReceiptBuilder 입니다.");
+        }
+        int start = size;
+        textEncoder.encode(text, this);
+        // 코드페이지의 2바이트 글자는 둘째 바이트가 0x40 이상이라 LF 는 줄바꿈뿐이다
+        for (int i = start; i < size; i++) {
+            if (buffer[i] == EscPosCommands.LF) {
+                markLineEnd(i + 1);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * width 칸에 맞춰 공백을 채운다 (EUC-KR 한글은 2바이트 = 2칸이라 바이트 수를 칸 수로 본다).
+     * width 보다 길면 자르지 않고 그대로 둔다.
+     */
+    public ReceiptBuilder column(CharSequence text, int width, boolean alignRight) {
+        int start = size;
+        text(text);
+        int padding = width - (size - start);
+        if (padding > 0) {
+            ensureCapacity(size + padding);
+            if (alignRight) {
+                System.arraycopy(buffer, start, buffer, start + padding, size - start);
+                Arrays.fill(buffer, start, start + padding, (byte) ' ');
+            } else {
+                Arrays.fill(buffer, size, size + padding, (byte) ' ');
+            }
+            size += padding;
+        }
+        return this;
+    }
+
+    public KoreanTextEncoder getTextEncoder() {
+        return textEncoder;
+    }
+
+    public ReceiptBuilder newLine() {
+        append(EscPosCommands.LF);
+        markLineEnd(size);
+        return this;
+    }
+
+    public ReceiptBuilder newLines(int count) {
+        ensureCapacity(size + count);
+        for (int i = 0; i < count; i++) {
+            buffer[size++] = EscPosCommands.LF;
+        }
+        markLineEnd(size);
+        return this;
+    }
+
+    /**
+     * 커팅 명령 후 cutDelayMillis 만큼 대기 (다음 작업 데이터가 커팅 중에 들어가지 않도록)
+     */
+    public ReceiptBuilder cut(byte[] cutCommand, int cutDelayMillis) {
+        command(cutCommand);
+        return pause(cutDelayMillis);
+    }
+
+    /**
+     * 현재 위치까지 전송한 뒤 millis 만큼 대기
+     */
+    public ReceiptBuilder pause(int millis) {
+        if (millis <= 0) {
+            return this;
+        }
+        if (pauseCount == pauseOffsets.length) {
+            pauseOffsets = Arrays.copyOf(pauseOffsets, pauseCount * 2);
+            pauseMillis = Arrays.copyOf(pauseMillis, pauseCount * 2);
+        }
+        pauseOffsets[pauseCount] = size;
+        pauseMillis[pauseCount] = millis;
+        pauseCount++;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public byte[] copyOfRange(int from, int to) {
+        return Arrays.copyOfRange(buffer, from, to);
+    }
+
+    /**
+     * newLine 이나 text 의 줄바꿈 뒤 위치 (오름차순) - 긴 영수증을 나눠 보낼 수 있는 곳
+     */
+    public int[] lineEnds() {
+        return Arrays.copyOf(lineEnds, lineEndCount);
+    }
+
+    /**
+     * length 바이트를 쓸 공간을 확보하고 내부 배열을 돌려준다 (size() 위치부터 쓰고 commit 호출)
+     */
+    byte[] reserve(int length) {
+        ensureCapacity(size + length);
+        return buffer;
+    }
+
+    void commit(int newSize) {
+        size = newSize;
+    }
+
+    /**
+     * 대기 지점 사이의 구간을 write 한 번으로 전송한다.
+     * 대기 지점이 없으면 영수증 전체가 write 한 번이다.
+     */
+    public void writeTo(OutputStream out) throws IOException, InterruptedException {
+        writeTo(out, true);
+    }
+
+    /**
+     * @param honorPauses false 면 대기 없이 한 번에 전송 (흐름 제어가 속도를 맞춰 주는 경우)
+     */
+    public void writeTo(OutputStream out, boolean honorPauses) throws IOException, InterruptedException {
+        int offset = 0;
+        for (int i = 0; honorPauses && i < pauseCount; i++) {
+            int end = pauseOffsets[i];
+            if (end > offset) {
+                out.write(buffer, offset, end - offset);
+                offset = end;
+            }
+            out.flush();
+            Thread.sleep(pauseMillis[i]);
+        }
+        if (size > offset) {
+            out.write(buffer, offset, size - offset);
+        }
+        out.flush();
+    }
+
+    private void markLineEnd(int offset) {
+        if (lineEndCount == lineEnds.length) {
+            lineEnds = Arrays.copyOf(lineEnds, lineEndCount * 2);
+        }
+        lineEnds[lineEndCount++] = offset;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
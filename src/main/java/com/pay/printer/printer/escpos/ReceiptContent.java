@@ -0,0 +1,45 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : ReceiptContent
+ * @date : 2026-10-17
+ * @description : 영수증 본문 (초기화/한글 모드/커팅 사이에 들어가는 내용)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@FunctionalInterface
+public interface ReceiptContent {
+
+    void writeTo(ReceiptBuilder receipt);
+
+    /**
+     * 본문이 직접 커팅으로 끝나면 true (마지막 커팅을 중복으로 넣지 않는다)
+     */
+    default boolean endsWithCut() {
+        return false;
+    }
+
+    static ReceiptContent text(String text) {
+        return receipt -> receipt.text(text);
+    }
+
+    /**
+     * 미리 조립한 본문 바이트 (작업 일지에 남긴 본문 등)
+     */
+    static ReceiptContent bytes(byte[] body, boolean endsWithCut) {
+        return new ReceiptContent() {
+            @Override
+            public void writeTo(ReceiptBuilder receipt) {
+                receipt.command(body);
+            }
+
+            @Override
+            public boolean endsWithCut() {
+                return endsWithCut;
+            }
+        };
+    }
+}
@@ -0,0 +1,264 @@
+package com.pay.printer.printer.escpos;
+
+import java.util.Arrays;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : ReceiptLayout
+ * @date : 2026-10-17
+ * @description : 한 줄 칸 수에 맞춘 여러 칸 행(정렬, 단어 줄바꿈, 자르기)을 영수증 버퍼에 바로 쓴다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 글자 폭은 {@link KoreanTextEncoder#width(int)} 의 표로 재고 (한글 2칸), 들어갈 구간을 정한 뒤
+ * 공백과 원문 구간을 버퍼에 바로 인코딩한다. 중간 문자열을 만들지 않는다
+ * (줄바꿈 이외의 제어 문자가 섞인 칸만 그 글자를 뺀 사본을 만든다, 폭 0 이고 명령이 되지 않도록).
+ * <pre>
+ * 아메리카노 (ICE)          2    9,000
+ * 카페라떼                  1    5,000
+ * </pre>
+ */
+public class ReceiptLayout {
+
+    private static final int DEFAULT_GAP = 1;
+
+    private final ReceiptBuilder receipt;
+    private final KoreanTextEncoder encoder;
+    private final int columns;
+    private final int gap;
+
+    // 행마다 재사용 (칸별 너비, 다음 줄에 쓸 위치, 제어 문자를 뺀 칸 값)
+    private int[] widths = new int[4];
+    private int[] positions = new int[4];
+    private CharSequence[] texts = new CharSequence[4];
+
+    // fit() 결과
+    private int segmentEnd;
+    private int segmentWidth;
+    private int nextStart;
+
+    public ReceiptLayout(ReceiptBuilder receipt, int columns) {
+        this(receipt, columns, DEFAULT_GAP);
+    }
+
+    /**
+     * @param gap 칸 사이 공백 수
+     */
+    public ReceiptLayout(ReceiptBuilder receipt, int columns, int gap) {
+        if (receipt.getTextEncoder() == null) {
+            throw new IllegalStateException("텍스트 인코더 없이 만든 ReceiptBuilder 입니다.");
+        }
+        if (columns <= 0) {
+            throw new IllegalArgumentException("한 줄 칸 수는 1 이상이어야 합니다: " + columns);
+        }
+        this.receipt = receipt;
+        this.encoder = receipt.getTextEncoder();
+        this.columns = columns;
+        this.gap = gap;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * 한 줄 전체를 쓰는 텍스트 (넘치면 단어 단위로 줄을 바꾼다)
+     */
+    public ReceiptLayout text(CharSequence text, TextAlign align) {
+        return row(new LayoutColumn[]{LayoutColumn.full(align)}, text);
+    }
+
+    /**
+     * 가로줄 (fill 글자로 한 줄을 채운다, 2칸 글자면 절반 개수, 제어 문자면 빈 줄)
+     */
+    public ReceiptLayout rule(char fill) {
+        if (Character.isISOControl(fill)) {
+            receipt.newLine();
+            return this;
+        }
+        int width = Math.max(1, encoder.width(fill));
+        for (int i = 0; i + width <= columns; i += width) {
+            encoder.encode(fill, receipt);
+        }
+        receipt.newLine();
+        return this;
+    }
+
+    /**
+     * 칸마다 정렬해서 한 행을 쓴다. 줄바꿈 칸이 넘치면 모든 칸이 끝날 때까지 여러 줄이 된다.
+     *
+     * @throws IllegalArgumentException 칸 너비 합이 한 줄보다 긴 경우
+     */
+    public ReceiptLayout row(LayoutColumn[] layout, CharSequence... cells) {
+        int count = layout.length;
+        resolveWidths(layout);
+        for (int i = 0; i < count; i++) {
+            positions[i] = 0;
+            texts[i] = i < cells.length && cells[i] != null ? KoreanTextEncoder.stripControls(cells[i]) : "";
+        }
+
+        boolean more = true;
+        while (more) {
+            more = false;
+            int pendingSpaces = 0;
+            for (int i = 0; i < count; i++) {
+                CharSequence text = texts[i];
+                if (i > 0) {
+                    pendingSpaces += gap;
+                }
+                int start = positions[i];
+                fit(text, start, widths[i], layout[i].isWrap());
+                int padding = widths[i] - segmentWidth;
+                int left = layout[i].getAlign() == TextAlign.RIGHT ? padding
+                    : layout[i].getAlign() == TextAlign.CENTER ? padding / 2 : 0;
+                if (segmentEnd > start) {
+                    spaces(pendingSpaces + left);
+                    encoder.encode(text, start, segmentEnd, receipt);
+                    pendingSpaces = padding - left;
+                } else {
+                    pendingSpaces += widths[i];
+                }
+                positions[i] = nextStart;
+                if (nextStart < text.length()) {
+                    more = true;
+                }
+            }
+            // 줄 끝 공백은 보내지 않는다
+            receipt.newLine();
+        }
+        Arrays.fill(texts, 0, count, null);
+        return this;
+    }
+
+    /**
+     * 칸 너비 합이 한 줄에 들어가는지 확인한다 (요청을 받을 때 미리 검사)
+     *
+     * @throws IllegalArgumentException 칸 너비 합이 한 줄보다 긴 경우
+     */
+    public static void validate(LayoutColumn[] layout, int columns) {
+        remaining(layout, columns, DEFAULT_GAP);
+    }
+
+    // 0 칸은 남은 칸을 나눠 가진다
+    private void resolveWidths(LayoutColumn[] layout) {
+        int count = layout.length;
+        if (widths.length < count) {
+            widths = new int[count];
+            positions = new int[count];
+            texts = new CharSequence[count];
+        }
+        int remaining = remaining(layout, columns, gap);
+        int flexible = 0;
+        for (LayoutColumn column : layout) {
+            if (column.getWidth() == 0) {
+                flexible++;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int width = layout[i].getWidth();
+            if (width == 0) {
+                // 나머지는 앞 칸부터 하나씩
+                width = remaining / flexible + (remaining % flexible > 0 ? 1 : 0);
+                remaining -= width;
+                flexible--;
+            }
+            widths[i] = width;
+        }
+    }
+
+    // 고정 칸과 칸 사이 공백을 빼고 남는 칸 수
+    private static int remaining(LayoutColumn[] layout, int columns, int gap) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("한 줄 칸 수는 1 이상이어야 합니다: " + columns);
+        }
+        int fixed = gap * Math.max(0, layout.length - 1);
+        int flexible = 0;
+        for (LayoutColumn column : layout) {
+            fixed += column.getWidth();
+            if (column.getWidth() == 0) {
+                flexible++;
+            }
+        }
+        int remaining = columns - fixed;
+        if (remaining < flexible) {
+            throw new IllegalArgumentException("칸 너비 합(" + fixed + ")이 한 줄(" + columns + "칸)보다 깁니다.");
+        }
+        return remaining;
+    }
+
+    /**
+     * text[start..) 에서 limit 칸에 들어가는 구간을 찾는다 (segmentEnd, segmentWidth, nextStart).
+     * 줄바꿈이면 마지막 공백에서 자르고 (공백이 없으면 글자 단위), 자르기면 나머지를 버린다.
+     */
+    private void fit(CharSequence text, int start, int limit, boolean wrap) {
+        int length = text.length();
+        int width = 0;
+        int i = start;
+        int breakEnd = -1;
+        int breakWidth = 0;
+        while (i < length) {
+            int c = Character.codePointAt(text, i);
+            if (c == '\n') {
+                finishSegment(text, start, i, width);
+                nextStart = wrap ? i + 1 : length;
+                return;
+            }
+            // 서로게이트 쌍은 한 글자로 재고 가운데서 자르지 않는다
+            int w = encoder.width(c);
+            if (width + w > limit) {
+                break;
+            }
+            if (c == ' ') {
+                breakEnd = i;
+                breakWidth = width;
+            }
+            width += w;
+            i += Character.charCount(c);
+        }
+        if (i == length) {
+            finishSegment(text, start, i, width);
+            nextStart = length;
+            return;
+        }
+        if (!wrap) {
+            finishSegment(text, start, i, width);
+            nextStart = length;
+            return;
+        }
+        if (i == start) {
+            // 칸보다 넓은 글자 하나는 버린다 (칸이 어긋나지 않게)
+            segmentEnd = start;
+            segmentWidth = 0;
+            nextStart = start + Character.charCount(Character.codePointAt(text, start));
+            return;
+        }
+        if (text.charAt(i) != ' ' && breakEnd > start) {
+            i = breakEnd;
+            width = breakWidth;
+        }
+        finishSegment(text, start, i, width);
+        // 다음 줄 앞의 공백은 건너뛴다
+        while (i < length && text.charAt(i) == ' ') {
+            i++;
+        }
+        nextStart = i;
+    }
+
+    // 구간 끝 공백은 폭에서 빼서 오른쪽/가운데 정렬이 밀리지 않게 한다
+    private void finishSegment(CharSequence text, int start, int end, int width) {
+        while (end > start && text.charAt(end - 1) == ' ') {
+            end--;
+            width -= encoder.width(' ');
+        }
+        segmentEnd = end;
+        segmentWidth = width;
+    }
+
+    private void spaces(int count) {
+        for (int i = 0; i < count; i++) {
+            receipt.append(' ');
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.pay.printer.printer.escpos;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : StatusPollingOutputStream
+ * @date : 2026-10-17
+ * @description : 흐름 제어 신호가 없는 케이블용 전송 조절 (FlowControl.STATUS_POLL)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class StatusPollingOutputStream extends FilterOutputStream {
+
+    // GS r 1 - 실시간 명령이 아니라서 앞의 데이터를 다 처리한 뒤에 응답한다
+    private static final byte[] TRANSMIT_STATUS = {0x1D, 0x72, 0x01};
+
+    // 응답을 기다리지 않고 보내 둘 구간 수 (프린터가 쉬지 않도록 두 구간을 겹쳐 보낸다)
+    private static final int MAX_PENDING = 2;
+
+    private final InputStream in;
+    private final int chunkSize;
+    private final int drainTimeoutMillis;
+    private final int statusTimeoutMillis;
+
+    private int bytesInChunk;
+    private int pending;
+
+    /**
+     * @param receiveBufferSize   프린터 수신 버퍼 크기 (버퍼 절반씩 끊어서 보낸다)
+     * @param drainTimeoutMillis  한 구간을 처리할 때까지 기다릴 최대 시간
+     * @param statusTimeoutMillis 응답이 없을 때 DLE EOT 로 원인을 확인할 시간
+     */
+    public StatusPollingOutputStream(OutputStream out, InputStream in, int receiveBufferSize,
+                                     int drainTimeoutMillis, int statusTimeoutMillis) {
+        super(out);
+        this.in = in;
+        this.chunkSize = Math.max(64, receiveBufferSize / MAX_PENDING - TRANSMIT_STATUS.length);
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        this.statusTimeoutMillis = statusTimeoutMillis;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = Math.min(len, chunkSize - bytesInChunk);
+            out.write(b, off, n);
+            off += n;
+            len -= n;
+            bytesInChunk += n;
+            if (bytesInChunk == chunkSize) {
+                endChunk();
+            }
+        }
+    }
+
+    /**
+     * 보낸 데이터를 프린터가 모두 처리할 때까지 기다린다 (작업 끝에서 호출)
+     */
+    public void finish() throws IOException {
+        if (bytesInChunk > 0) {
+            endChunk();
+        }
+        while (pending > 0) {
+            awaitChunk();
+        }
+        out.flush();
+    }
+
+    private void endChunk() throws IOException {
+        out.write(TRANSMIT_STATUS);
+        out.flush();
+        bytesInChunk = 0;
+        pending++;
+        if (pending >= MAX_PENDING) {
+            awaitChunk();
+        }
+    }
+
+    private void awaitChunk() throws IOException {
+        int b = PrinterStatusReader.readByte(in, System.currentTimeMillis() + drainTimeoutMillis);
+        if (b < 0) {
+            // 용지 없음/커버 열림이면 프린터가 멈춰서 응답하지 않는다
+            PrinterStatus status = PrinterStatusReader.query(in, out, statusTimeoutMillis);
+            throw new PrinterNotReadyException("프린터가 데이터를 처리하지 않습니다: "
+                + (status == null ? "응답 없음" : status.describe()));
+        }
+        pending--;
+    }
+}
@@ -0,0 +1,196 @@
+package com.pay.printer.printer.escpos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : SymbolEncoder
+ * @date : 2026-10-17
+ * @description : QR 코드(GS ( k)와 1차원 바코드(GS k) 명령을 만든다 (프린터가 직접 그린다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 이미지로 보내면 QR 하나가 수 KB 인데, 명령으로 보내면 내용 + 수십 바이트다.
+ * 같은 내용(매장 결제 QR 등)은 만든 명령을 캐시해서 다시 쓴다.
+ */
+@Component
+public class SymbolEncoder {
+
+    // QR 모델 2 최대 데이터 (GS ( k fn 180, 바이트 모드 40-L 기준)
+    public static final int MAX_QR_BYTES = 7089;
+
+    // 이보다 긴 내용은 캐시하지 않는다 (주문번호, 결제 URL 같은 짧은 반복 내용 대상)
+    private static final int MAX_CACHED_LENGTH = 512;
+
+    private static final byte[] QR_MODEL_2 = {0x1D, 0x28, 0x6B, 0x04, 0x00, 0x31, 0x41, 0x32, 0x00};
+    private static final byte[] QR_PRINT = {0x1D, 0x28, 0x6B, 0x03, 0x00, 0x31, 0x51, 0x30};
+
+    private final LruCache<String, byte[]> cache;
+
+    public SymbolEncoder(@Value("${printer.symbol.cache-size:32}") int cacheSize) {
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    public LruCache<String, byte[]> getCache() {
+        return cache;
+    }
+
+    /**
+     * QR 코드 (모델 2). 내용은 UTF-8 바이트로 보낸다.
+     *
+     * @param moduleSize 점 하나의 크기 1~16 (dot)
+     * @throws IllegalArgumentException 내용이 비었거나 너무 긴 경우, 크기가 범위 밖인 경우
+     */
+    public byte[] qr(String data, int moduleSize, QrErrorCorrection level) {
+        if (moduleSize < 1 || moduleSize > 16) {
+            throw new IllegalArgumentException("QR 모듈 크기는 1~16 입니다: " + moduleSize);
+        }
+        return cached("qr|" + moduleSize + "|" + level + "|", data, () -> qrCommand(data, moduleSize, level));
+    }
+
+    /**
+     * 1차원 바코드. 높이/막대 폭/HRI 위치를 설정한 뒤 출력한다 (설정은 ESC @ 전까지 유지된다).
+     *
+     * @param height      막대 높이 1~255 (dot)
+     * @param moduleWidth 가장 가는 막대 폭 2~6 (dot)
+     * @throws IllegalArgumentException 바코드 종류에 맞지 않는 내용, 범위 밖의 설정
+     */
+    public byte[] barcode(BarcodeType type, String data, int height, int moduleWidth, HriPosition hri) {
+        if (height < 1 || height > 255) {
+            throw new IllegalArgumentException("바코드 높이는 1~255 입니다: " + height);
+        }
+        if (moduleWidth < 2 || moduleWidth > 6) {
+            throw new IllegalArgumentException("바코드 막대 폭은 2~6 입니다: " + moduleWidth);
+        }
+        return cached(type + "|" + height + "|" + moduleWidth + "|" + hri + "|", data,
+            () -> barcodeCommand(type, data, height, moduleWidth, hri));
+    }
+
+    private byte[] cached(String options, String data, Supplier<byte[]> encode) {
+        if (data == null || data.isEmpty()) {
+            throw new IllegalArgumentException("바코드/QR 내용이 없습니다.");
+        }
+        if (data.length() > MAX_CACHED_LENGTH) {
+            return encode.get();
+        }
+        String key = options + data;
+        byte[] command = cache.get(key);
+        if (command == null) {
+            command = encode.get();
+            cache.put(key, command);
+        }
+        return command;
+    }
+
+    // fn 165 모델, 167 크기, 169 오류 정정, 180 저장, 181 출력
+    private static byte[] qrCommand(String data, int moduleSize, QrErrorCorrection level) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_QR_BYTES) {
+            throw new IllegalArgumentException("QR 내용이 너무 깁니다: " + bytes.length + "바이트 (최대 " + MAX_QR_BYTES + ")");
+        }
+        ReceiptBuilder command = new ReceiptBuilder(QR_MODEL_2.length + 16 + bytes.length + QR_PRINT.length)
+            .command(QR_MODEL_2)
+            .command(new byte[]{0x1D, 0x28, 0x6B, 0x03, 0x00, 0x31, 0x43, (byte) moduleSize})
+            .command(new byte[]{0x1D, 0x28, 0x6B, 0x03, 0x00, 0x31, 0x45, (byte) level.getCode()});
+        int length = bytes.length + 3;
+        command.command(new byte[]{0x1D, 0x28, 0x6B, (byte) length, (byte) (length >> 8), 0x31, 0x50, 0x30})
+            .command(bytes)
+            .command(QR_PRINT);
+        return command.toByteArray();
+    }
+
+    private static byte[] barcodeCommand(BarcodeType type, String data, int height, int moduleWidth, HriPosition hri) {
+        byte[] bytes = barcodeData(type, data);
+        if (bytes.length > 255) {
+            throw new IllegalArgumentException("바코드 내용이 너무 깁니다: " + data.length() + "자");
+        }
+        return new ReceiptBuilder(11 + 3 + bytes.length)
+            .command(new byte[]{0x1D, 0x68, (byte) height})
+            .command(new byte[]{0x1D, 0x77, (byte) moduleWidth})
+            .command(new byte[]{0x1D, 0x48, (byte) hri.ordinal()})
+            .command(new byte[]{0x1D, 0x6B, (byte) type.getCode(), (byte) bytes.length})
+            .command(bytes)
+            .toByteArray();
+    }
+
+    // 종류별 글자/길이 검사 (프린터는 잘못된 내용을 말없이 무시하므로 접수할 때 거절한다)
+    static byte[] barcodeData(BarcodeType type, String data) {
+        switch (type) {
+            case UPC_A:
+                return digits(type, data, 11, 12);
+            case UPC_E:
+                return digits(type, data, 6, 8);
+            case EAN13:
+                return digits(type, data, 12, 13);
+            case EAN8:
+                return digits(type, data, 7, 8);
+            case ITF:
+                if (data.length() % 2 != 0) {
+                    throw new IllegalArgumentException("ITF 바코드는 짝수 자리 숫자입니다: " + data);
+                }
+                return digits(type, data, 2, 254);
+            case CODE39:
+                return ascii(type, data, "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./");
+            case CODABAR:
+                return ascii(type, data, "0123456789ABCDabcd$+-./:");
+            case CODE93:
+                return ascii(type, data, null);
+            case CODE128:
+                return code128(data);
+            default:
+                throw new IllegalStateException(type.name());
+        }
+    }
+
+    private static byte[] digits(BarcodeType type, String data, int min, int max) {
+        if (data.length() < min || data.length() > max) {
+            throw new IllegalArgumentException(type + " 바코드는 " + min + "~" + max + "자리 숫자입니다: " + data);
+        }
+        return ascii(type, data, "0123456789");
+    }
+
+    // allowed 가 null 이면 ASCII 0~127 전체
+    private static byte[] ascii(BarcodeType type, String data, String allowed) {
+        byte[] bytes = new byte[data.length()];
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c > 0x7F || (allowed != null && allowed.indexOf(c) < 0)) {
+                throw new IllegalArgumentException(type + " 바코드에 쓸 수 없는 글자입니다: '" + c + "'");
+            }
+            bytes[i] = (byte) c;
+        }
+        return bytes;
+    }
+
+    // 숫자만 4자리 이상 짝수 개면 코드 세트 C (두 자리가 1바이트, 바코드 폭도 절반), 그 외는 코드 세트 B
+    private static byte[] code128(String data) {
+        boolean numeric = data.length() >= 4 && data.length() % 2 == 0 && data.chars().allMatch(c -> c >= '0' && c <= '9');
+        if (numeric) {
+            byte[] bytes = new byte[2 + data.length() / 2];
+            bytes[0] = '{';
+            bytes[1] = 'C';
+            for (int i = 0; i < data.length(); i += 2) {
+                bytes[2 + i / 2] = (byte) ((data.charAt(i) - '0') * 10 + data.charAt(i + 1) - '0');
+            }
+            return bytes;
+        }
+        byte[] printable = ascii(BarcodeType.CODE128, data, null);
+        ReceiptBuilder bytes = new ReceiptBuilder(printable.length + 4).append('{').append('B');
+        for (byte b : printable) {
+            if (b < 0x20) {
+                throw new IllegalArgumentException("CODE128 바코드에 쓸 수 없는 글자입니다: " + b);
+            }
+            // 내용의 { 는 {{ 로 보낸다 (코드 세트 전환과 구분)
+            if (b == '{') {
+                bytes.append('{');
+            }
+            bytes.append(b);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,17 @@
+package com.pay.printer.printer.escpos;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : TextAlign
+ * @date : 2026-10-17
+ * @description : 레이아웃 칸 안의 정렬 (공백으로 맞춘다, ESC a 명령이 아니다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum TextAlign {
+    LEFT,
+    CENTER,
+    RIGHT
+}
@@ -0,0 +1,16 @@
+package com.pay.printer.printer.image;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : Dithering
+ * @date : 2026-10-17
+ * @description : 흑백 변환 방식
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum Dithering {
+    THRESHOLD,        // 밝기 기준값으로 자르기 (로고, 글자, 서명)
+    FLOYD_STEINBERG   // 오차 확산 (사진, 그라데이션)
+}
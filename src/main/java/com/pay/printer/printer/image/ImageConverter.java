@@ -0,0 +1,116 @@
+package com.pay.printer.printer.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : ImageConverter
+ * @date : 2026-10-17
+ * @description : 이미지를 인쇄 폭에 맞추고 1비트로 변환 (밝기 계산/디더링은 int 배열에서 바로 처리)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public final class ImageConverter {
+
+    // 이 밝기보다 어두우면 검정 (0 ~ 255)
+    private static final int THRESHOLD = 128;
+
+    private ImageConverter() {
+    }
+
+    /**
+     * @param width 변환할 폭 (dot). 원본이 더 좁으면 원본 폭 그대로 쓴다.
+     */
+    public static RasterImage convert(BufferedImage source, int width, Dithering dithering) {
+        int targetWidth = Math.max(1, Math.min(width, source.getWidth()));
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        int[] gray = toGray(scale(source, targetWidth, targetHeight));
+        return dithering == Dithering.FLOYD_STEINBERG
+            ? floydSteinberg(gray, targetWidth, targetHeight)
+            : threshold(gray, targetWidth, targetHeight);
+    }
+
+    // 투명한 부분은 흰색으로 채우고 크기를 맞춘다
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static int[] toGray(BufferedImage image) {
+        int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i];
+            // 0.299 R + 0.587 G + 0.114 B 를 정수로 계산
+            pixels[i] = (((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8;
+        }
+        return pixels;
+    }
+
+    static RasterImage threshold(int[] gray, int width, int height) {
+        int bytesPerRow = (width + 7) / 8;
+        byte[] data = new byte[bytesPerRow * height];
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int rowOut = y * bytesPerRow;
+            for (int x = 0; x < width; x++) {
+                if (gray[row + x] < THRESHOLD) {
+                    data[rowOut + (x >> 3)] |= (byte) (0x80 >>> (x & 7));
+                }
+            }
+        }
+        return new RasterImage(width, height, data);
+    }
+
+    /**
+     * Floyd–Steinberg 오차 확산 (gray 배열을 그대로 고쳐 쓴다)
+     */
+    static RasterImage floydSteinberg(int[] gray, int width, int height) {
+        int bytesPerRow = (width + 7) / 8;
+        byte[] data = new byte[bytesPerRow * height];
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int rowOut = y * bytesPerRow;
+            boolean lastRow = y == height - 1;
+            for (int x = 0; x < width; x++) {
+                int i = row + x;
+                int value = gray[i];
+                int error;
+                if (value < THRESHOLD) {
+                    data[rowOut + (x >> 3)] |= (byte) (0x80 >>> (x & 7));
+                    error = value;
+                } else {
+                    error = value - 255;
+                }
+                // 오른쪽 7/16, 왼쪽 아래 3/16, 아래 5/16, 오른쪽 아래 1/16
+                if (x + 1 < width) {
+                    gray[i + 1] += error * 7 >> 4;
+                }
+                if (!lastRow) {
+                    if (x > 0) {
+                        gray[i + width - 1] += error * 3 >> 4;
+                    }
+                    gray[i + width] += error * 5 >> 4;
+                    if (x + 1 < width) {
+                        gray[i + width + 1] += error >> 4;
+                    }
+                }
+            }
+        }
+        return new RasterImage(width, height, data);
+    }
+}
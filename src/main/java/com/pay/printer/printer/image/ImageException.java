@@ -0,0 +1,18 @@
+package com.pay.printer.printer.image;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : ImageException
+ * @date : 2026-10-17
+ * @description : 이미지를 읽을 수 없거나 등록되지 않은 로고
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class ImageException extends RuntimeException {
+
+    public ImageException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pay.printer.printer.image;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : ImageMode
+ * @date : 2026-10-17
+ * @description : 이미지 출력 명령
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum ImageMode {
+    RASTER,   // GS v 0 (대부분의 프린터)
+    COLUMN,   // ESC * 33 (GS v 0 을 지원하지 않는 구형 프린터)
+    GRAPHICS  // GS ( L fn 112 - 빈 띠는 종이 밀기로 대신하고, 지원하는 기종은 압축 (느린 시리얼 연결)
+}
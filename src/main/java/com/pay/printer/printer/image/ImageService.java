@@ -0,0 +1,82 @@
+package com.pay.printer.printer.image;
+
+import com.pay.printer.printer.escpos.LruCache;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : ImageService
+ * @date : 2026-10-17
+ * @description : 이미지 파일을 프린터용 1비트 이미지로 변환 (같은 이미지/폭/변환 방식은 한 번만 변환)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Component
+public class ImageService {
+
+    private final LruCache<String, RasterImage> cache;
+
+    public ImageService(@Value("${printer.images.cache-size:32}") int cacheSize) {
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * @param imageData PNG/JPEG/GIF/BMP 파일 내용
+     * @throws ImageException 읽을 수 없는 이미지
+     */
+    public RasterImage convert(byte[] imageData, int width, Dithering dithering) {
+        String key = sha256(imageData) + ":" + width + ":" + dithering;
+        RasterImage image = cache.get(key);
+        if (image != null) {
+            return image;
+        }
+
+        BufferedImage source = read(imageData);
+        long started = System.nanoTime();
+        image = ImageConverter.convert(source, width, dithering);
+        log.debug("이미지 변환 {}x{} -> {}x{} ({}, {}ms)", source.getWidth(), source.getHeight(),
+            image.getWidth(), image.getHeight(), dithering, (System.nanoTime() - started) / 1_000_000);
+        cache.put(key, image);
+        return image;
+    }
+
+    public LruCache<String, RasterImage> getCache() {
+        return cache;
+    }
+
+    private static BufferedImage read(byte[] imageData) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+            if (image == null) {
+                throw new ImageException("지원하지 않는 이미지 형식입니다.");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new ImageException("이미지를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
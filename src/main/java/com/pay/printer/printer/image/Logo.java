@@ -0,0 +1,46 @@
+package com.pay.printer.printer.image;
+
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import lombok.Getter;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : Logo
+ * @date : 2026-10-17
+ * @description : 영수증마다 반복되는 이미지 (상호 로고, 서명 등)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Getter
+public class Logo {
+
+    private final String name;
+    private final RasterImage image;
+
+    // NV 메모리 키 코드 (32 ~ 126)
+    private final int keyCode1;
+    private final int keyCode2;
+
+    // 모든 프린터의 NV 메모리에 등록되었으면 짧은 출력 명령만 보낸다
+    private volatile boolean storedInNv;
+
+    Logo(String name, RasterImage image, int keyCode1, int keyCode2) {
+        this.name = name;
+        this.image = image;
+        this.keyCode1 = keyCode1;
+        this.keyCode2 = keyCode2;
+    }
+
+    void setStoredInNv(boolean storedInNv) {
+        this.storedInNv = storedInNv;
+    }
+
+    public ReceiptBuilder writeTo(ReceiptBuilder receipt, ImageMode mode) {
+        if (storedInNv) {
+            return RasterCommands.printNvImage(receipt, keyCode1, keyCode2);
+        }
+        return RasterCommands.image(receipt, image, mode);
+    }
+}
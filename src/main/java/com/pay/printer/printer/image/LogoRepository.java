@@ -0,0 +1,127 @@
+package com.pay.printer.printer.image;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.service.PrinterService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : LogoRepository
+ * @date : 2026-10-17
+ * @description : 변환해 둔 로고 보관 및 프린터 NV 메모리 등록
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Component
+public class LogoRepository {
+
+    // NV 키 코드로 쓸 수 있는 문자 범위 (32 ~ 126 중 공백 제외)
+    private static final int KEY_CODE_FIRST = 33;
+    private static final int KEY_CODE_COUNT = 126 - KEY_CODE_FIRST + 1;
+
+    private final ImageService imageService;
+    private final PrinterService printerService;
+    private final String location;
+    private final int logoWidth;
+
+    private final ConcurrentMap<String, Logo> logos = new ConcurrentHashMap<>();
+    private final AtomicInteger nextKey = new AtomicInteger();
+
+    public LogoRepository(ImageService imageService, PrinterService printerService,
+                          @Value("${printer.images.location:classpath*:logos/*.png}") String location,
+                          @Value("${printer.images.logo-width:384}") int logoWidth) {
+        this.imageService = imageService;
+        this.printerService = printerService;
+        this.location = location;
+        this.logoWidth = logoWidth;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            String filename = resource.getFilename();
+            if (filename == null || filename.lastIndexOf('.') <= 0) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                register(filename.substring(0, filename.lastIndexOf('.')), in.readAllBytes(), logoWidth, Dithering.THRESHOLD);
+            }
+        }
+        if (!logos.isEmpty()) {
+            log.info("로고 {}개 로드: {}", logos.size(), getNames());
+        }
+    }
+
+    /**
+     * 이미지를 변환해서 등록한다 (같은 이름이면 교체, NV 등록은 다시 해야 한다)
+     *
+     * @throws ImageException 읽을 수 없는 이미지
+     */
+    public Logo register(String name, byte[] imageData, int width, Dithering dithering) {
+        RasterImage image = imageService.convert(imageData, width, dithering);
+        Logo previous = logos.get(name);
+        int key = previous == null ? nextKey.getAndIncrement() : keyIndex(previous);
+        if (key >= KEY_CODE_COUNT * KEY_CODE_COUNT) {
+            throw new ImageException("등록할 수 있는 로고 수를 넘었습니다.");
+        }
+        Logo logo = new Logo(name, image, KEY_CODE_FIRST + key / KEY_CODE_COUNT, KEY_CODE_FIRST + key % KEY_CODE_COUNT);
+        logos.put(name, logo);
+        return logo;
+    }
+
+    /**
+     * @throws ImageException 등록되지 않은 이름
+     */
+    public Logo get(String name) {
+        Logo logo = name == null ? null : logos.get(name);
+        if (logo == null) {
+            throw new ImageException("등록되지 않은 로고: " + name);
+        }
+        return logo;
+    }
+
+    public boolean contains(String name) {
+        return logos.containsKey(name);
+    }
+
+    public Set<String> getNames() {
+        return new TreeSet<>(logos.keySet());
+    }
+
+    /**
+     * 모든 프린터의 NV 메모리에 로고를 등록한다.
+     * 하나라도 실패하면 계속 래스터로 보낸다 (NV 에 없는 프린터에서 빈 칸이 나오지 않도록).
+     */
+    public void storeInNv(String name, List<PrinterDevice> devices) {
+        Logo logo = get(name);
+        ReceiptBuilder command = RasterCommands.defineNvImage(
+            new ReceiptBuilder(logo.getImage().getData().length + 16), logo.getKeyCode1(), logo.getKeyCode2(), logo.getImage());
+        logo.setStoredInNv(false);
+        for (PrinterDevice device : devices) {
+            printerService.sendCommand(device, command);
+        }
+        logo.setStoredInNv(true);
+        log.info("로고 {} NV 등록 ({} bytes, 프린터 {}대)", name, command.size(), devices.size());
+    }
+
+    private static int keyIndex(Logo logo) {
+        return (logo.getKeyCode1() - KEY_CODE_FIRST) * KEY_CODE_COUNT + logo.getKeyCode2() - KEY_CODE_FIRST;
+    }
+}
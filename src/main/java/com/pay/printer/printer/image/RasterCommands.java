@@ -0,0 +1,259 @@
+package com.pay.printer.printer.image;
+
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : RasterCommands
+ * @date : 2026-10-17
+ * @description : 이미지 출력 / NV 메모리 이미지 등록/출력 명령
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public final class RasterCommands {
+
+    // GS v 0 한 번에 보낼 최대 행 수 (긴 이미지를 한 명령으로 보내면 수신 버퍼가 넘치는 기종이 있다)
+    static final int MAX_BAND_HEIGHT = 256;
+
+    // 이보다 짧은 빈 행은 띠를 나누지 않고 그대로 보낸다 (명령 머리가 더 길다)
+    static final int MIN_BLANK_ROWS = 8;
+
+    // ESC * 33 - 24점 2배 밀도, 한 줄이 세로 24점
+    private static final int COLUMN_STRIPE = 24;
+
+    // ESC J n 한 번에 밀 수 있는 최대 점 수
+    private static final int MAX_FEED = 255;
+
+    // GS ( L fn 112 의 m fn a bx by c xL xH yL yH
+    private static final int GRAPHICS_PARAMS = 10;
+
+    private RasterCommands() {
+    }
+
+    public static ReceiptBuilder image(ReceiptBuilder receipt, RasterImage image, ImageMode mode) {
+        return image(receipt, image, mode, 0);
+    }
+
+    /**
+     * @param compressionFunction GRAPHICS 에서 압축 데이터를 받는 GS ( L 함수 번호 (0 이면 압축 안 함)
+     */
+    public static ReceiptBuilder image(ReceiptBuilder receipt, RasterImage image, ImageMode mode,
+                                       int compressionFunction) {
+        switch (mode) {
+            case COLUMN:
+                return column(receipt, image);
+            case GRAPHICS:
+                return graphics(receipt, image, compressionFunction);
+            default:
+                return raster(receipt, image);
+        }
+    }
+
+    /**
+     * GS v 0 m xL xH yL yH d1...dk
+     */
+    public static ReceiptBuilder raster(ReceiptBuilder receipt, RasterImage image) {
+        int bytesPerRow = image.getBytesPerRow();
+        for (int y = 0; y < image.getHeight(); y += MAX_BAND_HEIGHT) {
+            int rows = Math.min(MAX_BAND_HEIGHT, image.getHeight() - y);
+            receipt.append(EscPosCommands.GS).append('v').append('0').append(0)
+                .append(bytesPerRow & 0xFF).append(bytesPerRow >> 8)
+                .append(rows & 0xFF).append(rows >> 8)
+                .append(image.getData(), y * bytesPerRow, rows * bytesPerRow);
+        }
+        return receipt;
+    }
+
+    /**
+     * GS v 0 으로 보낼 때의 바이트 수 (GRAPHICS 로 줄인 양을 재는 기준)
+     */
+    public static int rasterSize(RasterImage image) {
+        int bands = (image.getHeight() + MAX_BAND_HEIGHT - 1) / MAX_BAND_HEIGHT;
+        return bands * 8 + image.getData().length;
+    }
+
+    /**
+     * 빈 행이 MIN_BLANK_ROWS 이상 이어지면 ESC J 로 종이만 밀고, 나머지는 띠마다
+     * GS ( L fn 112 (인쇄 버퍼에 저장) + fn 50 (인쇄) 로 보낸다.
+     * compressionFunction 이 있으면 띠마다 PackBits 로 압축해 보고 작을 때만 그 함수로 보낸다.
+     * <p>
+     * 압축 래스터를 받는 함수 번호는 제조사/펌웨어마다 달라서 프린터 설정으로 받는다.
+     * ESC J 는 세로 이동 단위가 1점인 것으로 본다 (column 의 ESC 3 과 같은 가정).
+     */
+    public static ReceiptBuilder graphics(ReceiptBuilder receipt, RasterImage image, int compressionFunction) {
+        int bytesPerRow = image.getBytesPerRow();
+        int height = image.getHeight();
+        byte[] packed = compressionFunction == 0 ? null
+            : new byte[maxPackedSize(bytesPerRow * Math.min(height, MAX_BAND_HEIGHT))];
+
+        int top = 0;
+        while (top < height) {
+            int blank = blankRows(image, top, height);
+            if (blank >= MIN_BLANK_ROWS || top + blank == height) {
+                feed(receipt, blank);
+                top += blank;
+                continue;
+            }
+            // 다음 긴 빈 구간(또는 끝의 빈 행) 앞까지를 한 띠로
+            int bottom = top + 1;
+            while (bottom < height && bottom - top < MAX_BAND_HEIGHT) {
+                int run = blankRows(image, bottom, MIN_BLANK_ROWS);
+                if (run >= MIN_BLANK_ROWS || bottom + run == height) {
+                    break;
+                }
+                bottom += Math.max(run, 1);
+            }
+            bottom = Math.min(bottom, top + MAX_BAND_HEIGHT);
+            band(receipt, image, top, bottom - top, compressionFunction, packed);
+            top = bottom;
+        }
+        return receipt;
+    }
+
+    /**
+     * ESC * 33 nL nH d1...dk - 세로 24점 단위로 열마다 3바이트
+     */
+    public static ReceiptBuilder column(ReceiptBuilder receipt, RasterImage image) {
+        int width = image.getWidth();
+        receipt.append(EscPosCommands.ESC).append('3').append(COLUMN_STRIPE);  // 줄 간격 = 24점 (줄 사이 틈 없이)
+        for (int top = 0; top < image.getHeight(); top += COLUMN_STRIPE) {
+            receipt.append(EscPosCommands.ESC).append('*').append(33).append(width & 0xFF).append(width >> 8);
+            for (int x = 0; x < width; x++) {
+                for (int k = 0; k < 3; k++) {
+                    int b = 0;
+                    for (int bit = 0; bit < 8; bit++) {
+                        int y = top + k * 8 + bit;
+                        if (y < image.getHeight() && image.isBlack(x, y)) {
+                            b |= 0x80 >>> bit;
+                        }
+                    }
+                    receipt.append(b);
+                }
+            }
+            receipt.newLine();
+        }
+        return receipt.append(EscPosCommands.ESC).append('2');  // 기본 줄 간격
+    }
+
+    /**
+     * NV 메모리에 이미지 등록 (GS ( L / GS 8 L fn 67, 래스터 형식).
+     * 플래시에 쓰므로 로고를 바꿀 때만 보낸다.
+     */
+    public static ReceiptBuilder defineNvImage(ReceiptBuilder receipt, int keyCode1, int keyCode2, RasterImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // m fn a kc1 kc2 b xL xH yL yH c = 11 바이트 + 데이터
+        return graphicsLength(receipt, 11L + image.getData().length).append(0x30).append(67).append(0x30)
+            .append(keyCode1).append(keyCode2)
+            .append(1)                                 // 색 1개 (흑백)
+            .append(width & 0xFF).append(width >> 8)
+            .append(height & 0xFF).append(height >> 8)
+            .append(0x31)                              // 색 1
+            .command(image.getData());
+    }
+
+    /**
+     * NV 메모리에 등록된 이미지 출력 (GS ( L fn 69) - 11바이트
+     */
+    public static ReceiptBuilder printNvImage(ReceiptBuilder receipt, int keyCode1, int keyCode2) {
+        return receipt.append(EscPosCommands.GS).append('(').append('L').append(6).append(0)
+            .append(0x30).append(69).append(keyCode1).append(keyCode2)
+            .append(1).append(1);  // 가로/세로 배율 1
+    }
+
+    /**
+     * PackBits (n 0~127: 다음 n+1 바이트 그대로, n -1~-127: 다음 바이트를 1-n 번 반복)
+     *
+     * @return dst 에 쓴 바이트 수
+     */
+    static int packBits(byte[] src, int offset, int length, byte[] dst) {
+        int end = offset + length;
+        int out = 0;
+        int i = offset;
+        while (i < end) {
+            int run = 1;
+            while (i + run < end && run < 128 && src[i + run] == src[i]) {
+                run++;
+            }
+            if (run > 1) {
+                dst[out++] = (byte) (1 - run);
+                dst[out++] = src[i];
+                i += run;
+                continue;
+            }
+            // 같은 바이트가 두 번 이어지기 전까지 그대로
+            int start = i++;
+            while (i < end && i - start < 128 && (i + 1 >= end || src[i] != src[i + 1])) {
+                i++;
+            }
+            dst[out++] = (byte) (i - start - 1);
+            System.arraycopy(src, start, dst, out, i - start);
+            out += i - start;
+        }
+        return out;
+    }
+
+    static int maxPackedSize(int length) {
+        return length + (length + 127) / 128;
+    }
+
+    private static void band(ReceiptBuilder receipt, RasterImage image, int top, int rows,
+                             int compressionFunction, byte[] packed) {
+        int bytesPerRow = image.getBytesPerRow();
+        int offset = top * bytesPerRow;
+        int length = rows * bytesPerRow;
+        int packedLength = packed == null ? length : packBits(image.getData(), offset, length, packed);
+
+        boolean compress = packedLength < length;
+        graphicsLength(receipt, GRAPHICS_PARAMS + (long) (compress ? packedLength : length))
+            .append(0x30).append(compress ? compressionFunction : 112)
+            .append(0x30)                              // 흑백
+            .append(1).append(1)                       // 가로/세로 배율 1
+            .append(0x31)                              // 색 1
+            .append(image.getWidth() & 0xFF).append(image.getWidth() >> 8)
+            .append(rows & 0xFF).append(rows >> 8);
+        if (compress) {
+            receipt.append(packed, 0, packedLength);
+        } else {
+            receipt.append(image.getData(), offset, length);
+        }
+        // fn 50 - 인쇄 버퍼의 그래픽 인쇄
+        receipt.append(EscPosCommands.GS).append('(').append('L').append(2).append(0).append(0x30).append(50);
+    }
+
+    // GS ( L pL pH (65535 바이트 이하) / GS 8 L p1 p2 p3 p4
+    private static ReceiptBuilder graphicsLength(ReceiptBuilder receipt, long length) {
+        if (length <= 0xFFFF) {
+            return receipt.append(EscPosCommands.GS).append('(').append('L')
+                .append((int) (length & 0xFF)).append((int) (length >> 8));
+        }
+        return receipt.append(EscPosCommands.GS).append('8').append('L')
+            .append((int) (length & 0xFF)).append((int) (length >> 8 & 0xFF))
+            .append((int) (length >> 16 & 0xFF)).append((int) (length >> 24 & 0xFF));
+    }
+
+    // from 부터 이어지는 빈 행 수 (limit 까지만 센다)
+    private static int blankRows(RasterImage image, int from, int limit) {
+        byte[] data = image.getData();
+        int bytesPerRow = image.getBytesPerRow();
+        int end = Math.min(image.getHeight(), from + limit);
+        for (int y = from; y < end; y++) {
+            for (int i = y * bytesPerRow, last = i + bytesPerRow; i < last; i++) {
+                if (data[i] != 0) {
+                    return y - from;
+                }
+            }
+        }
+        return end - from;
+    }
+
+    // ESC J n - n 점만큼 종이 밀기
+    private static void feed(ReceiptBuilder receipt, int dots) {
+        for (int left = dots; left > 0; left -= MAX_FEED) {
+            receipt.append(EscPosCommands.ESC).append('J').append(Math.min(left, MAX_FEED));
+        }
+    }
+}
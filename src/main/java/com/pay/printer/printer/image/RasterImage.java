@@ -0,0 +1,36 @@
+package com.pay.printer.printer.image;
+
+import lombok.Getter;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : RasterImage
+ * @date : 2026-10-17
+ * @description : 프린터용 1비트 이미지 (행 단위, 한 바이트에 가로 8점, 상위 비트가 왼쪽, 1 = 검정)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Getter
+public class RasterImage {
+
+    private final int width;
+    private final int height;
+    private final int bytesPerRow;
+    private final byte[] data;
+
+    public RasterImage(int width, int height, byte[] data) {
+        this.width = width;
+        this.height = height;
+        this.bytesPerRow = (width + 7) / 8;
+        if (data.length != bytesPerRow * height) {
+            throw new IllegalArgumentException("이미지 크기와 데이터 길이가 맞지 않습니다.");
+        }
+        this.data = data;
+    }
+
+    public boolean isBlack(int x, int y) {
+        return (data[y * bytesPerRow + (x >> 3)] & (0x80 >>> (x & 7))) != 0;
+    }
+}
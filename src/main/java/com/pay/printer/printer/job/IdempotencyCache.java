@@ -0,0 +1,164 @@
+package com.pay.printer.printer.job;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : IdempotencyCache
+ * @date : 2026-10-17
+ * @description : 같은 요청 키로 다시 온 인쇄 요청에 새로 인쇄하지 않고 처음 접수한 작업을 돌려준다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * POS 가 HTTP 시간 초과로 재시도해도 영수증이 두 번 나오지 않게 한다.
+ * 키를 못 보내는 단말은 content-hash 를 켜면 프린터 + 내용의 해시를 키로 쓴다
+ * (같은 주문이 정말 두 번 나올 수도 있어서 짧은 시간만 본다).
+ * <p>
+ * 조회는 ConcurrentHashMap.get 이라 잠금이 없다. 처음 접수할 때는 putIfAbsent 로 자리만 잡고
+ * (맵 잠금은 그 순간뿐), 라우팅/이미지 변환/대기열 접수는 맵 밖에서 한다. 같은 키로 동시에 온 재시도는
+ * 그 자리의 결과를 기다린다. 접수가 실패하면 자리를 지워서 다음 재시도가 다시 접수한다.
+ * <p>
+ * 키는 엔드포인트(scope)별로 따로 본다 (같은 키가 /print 와 /print/image 에 와도 서로 다른 요청).
+ */
+@Component
+public class IdempotencyCache {
+
+    private static final String CONTENT_KEY_PREFIX = "#";
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final boolean contentHash;
+    private final Duration contentHashTtl;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public IdempotencyCache(@Value("${printer.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${printer.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${printer.idempotency.content-hash:false}") boolean contentHash,
+                            @Value("${printer.idempotency.content-hash-ttl-seconds:10}") long contentHashTtlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.contentHash = contentHash;
+        this.contentHashTtl = Duration.ofSeconds(contentHashTtlSeconds);
+    }
+
+    /**
+     * scope 안에서 idempotencyKey 로 접수된 결과가 있으면 그 결과를, 없으면 submission 으로 새로 접수한다.
+     * 키가 없으면 content-hash 설정일 때만 content 의 해시를 키로 쓴다.
+     * 재시도는 submission 을 부르지 않으므로 라우팅/상태 확인도 submission 안에서 해야 한다.
+     *
+     * @param scope   엔드포인트 구분 ("text", "image" 등)
+     * @param content 키가 없을 때 해시할 내용 (프린터 ID, 본문 등)
+     * @throws PrintQueueFullException submission 이 거절된 경우 (키는 남기지 않는다)
+     */
+    public <T> Result<T> submit(String scope, String idempotencyKey, Supplier<String> content, Supplier<T> submission) {
+        if (idempotencyKey != null && !idempotencyKey.isEmpty()) {
+            return submit(scope + "|" + idempotencyKey, ttl, submission);
+        }
+        if (contentHash) {
+            return submit(CONTENT_KEY_PREFIX + sha256(scope + "|" + content.get()), contentHashTtl, submission);
+        }
+        return new Result<>(submission.get(), false);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> submit(String key, Duration entryTtl, Supplier<T> submission) {
+        long now = System.nanoTime();
+        Entry created = new Entry(key, now + entryTtl.toNanos());
+        while (true) {
+            Entry current = entries.get(key);
+            if (current != null && !current.isExpired(now)) {
+                try {
+                    return new Result<>((T) current.result.join(), true);
+                } catch (CompletionException e) {
+                    // 먼저 온 요청의 접수가 실패했다 (자리는 지워졌으니 이 요청이 다시 접수한다)
+                    continue;
+                }
+            }
+            boolean placed = current == null
+                ? entries.putIfAbsent(key, created) == null
+                : entries.replace(key, current, created);
+            if (placed) {
+                break;
+            }
+        }
+
+        T result;
+        try {
+            result = submission.get();
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        created.result.complete(result);
+        insertionOrder.add(created);
+        evict(now);
+        return new Result<>(result, false);
+    }
+
+    // 오래된 것부터 만료되었거나 개수를 넘은 만큼 지운다
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+            && (entries.size() > maxEntries || oldest.isExpired(now))) {
+            if (insertionOrder.remove(oldest)) {
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 접수 결과 (duplicate 면 처음 접수한 결과)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Result<T> {
+
+        private final T value;
+        private final boolean duplicate;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+
+        private final String key;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
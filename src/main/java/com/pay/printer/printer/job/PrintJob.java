@@ -0,0 +1,77 @@
+package com.pay.printer.printer.job;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJob
+ * @date : 2026-10-17
+ * @description : 대기열에 들어간 인쇄 작업 한 건
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Getter
+public class PrintJob {
+
+    private final String id;
+    private final PrinterDevice device;
+    private final ReceiptContent content;
+    private final PrintPriority priority;
+    private final Instant createdAt = Instant.now();
+
+    // 작업 스레드에서 바뀌고 HTTP 스레드에서 조회된다
+    private volatile PrintJobStatus status = PrintJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    public PrintJob(PrinterDevice device, ReceiptContent content) {
+        this(device, content, PrintPriority.NORMAL);
+    }
+
+    public PrintJob(PrinterDevice device, ReceiptContent content, PrintPriority priority) {
+        this(UUID.randomUUID().toString(), device, content, priority);
+    }
+
+    // 작업 일지에서 복구한 작업은 접수 때의 ID 를 그대로 쓴다
+    public PrintJob(String id, PrinterDevice device, ReceiptContent content) {
+        this(id, device, content, PrintPriority.NORMAL);
+    }
+
+    public PrintJob(String id, PrinterDevice device, ReceiptContent content, PrintPriority priority) {
+        this.id = id;
+        this.device = device;
+        this.content = content;
+        this.priority = priority;
+    }
+
+    public String getPrinterId() {
+        return device.getId();
+    }
+
+    void markPrinting() {
+        startedAt = Instant.now();
+        status = PrintJobStatus.PRINTING;
+    }
+
+    void markCompleted() {
+        finishedAt = Instant.now();
+        status = PrintJobStatus.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        errorMessage = message;
+        finishedAt = Instant.now();
+        status = PrintJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == PrintJobStatus.COMPLETED || status == PrintJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,312 @@
+package com.pay.printer.printer.job;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.service.PrinterService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJobQueue
+ * @date : 2026-10-17
+ * @description : 프린터(포트)별 전용 작업 스레드가 우선순위 순서로 비우는 인쇄 대기열
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrintJobQueue {
+
+    private final PrinterService printerService;
+    private final PrinterMetrics metrics;
+    private final PrintJournal journal;
+
+    // 프린터별 대기열 크기 (가득 차면 거절)
+    @Value("${printer.queue.capacity:100}")
+    private int capacity;
+
+    // 프린터별 작업 스레드 수 (1이면 접수 순서대로 인쇄)
+    @Value("${printer.queue.writers-per-port:1}")
+    private int writersPerPort;
+
+    // 상태 조회용으로 보관할 완료 작업 수
+    @Value("${printer.queue.retained-jobs:1000}")
+    private int retainedJobs;
+
+    // 이만큼 기다릴 때마다 우선순위를 한 단계 올린다 (0 이면 올리지 않음)
+    @Value("${printer.queue.aging-ms:5000}")
+    private long agingMillis;
+
+    // BULK 작업을 나눠 보낼 구간 크기 (구간 사이에서 급한 작업이 끼어든다)
+    @Value("${printer.queue.bulk-part-bytes:2048}")
+    private int bulkPartBytes;
+
+    private final ConcurrentMap<String, ThreadPoolExecutor> writers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PrintJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedJobIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 작업을 대기열에 넣고 바로 돌아온다.
+     *
+     * @throws PrintQueueFullException 프린터 대기열이 가득 찬 경우
+     */
+    public PrintJob submit(PrinterDevice device, String text) {
+        return submit(device, ReceiptContent.text(text));
+    }
+
+    public PrintJob submit(PrinterDevice device, ReceiptContent content) {
+        return submit(device, content, PrintPriority.NORMAL);
+    }
+
+    /**
+     * BULK 는 접수할 때 줄 끝에서 구간으로 나눠 두고, 구간 사이마다 더 급한 작업이 기다리면 자리를 내준다.
+     *
+     * @throws PrintQueueFullException 프린터 대기열이 가득 찬 경우
+     */
+    public PrintJob submit(PrinterDevice device, ReceiptContent content, PrintPriority priority) {
+        if (priority != PrintPriority.BULK) {
+            PrintJob job = accept(device, content, priority);
+            return enqueue(job, () -> run(job));
+        }
+        List<byte[]> parts = printerService.split(content, bulkPartBytes);
+        PrintJob job = accept(device, new ReceiptContent() {
+            @Override
+            public void writeTo(ReceiptBuilder receipt) {
+                parts.forEach(receipt::command);
+            }
+
+            @Override
+            public boolean endsWithCut() {
+                return content.endsWithCut();
+            }
+        }, priority);
+        return enqueue(job, new PrintSchedule.Task(priority, (PrintSchedule.Task self) -> {
+            start(job);
+            runParts(job, parts, 0, self);
+        }));
+    }
+
+    /**
+     * 작업 일지에서 복구한 작업을 접수 때의 ID 로 다시 넣는다 (일지에는 이미 접수가 남아 있다)
+     *
+     * @throws PrintQueueFullException 프린터 대기열이 가득 찬 경우
+     */
+    public PrintJob resubmit(PrinterDevice device, PrintJournal.Entry entry) {
+        PrintJob job = new PrintJob(entry.getJobId(), device,
+            ReceiptContent.bytes(entry.getBody(), entry.isEndsWithCut()));
+        jobs.put(job.getId(), job);
+        return enqueue(job, () -> run(job));
+    }
+
+    private PrintJob enqueue(PrintJob job, Runnable task) {
+        return enqueue(job, new PrintSchedule.Task(job.getPriority(), task));
+    }
+
+    private PrintJob enqueue(PrintJob job, PrintSchedule.Task task) {
+        try {
+            writerFor(job.getPrinterId()).execute(task);
+        } catch (RejectedExecutionException e) {
+            reject(job);
+            throw new PrintQueueFullException("인쇄 대기열이 가득 찼습니다: " + job.getPrinterId());
+        }
+        return job;
+    }
+
+    // 작업을 만들고 일지에 접수를 남긴다
+    // 일지를 쓰면 본문을 미리 조립한 바이트로 바꿔서 인쇄할 내용과 복구할 내용이 같아진다
+    private PrintJob accept(PrinterDevice device, ReceiptContent content, PrintPriority priority) {
+        PrintJob job;
+        if (journal.isEnabled()) {
+            byte[] body = printerService.render(content);
+            job = new PrintJob(device, ReceiptContent.bytes(body, content.endsWithCut()), priority);
+            journal.accepted(job.getId(), device.getId(), body, content.endsWithCut());
+        } else {
+            job = new PrintJob(device, content, priority);
+        }
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    private void reject(PrintJob job) {
+        jobs.remove(job.getId());
+        journal.failed(job.getId());
+    }
+
+    /**
+     * 여러 장을 한 작업으로 넣는다 (포트를 한 번 빌려 이어서 인쇄, 대기열 자리는 하나).
+     * 장마다 작업이 하나씩 만들어져서 각각 상태를 조회할 수 있다.
+     *
+     * @throws PrintQueueFullException 프린터 대기열이 가득 찬 경우
+     */
+    public List<PrintJob> submitBatch(PrinterDevice device, List<ReceiptContent> contents) {
+        return submitBatch(device, contents, PrintPriority.NORMAL);
+    }
+
+    // 묶음은 나누지 않는다 (BULK 여도 장 단위로만 끊긴다)
+    public List<PrintJob> submitBatch(PrinterDevice device, List<ReceiptContent> contents, PrintPriority priority) {
+        List<PrintJob> batch = new ArrayList<>(contents.size());
+        for (ReceiptContent content : contents) {
+            batch.add(accept(device, content, priority));
+        }
+        try {
+            writerFor(device.getId()).execute(new PrintSchedule.Task(priority, () -> runBatch(batch)));
+        } catch (RejectedExecutionException e) {
+            batch.forEach(this::reject);
+            throw new PrintQueueFullException("인쇄 대기열이 가득 찼습니다: " + device.getId());
+        }
+        return batch;
+    }
+
+    public Optional<PrintJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 대기 중 + 전송 중인 작업 수 (프린터 부하)
+     */
+    public int queueDepth(String printerId) {
+        ThreadPoolExecutor writer = writers.get(printerId);
+        return writer == null ? 0 : writer.getQueue().size() + writer.getActiveCount();
+    }
+
+    private void run(PrintJob job) {
+        start(job);
+        try {
+            printerService.print(job.getDevice(), job.getContent());
+            finish(job, null);
+        } catch (Exception e) {
+            log.error("인쇄 작업 실패: {}", job.getId(), e);
+            finish(job, e.getMessage());
+        }
+    }
+
+    // next 구간부터 보낸다. 구간 사이에 더 급한 작업이 기다리면 여기서 잘라 두고 나머지를 BULK 맨 앞에 다시 넣는다
+    private void runParts(PrintJob job, List<byte[]> parts, int next, PrintSchedule.Task current) {
+        PrintSchedule schedule = (PrintSchedule) writerFor(job.getPrinterId()).getQueue();
+        try {
+            for (int i = next; i < parts.size(); i++) {
+                boolean last = i == parts.size() - 1;
+                printerService.printPart(job.getDevice(), parts.get(i), i == next, last,
+                    last && job.getContent().endsWithCut());
+                if (!last && schedule.hasWaitingAbove(current)) {
+                    printerService.printPart(job.getDevice(), new byte[0], false, true, false);
+                    int resume = i + 1;
+                    log.debug("작업 {} 을 {}/{} 구간에서 멈추고 급한 작업에 자리를 내줍니다.", job.getId(), resume, parts.size());
+                    schedule.requeue(current.resume(self -> runParts(job, parts, resume, self)));
+                    return;
+                }
+            }
+            finish(job, null);
+        } catch (Exception e) {
+            log.error("인쇄 작업 실패: {}", job.getId(), e);
+            finish(job, e.getMessage());
+        }
+    }
+
+    private void runBatch(List<PrintJob> batch) {
+        PrinterDevice device = batch.get(0).getDevice();
+        List<ReceiptContent> contents = new ArrayList<>(batch.size());
+        for (PrintJob job : batch) {
+            start(job);
+            contents.add(job.getContent());
+        }
+        try {
+            printerService.printBatch(device, contents, index -> finish(batch.get(index), null));
+        } catch (Exception e) {
+            log.error("묶음 인쇄 실패: {} ({}장 중 {}장 완료)", device.getId(), batch.size(),
+                batch.stream().filter(PrintJob::isFinished).count(), e);
+            for (PrintJob job : batch) {
+                if (!job.isFinished()) {
+                    finish(job, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void start(PrintJob job) {
+        job.markPrinting();
+        journal.sent(job.getId());
+        metrics.recordQueueWait(job.getPrinterId(), job.getPriority().name(),
+            Duration.between(job.getCreatedAt(), job.getStartedAt()));
+    }
+
+    // 한 장 결과 기록 (errorMessage 가 null 이면 완료)
+    private void finish(PrintJob job, String errorMessage) {
+        if (errorMessage == null) {
+            job.markCompleted();
+            journal.cut(job.getId());
+        } else {
+            job.markFailed(errorMessage);
+            journal.failed(job.getId());
+        }
+        metrics.recordJob(job.getPrinterId(), errorMessage == null,
+            Duration.between(job.getCreatedAt(), job.getFinishedAt()));
+        retire(job);
+    }
+
+    private void retire(PrintJob job) {
+        finishedJobIds.add(job.getId());
+        while (finishedJobIds.size() > retainedJobs) {
+            String oldest = finishedJobIds.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    private ThreadPoolExecutor writerFor(String printerId) {
+        return writers.computeIfAbsent(printerId, this::newWriter);
+    }
+
+    private ThreadPoolExecutor newWriter(String printerId) {
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(
+            writersPerPort, writersPerPort,
+            0L, TimeUnit.MILLISECONDS,
+            new PrintSchedule(capacity, agingMillis),
+            writerThreadFactory(printerId),
+            new ThreadPoolExecutor.AbortPolicy());
+        metrics.gaugeQueueDepth(printerId, writer, w -> w.getQueue().size() + w.getActiveCount());
+        return writer;
+    }
+
+    private static ThreadFactory writerThreadFactory(String printerId) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "printer-" + printerId + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writers.values().forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor writer : writers.values()) {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("대기 중인 인쇄 작업 {}건을 처리하지 못하고 종료합니다.", writer.shutdownNow().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.pay.printer.printer.job;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.service.PrinterRouter;
+import com.pay.printer.printer.service.UnknownPrinterException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJobRecovery
+ * @date : 2026-10-17
+ * @description : 시작할 때 작업 일지에 남은 미완료 작업을 대기열에 다시 넣는다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrintJobRecovery {
+
+    private final PrintJournal journal;
+    private final PrintJobQueue printJobQueue;
+    private final PrinterRouter printerRouter;
+
+    // 전송 중에 끊긴 작업도 다시 인쇄할지. 전송은 끝났는데 커팅 기록 전에 멈췄다면 이미 다 인쇄된 작업이라
+    // 다시 보내면 영수증이 두 번 나온다. 기본은 다시 보내지 않고 실패(인쇄 여부 불확실)로 남긴다.
+    @Value("${printer.journal.replay-interrupted:false}")
+    private boolean replayInterrupted;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        for (PrintJournal.Entry entry : journal.takeRecovered()) {
+            if (entry.isSent() && !replayInterrupted) {
+                log.warn("전송 중 끊긴 작업 {} 은 인쇄되었을 수 있어 다시 보내지 않습니다 ({}, 실패로 기록)",
+                    entry.getJobId(), entry.getPrinterId());
+                journal.failed(entry.getJobId());
+                continue;
+            }
+            try {
+                PrinterDevice device = printerRouter.getDevice(entry.getPrinterId());
+                printJobQueue.resubmit(device, entry);
+                log.info("미완료 작업 복구: {} ({}{})", entry.getJobId(), entry.getPrinterId(),
+                    entry.isSent() ? ", 전송 중 끊김" : "");
+            } catch (UnknownPrinterException | PrintQueueFullException e) {
+                log.error("미완료 작업 {} 을 복구하지 못했습니다: {}", entry.getJobId(), e.getMessage());
+                journal.failed(entry.getJobId());
+            }
+        }
+    }
+}
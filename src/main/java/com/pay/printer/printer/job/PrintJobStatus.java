@@ -0,0 +1,18 @@
+package com.pay.printer.printer.job;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJobStatus
+ * @date : 2026-10-17
+ * @description : 인쇄 작업 상태
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum PrintJobStatus {
+    QUEUED,     // 대기열 등록
+    PRINTING,   // 전송 중
+    COMPLETED,  // 인쇄 완료
+    FAILED      // 인쇄 실패
+}
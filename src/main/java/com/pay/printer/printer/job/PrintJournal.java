@@ -0,0 +1,376 @@
+package com.pay.printer.printer.job;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJournal
+ * @date : 2026-10-17
+ * @description : 인쇄 작업 접수/전송/완료를 메모리 매핑 파일에 이어 쓰는 작업 일지 (재시작 시 미완료 작업 복구)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 기록 한 건은 [길이 4][CRC32 4][내용] 이고, 내용과 CRC 를 먼저 쓰고 길이를 마지막에 써서
+ * 쓰다 만 기록은 길이가 0 으로 남아 읽을 때 끝으로 본다. 매핑 파일은 프로세스가 죽어도 OS 가 디스크에 쓴다
+ * (전원 차단까지 견디려면 sync 를 켠다).
+ * <p>
+ * 파일의 절반을 넘게 쓰면 끝나지 않은 작업만 다른 파일(path.0 / path.1 을 번갈아)에 다시 쓰고 넘어간다 (압축).
+ * 새 파일은 기록을 다 쓴 뒤 머리말에 세대 번호를 올려 쓰므로, 압축 중에 죽으면 이전 파일을 읽는다.
+ * 매핑된 파일은 Windows 에서 이름 변경/삭제가 안 되어서 두 파일을 덮어쓰는 방식을 쓴다.
+ * 미완료 작업이 많아 압축해도 4분의 1 이상이면 파일을 두 배로 늘린다.
+ */
+@Slf4j
+@Component
+public class PrintJournal {
+
+    private static final int MAGIC = 0x504A4E31;  // "PJN1"
+    private static final int HEADER_SIZE = 8;     // MAGIC + 세대 번호
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    // 기록 종류
+    private static final byte ACCEPTED = 1;  // 접수 (영수증 본문 포함)
+    private static final byte SENT = 2;      // 전송 시작
+    private static final byte CUT = 3;       // 커팅까지 전송 완료
+    private static final byte FAILED = 4;    // 실패 (다시 보내지 않는다)
+
+    private final Path path;
+    private final int initialSize;
+    private final boolean sync;
+
+    // 끝나지 않은 작업 (접수 순서)
+    private final Map<String, Entry> live = new LinkedHashMap<>();
+    private final CRC32 crc = new CRC32();
+    private List<Entry> recovered = List.of();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int current;
+    private int generation;
+
+    public PrintJournal(@Value("${printer.journal.path:}") String path,
+                        @Value("${printer.journal.size-bytes:4194304}") int sizeBytes,
+                        @Value("${printer.journal.sync:false}") boolean sync) {
+        this.path = path == null || path.isEmpty() ? null : Paths.get(path);
+        this.initialSize = sizeBytes;
+        this.sync = sync;
+    }
+
+    /**
+     * 아무것도 기록하지 않는 일지 (테스트용, path 가 비어 있을 때와 같다)
+     */
+    public static PrintJournal disabled() {
+        return new PrintJournal(null, 0, false);
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        // 세대 번호가 큰 쪽이 마지막으로 압축을 마친 파일
+        current = -1;
+        for (int i = 0; i < 2; i++) {
+            int fileGeneration = readGeneration(file(i));
+            if (fileGeneration > 0 && (current < 0 || fileGeneration > generation)) {
+                current = i;
+                generation = fileGeneration;
+            }
+        }
+        if (current >= 0) {
+            try (FileChannel existing = FileChannel.open(file(current), StandardOpenOption.READ)) {
+                load(existing.map(FileChannel.MapMode.READ_ONLY, 0, existing.size()));
+            }
+        } else {
+            current = 1;
+        }
+        recovered = List.copyOf(live.values());
+        // 쓰다 만 끝부분과 끝난 작업을 버리고 새로 시작
+        compact();
+        log.info("작업 일지 {}: 미완료 작업 {}건", file(current), recovered.size());
+    }
+
+    /**
+     * 시작할 때 일지에 남아 있던 미완료 작업 (접수 순서, 한 번만 돌려준다)
+     */
+    public synchronized List<Entry> takeRecovered() {
+        List<Entry> entries = recovered;
+        recovered = List.of();
+        return entries;
+    }
+
+    public void accepted(String jobId, String printerId, byte[] body, boolean endsWithCut) {
+        if (!isEnabled()) {
+            return;
+        }
+        Entry entry = new Entry(jobId, printerId, body, endsWithCut);
+        synchronized (this) {
+            live.put(jobId, entry);
+            append(ACCEPTED, entry);
+        }
+    }
+
+    public void sent(String jobId) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            Entry entry = live.get(jobId);
+            if (entry != null) {
+                entry.sent = true;
+                append(SENT, entry);
+            }
+        }
+    }
+
+    public void cut(String jobId) {
+        finish(jobId, CUT);
+    }
+
+    public void failed(String jobId) {
+        finish(jobId, FAILED);
+    }
+
+    private void finish(String jobId, byte type) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            Entry entry = live.remove(jobId);
+            if (entry != null) {
+                append(type, entry);
+            }
+        }
+    }
+
+    /**
+     * 현재 파일에서 쓴 바이트 수
+     */
+    public synchronized int position() {
+        return buffer == null ? 0 : buffer.position();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private void append(byte type, Entry entry) {
+        int length = payloadLength(type, entry);
+        // 절반을 넘으면 쓰는 대신 압축한다 (live 에 이미 반영되어 있어서 압축한 파일에 이 기록도 들어간다)
+        if (buffer.position() + RECORD_HEADER_SIZE + length + 4 > buffer.capacity() / 2) {
+            compact();
+            return;
+        }
+        write(buffer, type, entry, length);
+    }
+
+    private void write(MappedByteBuffer target, byte type, Entry entry, int length) {
+        int start = target.position();
+        target.position(start + RECORD_HEADER_SIZE);
+        ByteBuffer payload = target.slice();
+        payload.limit(length);
+        payload.put(type);
+        putString(payload, entry.jobId);
+        if (type == ACCEPTED) {
+            putString(payload, entry.printerId);
+            payload.put((byte) (entry.endsWithCut ? 1 : 0));
+            payload.putInt(entry.body.length);
+            payload.put(entry.body);
+        }
+        payload.flip();
+        crc.reset();
+        crc.update(payload);
+        target.putInt(start + 4, (int) crc.getValue());
+        // 덮어쓰는 파일이라 뒤에 이전 세대 기록이 남아 있을 수 있어서 끝 표시를 먼저 둔다
+        target.putInt(start + RECORD_HEADER_SIZE + length, 0);
+        // 길이를 마지막에 써야 쓰다 만 기록이 끝으로 읽힌다
+        target.putInt(start, length);
+        target.position(start + RECORD_HEADER_SIZE + length);
+        if (sync) {
+            target.force();
+        }
+    }
+
+    // 끝나지 않은 작업만 다른 파일에 쓰고 넘어간다
+    private void compact() {
+        int liveBytes = 0;
+        for (Entry entry : live.values()) {
+            liveBytes += RECORD_HEADER_SIZE * 2 + payloadLength(ACCEPTED, entry) + payloadLength(SENT, entry);
+        }
+        int size = Math.max(initialSize, HEADER_SIZE + 4);
+        while (HEADER_SIZE + liveBytes + 4 > size / 4) {
+            size *= 2;
+        }
+
+        int next = 1 - current;
+        try {
+            FileChannel nextChannel = FileChannel.open(file(next),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            size = (int) Math.max(size, nextChannel.size());
+            MappedByteBuffer nextBuffer = nextChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            nextBuffer.putInt(4, 0);  // 다 쓰기 전에는 세대 번호 없음
+            nextBuffer.position(HEADER_SIZE);
+            nextBuffer.putInt(HEADER_SIZE, 0);
+            for (Entry entry : live.values()) {
+                write(nextBuffer, ACCEPTED, entry, payloadLength(ACCEPTED, entry));
+                if (entry.sent) {
+                    write(nextBuffer, SENT, entry, payloadLength(SENT, entry));
+                }
+            }
+            nextBuffer.force();
+            nextBuffer.putInt(0, MAGIC);
+            nextBuffer.putInt(4, generation + 1);
+            nextBuffer.force();
+            if (channel != null) {
+                channel.close();
+            }
+            channel = nextChannel;
+            buffer = nextBuffer;
+            current = next;
+            generation++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 일지 압축 실패: " + file(next), e);
+        }
+        log.debug("작업 일지 압축: 미완료 {}건, {} / {} bytes", live.size(), buffer.position(), size);
+    }
+
+    private Path file(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    // 머리말의 세대 번호 (일지 파일이 아니면 0)
+    private static int readGeneration(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < HEADER_SIZE) {
+            return 0;
+        }
+        try (FileChannel existing = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            existing.read(header, 0);
+            header.flip();
+            return header.getInt() == MAGIC ? header.getInt() : 0;
+        }
+    }
+
+    private void load(ByteBuffer data) {
+        data.position(HEADER_SIZE);
+        while (data.remaining() >= RECORD_HEADER_SIZE) {
+            int length = data.getInt();
+            int expectedCrc = data.getInt();
+            if (length <= 0 || length > data.remaining()) {
+                break;
+            }
+            ByteBuffer payload = data.slice();
+            payload.limit(length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("작업 일지 {} 위치 {} 의 기록이 손상되어 이후를 무시합니다.", file(current),
+                    data.position() - RECORD_HEADER_SIZE);
+                break;
+            }
+            data.position(data.position() + length);
+            replay(payload);
+        }
+    }
+
+    private void replay(ByteBuffer payload) {
+        byte type = payload.get();
+        String jobId = getString(payload);
+        switch (type) {
+            case ACCEPTED:
+                String printerId = getString(payload);
+                boolean endsWithCut = payload.get() != 0;
+                byte[] body = new byte[payload.getInt()];
+                payload.get(body);
+                live.put(jobId, new Entry(jobId, printerId, body, endsWithCut));
+                break;
+            case SENT:
+                Entry entry = live.get(jobId);
+                if (entry != null) {
+                    entry.sent = true;
+                }
+                break;
+            default:
+                live.remove(jobId);
+        }
+    }
+
+    private static int payloadLength(byte type, Entry entry) {
+        int length = 1 + stringLength(entry.jobId);
+        if (type == ACCEPTED) {
+            length += stringLength(entry.printerId) + 1 + 4 + entry.body.length;
+        }
+        return length;
+    }
+
+    private static int stringLength(String value) {
+        return 2 + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        target.putShort((short) bytes.length);
+        target.put(bytes);
+    }
+
+    private static String getString(ByteBuffer source) {
+        byte[] bytes = new byte[source.getShort() & 0xFFFF];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 일지에 남은 작업 한 건
+     */
+    @Getter
+    public static final class Entry {
+
+        private final String jobId;
+        private final String printerId;
+        private final byte[] body;
+        private final boolean endsWithCut;
+
+        // 전송을 시작했지만 완료 기록이 없으면 일부가 인쇄되었을 수 있다
+        private boolean sent;
+
+        private Entry(String jobId, String printerId, byte[] body, boolean endsWithCut) {
+            this.jobId = jobId;
+            this.printerId = printerId;
+            this.body = body;
+            this.endsWithCut = endsWithCut;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.pay.printer.printer.job;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintPriority
+ * @date : 2026-10-17
+ * @description : 인쇄 우선순위 (같은 프린터에서 먼저 보낼 작업)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum PrintPriority {
+    URGENT,  // 손님 영수증, 주방 주문서
+    NORMAL,  // 기본
+    BULK     // 마감 보고서 등 긴 출력 (구간으로 나눠 보내고, 사이에 급한 작업이 끼어든다)
+}
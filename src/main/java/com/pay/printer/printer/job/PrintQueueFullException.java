@@ -0,0 +1,18 @@
+package com.pay.printer.printer.job;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintQueueFullException
+ * @date : 2026-10-17
+ * @description : 포트 대기열이 가득 차서 작업을 받을 수 없음
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class PrintQueueFullException extends RuntimeException {
+
+    public PrintQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,345 @@
+package com.pay.printer.printer.job;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintSchedule
+ * @date : 2026-10-17
+ * @description : 프린터 작업 스레드의 대기열 - 우선순위가 높은 작업부터 꺼낸다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 우선순위마다 접수 순서대로 줄을 세우고 각 줄의 맨 앞끼리만 비교한다.
+ * agingNanos 만큼 기다릴 때마다 한 단계씩 올라가서 BULK 도 결국 차례가 온다
+ * (같은 단계면 먼저 들어온 작업).
+ * 자리를 내주고 다시 들어간 나머지는 처음 접수 순번과 시간을 그대로 가져서, 기다린 시간이 이어서 쌓인다.
+ * 순번과 시간은 Task 를 만들 때 매긴다. ThreadPoolExecutor 는 새 작업 스레드를 만들 때 첫 작업을
+ * 대기열을 거치지 않고 바로 넘기므로, 대기열에 넣을 때 매기면 그 작업은 순번/시간이 비어 있다.
+ */
+final class PrintSchedule extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private static final PrintPriority[] PRIORITIES = PrintPriority.values();
+
+    private final int capacity;
+    private final long agingNanos;
+    private final List<ArrayDeque<Task>> lanes = new ArrayList<>(PRIORITIES.length);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int count;
+
+    PrintSchedule(int capacity, long agingMillis) {
+        this.capacity = capacity;
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            lanes.add(new ArrayDeque<>());
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        Task task = (Task) runnable;
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            enqueue(task, false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 자리를 내준 작업의 나머지(Task.resume)를 같은 우선순위 맨 앞에 다시 넣는다 (대기열 크기와 상관없이)
+     */
+    void requeue(Task task) {
+        lock.lock();
+        try {
+            enqueue(task, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * running 보다 먼저 꺼낼 높은 우선순위 작업이 기다리는지 (기다린 시간만큼 올린 단계로 비교,
+     * 오래 기다린 BULK 는 새로 온 URGENT 에도 자리를 내주지 않는다)
+     */
+    boolean hasWaitingAbove(Task running) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            int runningRank = running.rank(now, agingNanos);
+            for (int i = 0; i < running.priority.ordinal(); i++) {
+                Task head = lanes.get(i).peekFirst();
+                if (head == null) {
+                    continue;
+                }
+                int rank = head.rank(now, agingNanos);
+                if (rank < runningRank || rank == runningRank && head.sequence < running.sequence) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable runnable) throws InterruptedException {
+        Task task = (Task) runnable;
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                notFull.await();
+            }
+            enqueue(task, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) throws InterruptedException {
+        Task task = (Task) runnable;
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(task, false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            return next(System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return Math.max(0, capacity - count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (ArrayDeque<Task> lane : lanes) {
+                if (lane.remove(o)) {
+                    count--;
+                    notFull.signal();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 꺼내는 순서와 상관없는 복사본
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Runnable> snapshot = new ArrayList<>(count);
+            lanes.forEach(snapshot::addAll);
+            return snapshot.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Task task, boolean first) {
+        ArrayDeque<Task> lane = lanes.get(task.priority.ordinal());
+        if (first) {
+            lane.addFirst(task);
+        } else {
+            lane.addLast(task);
+        }
+        count++;
+        notEmpty.signal();
+    }
+
+    private Task dequeue() {
+        Task task = next(System.nanoTime());
+        lanes.get(task.priority.ordinal()).pollFirst();
+        count--;
+        notFull.signal();
+        return task;
+    }
+
+    // 각 줄 맨 앞 중 기다린 시간만큼 올린 단계가 가장 높은 작업
+    private Task next(long now) {
+        Task best = null;
+        int bestRank = 0;
+        for (ArrayDeque<Task> lane : lanes) {
+            Task head = lane.peekFirst();
+            if (head == null) {
+                continue;
+            }
+            int rank = head.rank(now, agingNanos);
+            if (best == null || rank < bestRank || rank == bestRank && head.sequence < best.sequence) {
+                best = head;
+                bestRank = rank;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 대기열에 넣는 작업 (우선순위 + 실제 할 일)
+     */
+    static final class Task implements Runnable {
+
+        // 접수 순번 (같은 단계면 작은 순번이 먼저)
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
+        private final PrintPriority priority;
+        private final Consumer<Task> body;
+        private final long sequence;
+        private final long enqueuedAt;
+
+        Task(PrintPriority priority, Runnable body) {
+            this(priority, self -> body.run());
+        }
+
+        /**
+         * @param body 실행 중인 자신을 받는다 (hasWaitingAbove / resume 용)
+         */
+        Task(PrintPriority priority, Consumer<Task> body) {
+            this(priority, body, SEQUENCE.getAndIncrement(), System.nanoTime());
+        }
+
+        private Task(PrintPriority priority, Consumer<Task> body, long sequence, long enqueuedAt) {
+            this.priority = priority;
+            this.body = body;
+            this.sequence = sequence;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        /**
+         * 같은 작업의 나머지 (처음 접수 순번과 시간을 이어받는다)
+         */
+        Task resume(Consumer<Task> remainder) {
+            return new Task(priority, remainder, sequence, enqueuedAt);
+        }
+
+        @Override
+        public void run() {
+            body.accept(this);
+        }
+
+        private int rank(long now, long agingNanos) {
+            if (agingNanos <= 0) {
+                return priority.ordinal();
+            }
+            return (int) Math.max(0, priority.ordinal() - (now - enqueuedAt) / agingNanos);
+        }
+    }
+}
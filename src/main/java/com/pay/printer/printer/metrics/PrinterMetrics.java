@@ -0,0 +1,144 @@
+package com.pay.printer.printer.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.metrics
+ * @fileName : PrinterMetrics
+ * @date : 2026-10-17
+ * @description : 프린터별 인쇄 시간, 전송량, 포트 상태 지표 (/actuator/metrics, /actuator/prometheus)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 시간 지표는 백분위 히스토그램을 함께 내보내서 p99 인쇄 지연으로 알림을 걸 수 있다.
+ * <pre>
+ * histogram_quantile(0.99, sum by (printer, le) (rate(printer_job_total_seconds_bucket[5m])))
+ * </pre>
+ */
+@Component
+public class PrinterMetrics {
+
+    public static final String TAG_PRINTER = "printer";
+    public static final String TAG_PORT = "port";
+
+    // 히스토그램 버킷 범위 (영수증 한 장은 수십 ms ~ 수십 초)
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(2);
+
+    private final MeterRegistry registry;
+
+    public PrinterMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 어디에도 내보내지 않는 지표 (테스트, 벤치마크용)
+     */
+    public static PrinterMetrics noop() {
+        return new PrinterMetrics(new SimpleMeterRegistry());
+    }
+
+    // 접수 ~ 전송 시작 (우선순위별로 나눠서 보고서 인쇄 중에도 영수증 대기가 짧은지 본다)
+    public void recordQueueWait(String printerId, String priority, Duration duration) {
+        timer("printer.job.queue.wait", "대기열에서 기다린 시간",
+            TAG_PRINTER, printerId, "priority", priority).record(duration);
+    }
+
+    // 접수 ~ 완료/실패
+    public void recordJob(String printerId, boolean success, Duration duration) {
+        timer("printer.job.total", "접수부터 인쇄 완료까지 걸린 시간",
+            TAG_PRINTER, printerId, "outcome", success ? "success" : "failure").record(duration);
+    }
+
+    public Timer portConnect(String portName) {
+        return timer("printer.port.connect", "포트를 여는 데 걸린 시간", TAG_PORT, portName);
+    }
+
+    // 포트를 빌린 뒤 영수증 전송을 마칠 때까지
+    public Timer transmission(String printerId) {
+        return timer("printer.transmission", "영수증 전송 시간 (흐름 제어, ACK 대기 포함)", TAG_PRINTER, printerId);
+    }
+
+    public void recordBytesWritten(String printerId, long bytes) {
+        Counter.builder("printer.bytes.written")
+            .description("포트에 쓴 바이트 (패킷 헤더, 재전송 포함)")
+            .baseUnit("bytes")
+            .tag(TAG_PRINTER, printerId)
+            .register(registry)
+            .increment(bytes);
+    }
+
+    // GS v 0 대비 줄인 이미지 바이트 (작업마다)
+    public void recordImageBytesSaved(String printerId, long bytes) {
+        DistributionSummary.builder("printer.image.bytes.saved")
+            .description("GS v 0 대비 줄인 이미지 바이트 (빈 띠 건너뛰기, 압축)")
+            .baseUnit("bytes")
+            .tag(TAG_PRINTER, printerId)
+            .register(registry)
+            .record(bytes);
+    }
+
+    public void recordFrames(String printerId, long sent, long retransmitted) {
+        counter("printer.frames.sent", "보낸 패킷 수", printerId).increment(sent);
+        counter("printer.frames.retransmitted", "NAK/응답 없음으로 다시 보낸 패킷 수", printerId)
+            .increment(retransmitted);
+    }
+
+    public void recordFailure(String printerId, Exception cause) {
+        Counter.builder("printer.failures")
+            .description("인쇄 실패 수")
+            .tag(TAG_PRINTER, printerId)
+            .tag("reason", cause.getClass().getSimpleName())
+            .register(registry)
+            .increment();
+    }
+
+    public <T> void gaugeQueueDepth(String printerId, T state, ToDoubleFunction<T> depth) {
+        Gauge.builder("printer.queue.depth", state, depth)
+            .description("대기 중 + 전송 중인 작업 수")
+            .tag(TAG_PRINTER, printerId)
+            .register(registry);
+    }
+
+    public <T> void gaugePortOpen(String portName, T state, ToDoubleFunction<T> open) {
+        Gauge.builder("printer.port.open", state, open)
+            .description("포트가 열려 있으면 1")
+            .tag(TAG_PORT, portName)
+            .register(registry);
+    }
+
+    public <T> void gaugeHealth(String printerId, T state, ToDoubleFunction<T> health) {
+        Gauge.builder("printer.health", state, health)
+            .description("프린터 상태 (0 정상, 1 주의, 2 사용 불가)")
+            .tag(TAG_PRINTER, printerId)
+            .register(registry);
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED)
+            .maximumExpectedValue(MAX_EXPECTED)
+            .register(registry);
+    }
+
+    private Counter counter(String name, String description, String printerId) {
+        return Counter.builder(name)
+            .description(description)
+            .tag(TAG_PRINTER, printerId)
+            .register(registry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.pay.printer.printer.packet;
+
+import com.pay.printer.printer.connection.PrinterConnectionException;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketDeliveryException
+ * @date : 2026-10-17
+ * @description : 재전송을 다 해도 ACK 를 받지 못함 (연결을 다시 연다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class PacketDeliveryException extends PrinterConnectionException {
+
+    public PacketDeliveryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,84 @@
+package com.pay.printer.printer.packet;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketFramer
+ * @date : 2026-10-17
+ * @description : STX/길이/명령/데이터/ETX/LRC 패킷 구성 (PrinterService2/3 에서 공통으로 사용)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public final class PacketFramer {
+
+    // 통신 제어 문자
+    public static final byte STX = 0x02;
+    public static final byte ETX = 0x03;
+    public static final byte ACK = 0x06;
+    public static final byte NAK = 0x15;
+    public static final byte DLE = 0x10;
+
+    // 명령어
+    public static final byte CMD_PRINT = 0x20;
+    public static final byte CMD_STATUS = 0x10;
+
+    // 패킷 하나에 담을 최대 데이터 길이
+    public static final int MAX_DATA_LENGTH = 1024;
+
+    // STX + 길이 2바이트 + 명령 + ETX + LRC
+    public static final int FRAME_OVERHEAD = 6;
+
+    public static final int MAX_FRAME_LENGTH = MAX_DATA_LENGTH + FRAME_OVERHEAD;
+
+    private PacketFramer() {
+    }
+
+    public static byte[] buildPacket(byte command, byte[] data) {
+        return buildPacket(command, data, 0, data.length);
+    }
+
+    public static byte[] buildPacket(byte command, byte[] data, int offset, int length) {
+        byte[] packet = new byte[length + FRAME_OVERHEAD];
+        frame(command, data, offset, length, packet, 0);
+        return packet;
+    }
+
+    /**
+     * dest 에 패킷을 바로 쓴다 (중간 복사 없이 LRC 를 함께 계산)
+     *
+     * @return 패킷 길이
+     */
+    public static int frame(byte command, byte[] data, int offset, int length, byte[] dest, int destOffset) {
+        if (length > 0xFFFE) {
+            throw new IllegalArgumentException("패킷 데이터가 너무 깁니다: " + length);
+        }
+        // 길이 (데이터 길이 + 명령어 1바이트)
+        int packetLength = length + 1;
+        byte lengthHigh = (byte) ((packetLength >> 8) & 0xFF);
+        byte lengthLow = (byte) (packetLength & 0xFF);
+
+        int pos = destOffset;
+        dest[pos++] = STX;
+        dest[pos++] = lengthHigh;
+        dest[pos++] = lengthLow;
+        dest[pos++] = command;
+        System.arraycopy(data, offset, dest, pos, length);
+        pos += length;
+        dest[pos++] = ETX;
+
+        // LRC: STX 다음부터 ETX 까지 XOR
+        byte lrc = (byte) (lengthHigh ^ lengthLow ^ command ^ ETX);
+        lrc ^= calculateLRC(data, offset, length);
+        dest[pos++] = lrc;
+        return pos - destOffset;
+    }
+
+    public static byte calculateLRC(byte[] data, int start, int length) {
+        byte lrc = 0;
+        for (int i = start; i < start + length; i++) {
+            lrc ^= data[i];
+        }
+        return lrc;
+    }
+}
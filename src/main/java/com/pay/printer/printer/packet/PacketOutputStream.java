@@ -0,0 +1,42 @@
+package com.pay.printer.printer.packet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketOutputStream
+ * @date : 2026-10-17
+ * @description : 쓰는 데이터를 CMD_PRINT 패킷으로 감싸서 전송 (PACKET 방식 프린터용)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class PacketOutputStream extends OutputStream {
+
+    private final PacketTransport transport;
+
+    public PacketOutputStream(PacketTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len > 0) {
+            transport.send(PacketFramer.CMD_PRINT, b, off, len);
+        }
+    }
+
+    /**
+     * 모든 패킷의 ACK 를 받을 때까지 기다린다 (작업 끝에서 호출)
+     */
+    public void finish() throws IOException {
+        transport.finish();
+    }
+}
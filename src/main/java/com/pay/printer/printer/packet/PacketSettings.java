@@ -0,0 +1,45 @@
+package com.pay.printer.printer.packet;
+
+import lombok.Data;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketSettings
+ * @date : 2026-10-17
+ * @description : PACKET 방식 프린터의 ACK/NAK 전송 설정 (printer.devices[].packet)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Data
+public class PacketSettings {
+
+    // 프린터가 패킷마다 ACK/NAK 로 응답하는지 (false 면 intervalMillis 간격으로 보내기만 한다).
+    // 응답하지 않는 프린터에 켜면 패킷마다 재전송되어 같은 내용이 여러 번 인쇄되므로 장치별로 켠다.
+    private boolean ack = false;
+
+    // 응답을 기다리지 않고 보낼 수 있는 패킷 수 (1 = 한 패킷씩 확인)
+    private int windowSize = 1;
+
+    private int ackTimeoutMillis = 500;
+
+    // 같은 패킷을 다시 보낼 최대 횟수
+    private int maxRetries = 3;
+
+    // ACK 를 쓰지 않을 때 패킷 사이 대기
+    private long intervalMillis = 50;
+
+    /**
+     * 흐름 제어가 속도를 맞춰 주는 경우 패킷 사이 대기를 뺀 설정
+     */
+    public PacketSettings withoutInterval() {
+        PacketSettings copy = new PacketSettings();
+        copy.setAck(ack);
+        copy.setWindowSize(windowSize);
+        copy.setAckTimeoutMillis(ackTimeoutMillis);
+        copy.setMaxRetries(maxRetries);
+        copy.setIntervalMillis(0);
+        return copy;
+    }
+}
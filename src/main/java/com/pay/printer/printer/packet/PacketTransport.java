@@ -0,0 +1,145 @@
+package com.pay.printer.printer.packet;
+
+import com.pay.printer.printer.escpos.PrinterStatusReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketTransport
+ * @date : 2026-10-17
+ * @description : ACK/NAK 확인과 재전송을 하는 패킷 전송 (windowSize 만큼 응답 전에 먼저 보낸다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+public class PacketTransport {
+
+    private final InputStream in;
+    private final OutputStream out;
+    private final PacketSettings settings;
+
+    // 응답 대기 중인 패킷 (재전송을 위해 보관, 버퍼는 계속 재사용)
+    private final byte[][] window;
+    private final int[] frameLengths;
+    private int head;
+    private int inFlight;
+    private int retries;
+    private boolean started;
+
+    @Getter
+    private long framesSent;
+
+    @Getter
+    private long retransmits;
+
+    public PacketTransport(InputStream in, OutputStream out, PacketSettings settings) {
+        this.in = in;
+        this.out = out;
+        this.settings = settings;
+        int windowSize = settings.isAck() ? Math.max(1, settings.getWindowSize()) : 1;
+        this.window = new byte[windowSize][PacketFramer.MAX_FRAME_LENGTH];
+        this.frameLengths = new int[windowSize];
+    }
+
+    /**
+     * 데이터를 MAX_DATA_LENGTH 단위 패킷으로 나눠 보낸다.
+     * 창이 가득 차면 가장 오래된 패킷의 응답을 기다린다.
+     */
+    public void send(byte command, byte[] data, int offset, int length) throws IOException {
+        int end = offset + length;
+        int start = offset;
+        do {
+            int chunk = Math.min(PacketFramer.MAX_DATA_LENGTH, end - start);
+            sendFrame(command, data, start, chunk);
+            start += chunk;
+        } while (start < end);
+    }
+
+    /**
+     * 보낸 패킷의 응답을 모두 받을 때까지 기다린다
+     */
+    public void finish() throws IOException {
+        while (inFlight > 0) {
+            awaitResponse();
+        }
+        out.flush();
+    }
+
+    private void sendFrame(byte command, byte[] data, int offset, int length) throws IOException {
+        if (!started) {
+            // 이전 작업에서 남은 응답이 이번 패킷의 ACK 로 읽히지 않도록 비운다
+            int available;
+            while ((available = in.available()) > 0) {
+                in.skip(available);
+            }
+            started = true;
+        }
+        if (settings.isAck() && inFlight == window.length) {
+            awaitResponse();
+        }
+        int slot = (head + inFlight) % window.length;
+        frameLengths[slot] = PacketFramer.frame(command, data, offset, length, window[slot], 0);
+        out.write(window[slot], 0, frameLengths[slot]);
+        out.flush();
+        framesSent++;
+
+        if (settings.isAck()) {
+            inFlight++;
+        } else {
+            pause(settings.getIntervalMillis());
+        }
+    }
+
+    private void awaitResponse() throws IOException {
+        long deadline = System.currentTimeMillis() + settings.getAckTimeoutMillis();
+        while (true) {
+            int b = PrinterStatusReader.readByte(in, deadline);
+            if (b == PacketFramer.ACK) {
+                head = (head + 1) % window.length;
+                inFlight--;
+                retries = 0;
+                return;
+            }
+            if (b == PacketFramer.NAK || b < 0) {
+                retransmit(b < 0 ? "응답 없음" : "NAK");
+                return;
+            }
+            // ACK/NAK 이외의 바이트는 무시
+        }
+    }
+
+    /**
+     * 응답을 못 받은 가장 오래된 패킷부터 다시 보낸다 (프린터는 오류 이후 패킷을 버린다고 가정)
+     */
+    private void retransmit(String reason) throws IOException {
+        if (++retries > settings.getMaxRetries()) {
+            throw new PacketDeliveryException("패킷 전송 실패 (" + reason + ", 재전송 " + settings.getMaxRetries() + "회)");
+        }
+        log.debug("패킷 재전송 {}건 ({}, {}회째)", inFlight, reason, retries);
+        for (int i = 0; i < inFlight; i++) {
+            int slot = (head + i) % window.length;
+            out.write(window[slot], 0, frameLengths[slot]);
+            retransmits++;
+        }
+        out.flush();
+    }
+
+    private static void pause(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("패킷 전송 중단");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.pay.printer.printer.service;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.connection.PrinterConnectionException;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.escpos.PrinterStatusReader;
+import com.pay.printer.printer.packet.PacketDeliveryException;
+import com.pay.printer.printer.packet.PacketFramer;
+import com.pay.printer.printer.packet.PacketSettings;
+import com.pay.printer.printer.packet.PacketTransport;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : LinkSpeedProbe
+ * @date : 2026-10-17
+ * @description : 프린터가 응답하는 가장 빠른 통신 속도를 찾아 프린터 설정에 저장
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 빠른 속도부터 포트를 다시 설정해서 상태 조회(ESC/POS 는 DLE EOT, 패킷은 상태 패킷의 ACK)를 두 번 보내고,
+ * 두 번 다 정상 응답이 오는 첫 속도를 쓴다. 속도가 틀리면 프린터가 바이트를 깨진 채로 받아서 응답하지 않는다.
+ * switch-baud-rate 가 있으면 찾은 속도로 프린터 설정을 바꾼 뒤 새 속도로 다시 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LinkSpeedProbe {
+
+    // GS ( E - 사용자 설정 모드 시작 "IN" / 끝 "OUT" (끝나면 프린터가 재시작한다)
+    private static final byte[] USER_SETTING_BEGIN = {0x1D, 0x28, 0x45, 0x03, 0x00, 0x01, 'I', 'N'};
+    private static final byte[] USER_SETTING_END = {0x1D, 0x28, 0x45, 0x04, 0x00, 0x02, 'O', 'U', 'T'};
+
+    private final PrinterConnectionManager connectionManager;
+    private final PrinterRouter printerRouter;
+
+    // 시도할 속도 (빠른 것부터)
+    @Value("${printer.link.baud-rates:115200,57600,38400,19200,9600}")
+    private int[] baudRates;
+
+    // 속도마다 상태 응답을 기다릴 시간
+    @Value("${printer.link.probe-timeout-ms:300}")
+    private int probeTimeoutMillis;
+
+    // 속도 변경 후 프린터가 재시작할 때까지 기다릴 시간
+    @Value("${printer.link.switch-reset-ms:3000}")
+    private int switchResetMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void probeConfiguredPrinters() {
+        for (PrinterDevice device : printerRouter.getDevices()) {
+            if (!device.isProbeBaudRate()) {
+                continue;
+            }
+            try {
+                probe(device);
+            } catch (PrinterConnectionException e) {
+                log.warn("프린터 {} 속도 탐색 실패, 설정값 {} bps 사용: {}", device.getId(), device.getBaudRate(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 가장 빠른 속도를 찾아 device 에 저장한다 (이후 인쇄는 이 속도로 나간다)
+     *
+     * @return 찾은 속도
+     * @throws PrinterConnectionException 어떤 속도로도 응답이 없는 경우
+     */
+    public int probe(PrinterDevice device) {
+        int found = findFastest(device);
+        if (device.getSwitchBaudRate() > found) {
+            found = switchTo(device, found, device.getSwitchBaudRate());
+        }
+        int previous = device.getBaudRate();
+        device.setBaudRate(found);
+        log.info("프린터 {} 통신 속도 {} bps (설정 {} bps)", device.getId(), found, previous);
+        return found;
+    }
+
+    private int findFastest(PrinterDevice device) {
+        int[] rates = Arrays.stream(baudRates).boxed()
+            .sorted((a, b) -> Integer.compare(b, a))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        for (int rate : rates) {
+            if (confirm(device, rate)) {
+                return rate;
+            }
+            log.debug("프린터 {} {} bps 응답 없음", device.getId(), rate);
+        }
+        throw new PrinterConnectionException("어떤 속도로도 프린터가 응답하지 않습니다: " + device.getPort()
+            + " " + Arrays.toString(baudRates));
+    }
+
+    // 프린터 설정을 바꾸고 새 속도로 확인한다 (안 되면 원래 속도)
+    private int switchTo(PrinterDevice device, int current, int target) {
+        log.info("프린터 {} 통신 속도 변경 {} → {} bps", device.getId(), current, target);
+        connectionManager.execute(device.getPort(), PrinterService.serialSettings(device, current), transport -> {
+            OutputStream out = transport.getOutputStream();
+            out.write(switchCommand(target));
+            out.flush();
+            return null;
+        });
+        connectionManager.invalidate(device.getPort());
+        try {
+            Thread.sleep(switchResetMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PrinterConnectionException("속도 변경 대기 중단: " + device.getPort(), e);
+        }
+        if (confirm(device, target)) {
+            return target;
+        }
+        log.warn("프린터 {} 가 {} bps 로 응답하지 않습니다. 다시 탐색합니다.", device.getId(), target);
+        return findFastest(device);
+    }
+
+    /**
+     * GS ( E 로 시리얼 속도를 바꾸는 명령 (설정 시작 → fn 11 속도 → 설정 끝)
+     */
+    static byte[] switchCommand(int baudRate) {
+        byte[] digits = String.valueOf(baudRate).getBytes(StandardCharsets.US_ASCII);
+        int length = 2 + digits.length;
+        byte[] setSpeed = new byte[5 + length];
+        setSpeed[0] = 0x1D;
+        setSpeed[1] = 0x28;
+        setSpeed[2] = 0x45;
+        setSpeed[3] = (byte) length;
+        setSpeed[4] = 0x00;
+        setSpeed[5] = 11;   // fn 11: 시리얼 통신 조건
+        setSpeed[6] = 1;    // a 1: 전송 속도
+        System.arraycopy(digits, 0, setSpeed, 7, digits.length);
+
+        byte[] command = new byte[USER_SETTING_BEGIN.length + setSpeed.length + USER_SETTING_END.length];
+        System.arraycopy(USER_SETTING_BEGIN, 0, command, 0, USER_SETTING_BEGIN.length);
+        System.arraycopy(setSpeed, 0, command, USER_SETTING_BEGIN.length, setSpeed.length);
+        System.arraycopy(USER_SETTING_END, 0, command, USER_SETTING_BEGIN.length + setSpeed.length,
+            USER_SETTING_END.length);
+        return command;
+    }
+
+    // 두 번 연속 정상 응답이 오면 그 속도를 쓴다
+    private boolean confirm(PrinterDevice device, int baudRate) {
+        try {
+            return connectionManager.execute(device.getPort(), PrinterService.serialSettings(device, baudRate),
+                transport -> {
+                    InputStream in = transport.getInputStream();
+                    OutputStream out = transport.getOutputStream();
+                    return answers(device, in, out, probeTimeoutMillis) && answers(device, in, out, probeTimeoutMillis);
+                });
+        } catch (RuntimeException e) {
+            // 포트 오류는 다음 속도에서 다시 연다
+            log.debug("프린터 {} {} bps 확인 실패: {}", device.getId(), baudRate, e.getMessage());
+            return false;
+        }
+    }
+
+    // 상태 조회에 응답하는지 (ESC/POS 는 DLE EOT, 패킷은 상태 패킷의 ACK)
+    static boolean answers(PrinterDevice device, InputStream in, OutputStream out, int timeoutMillis)
+        throws IOException {
+        if (device.getProtocol() == PrinterProtocol.PACKET) {
+            PacketSettings settings = new PacketSettings();
+            settings.setAck(true);
+            settings.setAckTimeoutMillis(timeoutMillis);
+            settings.setMaxRetries(0);
+            try {
+                PacketTransport transport = new PacketTransport(in, out, settings);
+                transport.send(PacketFramer.CMD_STATUS, new byte[0], 0, 0);
+                transport.finish();
+                return true;
+            } catch (PacketDeliveryException e) {
+                return false;
+            }
+        }
+        return PrinterStatusReader.query(in, out, timeoutMillis) != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pay.printer.printer.service;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterHealth
+ * @date : 2026-10-17
+ * @description : 프린터 상태 (백그라운드 상태 조회와 인쇄 결과로 정한다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public enum PrinterHealth {
+    HEALTHY,   // 정상
+    DEGRADED,  // 인쇄는 받는다 (용지 부족, 연속 실패가 down-after 미만)
+    DOWN       // 바로 거절하거나 예비 프린터로 보낸다 (상태 조회나 retry-ms 뒤 시험 작업이 성공하면 HEALTHY 로 복귀)
+}
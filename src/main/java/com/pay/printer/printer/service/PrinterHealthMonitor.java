@@ -0,0 +1,269 @@
+package com.pay.printer.printer.service;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.PrinterTransport;
+import com.pay.printer.printer.escpos.PrinterNotReadyException;
+import com.pay.printer.printer.escpos.PrinterStatus;
+import com.pay.printer.printer.escpos.PrinterStatusReader;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterHealthMonitor
+ * @date : 2026-10-17
+ * @description : 프린터마다 상태를 주기적으로 조회해서 HEALTHY / DEGRADED / DOWN 을 정한다
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 꺼졌거나 용지가 없는 프린터에 요청마다 포트 시간 초과(1~2초)를 기다리지 않도록,
+ * 연속 실패가 down-after 번이면 DOWN 으로 두고 라우터/인쇄가 바로 거절한다 (예비 프린터가 있으면 그쪽으로).
+ * DOWN 인 프린터도 계속 조회해서 응답하면 다시 받는다. 인쇄 성공/실패도 같은 카운터에 반영한다.
+ * 상태 조회를 하지 않는 프린터(interval-ms 0, health-check false)도 DOWN 이 된 뒤 retry-ms 가 지나면
+ * 시험 작업 하나만 보내 보고 (half-open), 성공하면 다시 받고 실패하면 retry-ms 를 다시 기다린다.
+ * 인쇄 중인 포트는 조회하지 않는다 (쓰고 있으면 살아 있다).
+ */
+@Slf4j
+@Service
+public class PrinterHealthMonitor {
+
+    private final PrinterConnectionManager connectionManager;
+    private final PrinterMetrics metrics;
+
+    // 상태 조회 간격 (0 이면 조회하지 않고 인쇄 결과로만 판단)
+    @Value("${printer.health.interval-ms:5000}")
+    private long intervalMillis;
+
+    // 이만큼 연속으로 실패하면 DOWN
+    @Value("${printer.health.down-after:3}")
+    private int downAfter = 3;
+
+    // DOWN 이 된 뒤 시험 작업 하나를 보내 볼 때까지 기다리는 시간
+    @Value("${printer.health.retry-ms:10000}")
+    private long retryMillis = 10000;
+
+    private final List<PrinterDevice> devices = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public PrinterHealthMonitor(PrinterConnectionManager connectionManager, PrinterMetrics metrics) {
+        this.connectionManager = connectionManager;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 아무 프린터도 보지 않는 monitor (모두 HEALTHY, 테스트/벤치마크용)
+     */
+    public static PrinterHealthMonitor none() {
+        return new PrinterHealthMonitor(null, PrinterMetrics.noop());
+    }
+
+    /**
+     * 조회할 프린터 등록 (라우터가 설정을 읽은 뒤)
+     */
+    public void watch(List<PrinterDevice> configured) {
+        for (PrinterDevice device : configured) {
+            breaker(device.getId());
+            if (device.isHealthCheck()) {
+                devices.add(device);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (intervalMillis <= 0 || devices.isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "printer-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public PrinterHealth getHealth(String printerId) {
+        Breaker breaker = breakers.get(printerId);
+        return breaker == null ? PrinterHealth.HEALTHY : breaker.health();
+    }
+
+    /**
+     * 작업을 보낼 수 있는지 (DOWN 이어도 retry-ms 가 지났고 시험 작업이 없으면 true, 라우팅용)
+     */
+    public boolean isAvailable(PrinterDevice device) {
+        Breaker breaker = breakers.get(device.getId());
+        return breaker == null || breaker.health() != PrinterHealth.DOWN || breaker.trialDue();
+    }
+
+    /**
+     * 포트를 쓰기 직전에 호출한다. DOWN 이면 retry-ms 가 지난 뒤 한 작업만 시험으로 통과시킨다
+     * (결과는 recordSuccess/recordFailure 로 알려야 한다).
+     */
+    public boolean tryAcquire(PrinterDevice device) {
+        Breaker breaker = breakers.get(device.getId());
+        if (breaker == null || breaker.health() != PrinterHealth.DOWN) {
+            return true;
+        }
+        synchronized (breaker) {
+            if (breaker.health() != PrinterHealth.DOWN) {
+                return true;
+            }
+            if (!breaker.trialDue()) {
+                return false;
+            }
+            breaker.trial = true;
+            log.info("프린터 {} DOWN, 시험 작업을 보냅니다", device.getId());
+            return true;
+        }
+    }
+
+    /**
+     * 마지막 실패 사유 (없으면 빈 값)
+     */
+    public Optional<String> getLastError(String printerId) {
+        Breaker breaker = breakers.get(printerId);
+        return breaker == null ? Optional.empty() : Optional.ofNullable(breaker.lastError);
+    }
+
+    public void recordSuccess(PrinterDevice device) {
+        update(device.getId(), null, null);
+    }
+
+    public void recordFailure(PrinterDevice device, String reason) {
+        update(device.getId(), reason, null);
+    }
+
+    void checkAll() {
+        for (PrinterDevice device : devices) {
+            try {
+                check(device);
+            } catch (RuntimeException e) {
+                log.debug("프린터 {} 상태 조회 오류: {}", device.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 상태를 한 번 조회해서 반영한다 (포트를 다른 작업이 쓰고 있으면 건너뛴다)
+     */
+    void check(PrinterDevice device) {
+        Optional<PrinterStatus> status;
+        try {
+            status = connectionManager.tryExecute(device.getPort(), PrinterService.serialSettings(device),
+                transport -> query(device, transport));
+        } catch (RuntimeException e) {
+            update(device.getId(), e.getMessage(), null);
+            return;
+        }
+        status.ifPresent(current -> update(device.getId(), null, current));
+    }
+
+    // 인쇄할 수 없으면 PrinterNotReadyException (상태 조회를 하지 않는 프린터는 포트가 열리면 정상)
+    // ACK 를 쓰지 않는 패킷 프린터는 상태 패킷에도 답하지 않으므로 포트가 열리면 정상으로 본다
+    private static PrinterStatus query(PrinterDevice device, PrinterTransport transport) throws IOException {
+        if (device.getProtocol() == PrinterProtocol.PACKET && !device.getPacket().isAck()) {
+            return PrinterStatus.of(0x12, 0x12, 0x12);
+        }
+        if (device.getProtocol() == PrinterProtocol.PACKET) {
+            if (!LinkSpeedProbe.answers(device, transport.getInputStream(), transport.getOutputStream(),
+                device.getStatusTimeoutMillis())) {
+                throw new PrinterNotReadyException("프린터 응답 없음 (전원/케이블 확인)");
+            }
+            return PrinterStatus.of(0x12, 0x12, 0x12);
+        }
+        if (!device.isStatusCheck()) {
+            return PrinterStatus.of(0x12, 0x12, 0x12);
+        }
+        return PrinterStatusReader.requireReady(transport.getInputStream(), transport.getOutputStream(),
+            device.getStatusTimeoutMillis());
+    }
+
+    // error 가 있으면 실패, 없으면 성공 (status 는 상태 조회로 알게 된 용지 상태)
+    private void update(String printerId, String error, PrinterStatus status) {
+        Breaker breaker = breaker(printerId);
+        PrinterHealth before;
+        PrinterHealth after;
+        synchronized (breaker) {
+            before = breaker.health();
+            breaker.trial = false;
+            if (error == null) {
+                breaker.failures = 0;
+                breaker.lastError = null;
+                if (status != null) {
+                    breaker.paperNearEnd = status.isPaperNearEnd();
+                }
+            } else {
+                breaker.failures++;
+                breaker.lastError = error;
+                if (breaker.health() == PrinterHealth.DOWN) {
+                    // 시험 작업도 실패하면 retry-ms 를 다시 기다린다
+                    breaker.downAt = System.nanoTime();
+                }
+            }
+            after = breaker.health();
+        }
+        if (before != after) {
+            if (after == PrinterHealth.HEALTHY) {
+                log.info("프린터 {} 상태 {} → {}", printerId, before, after);
+            } else {
+                log.warn("프린터 {} 상태 {} → {} ({})", printerId, before, after,
+                    error != null ? error : "용지 부족");
+            }
+        }
+    }
+
+    private Breaker breaker(String printerId) {
+        return breakers.computeIfAbsent(printerId, id -> {
+            Breaker breaker = new Breaker();
+            metrics.gaugeHealth(id, breaker, b -> b.health().ordinal());
+            return breaker;
+        });
+    }
+
+    // 프린터 하나의 연속 실패 수 (인쇄 결과와 상태 조회가 함께 센다)
+    private final class Breaker {
+
+        private volatile int failures;
+        private volatile boolean paperNearEnd;
+        private volatile String lastError;
+        private volatile long downAt;
+        private volatile boolean trial;  // DOWN 중 시험 작업이 나가 있음
+
+        private boolean trialDue() {
+            return !trial && System.nanoTime() - downAt >= TimeUnit.MILLISECONDS.toNanos(retryMillis);
+        }
+
+        private PrinterHealth health() {
+            if (failures >= downAfter) {
+                return PrinterHealth.DOWN;
+            }
+            return failures > 0 || paperNearEnd ? PrinterHealth.DEGRADED : PrinterHealth.HEALTHY;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.pay.printer.printer.service;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProperties;
+import com.pay.printer.printer.config.PrinterProperties.RoutingMode;
+import com.pay.printer.printer.job.PrintJobQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterRouter
+ * @date : 2026-10-17
+ * @description : 인쇄 요청을 보낼 프린터 선택 (ID 지정 또는 라운드로빈/최소 부하)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrinterRouter {
+
+    private final PrinterProperties printerProperties;
+    private final PrintJobQueue printJobQueue;
+    private final PrinterHealthMonitor healthMonitor;
+
+    @Value("${printer.port.name}")
+    private String defaultPortName;
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private Map<String, PrinterDevice> devicesById;
+    private List<PrinterDevice> devices;
+
+    @PostConstruct
+    public void init() {
+        List<PrinterDevice> configured = new ArrayList<>(printerProperties.getDevices());
+        if (configured.isEmpty()) {
+            // 기존 단일 포트 설정 호환
+            configured.add(PrinterDevice.of("default", defaultPortName));
+        }
+
+        Map<String, PrinterDevice> byId = new LinkedHashMap<>();
+        for (PrinterDevice device : configured) {
+            if (device.getId() == null || device.getPort() == null) {
+                throw new IllegalStateException("프린터 설정에 id/port 가 없습니다: " + device);
+            }
+            if (byId.put(device.getId(), device) != null) {
+                throw new IllegalStateException("프린터 ID가 중복되었습니다: " + device.getId());
+            }
+        }
+        for (PrinterDevice device : configured) {
+            String backup = device.getBackup();
+            if (backup != null && (backup.equals(device.getId()) || !byId.containsKey(backup))) {
+                throw new IllegalStateException("프린터 " + device.getId() + " 의 예비 프린터가 잘못되었습니다: " + backup);
+            }
+        }
+        devicesById = Collections.unmodifiableMap(byId);
+        devices = List.copyOf(byId.values());
+        log.info("프린터 {}대 설정 ({}): {}", devices.size(), printerProperties.getRouting().getMode(), byId.keySet());
+        healthMonitor.watch(devices);
+    }
+
+    /**
+     * printerId 가 있으면 그 프린터 (DOWN 이면 예비 프린터), 없으면 분배 방식에 따라 DOWN 이 아닌 프린터 중에서 선택
+     *
+     * @throws UnknownPrinterException     설정에 없는 프린터 ID
+     * @throws PrinterUnavailableException 보낼 수 있는 프린터가 없음
+     */
+    public PrinterDevice route(String printerId) {
+        if (printerId != null && !printerId.isEmpty()) {
+            return available(getDevice(printerId));
+        }
+        if (devices.size() == 1) {
+            return available(devices.get(0));
+        }
+        PrinterDevice selected = printerProperties.getRouting().getMode() == RoutingMode.ROUND_ROBIN
+            ? roundRobin()
+            : leastLoaded();
+        if (selected == null) {
+            throw new PrinterUnavailableException("사용할 수 있는 프린터가 없습니다");
+        }
+        return selected;
+    }
+
+    public PrinterHealth getHealth(String printerId) {
+        return healthMonitor.getHealth(printerId);
+    }
+
+    public PrinterDevice getDevice(String printerId) {
+        PrinterDevice device = devicesById.get(printerId);
+        if (device == null) {
+            throw new UnknownPrinterException("설정되지 않은 프린터입니다: " + printerId);
+        }
+        return device;
+    }
+
+    public List<PrinterDevice> getDevices() {
+        return devices;
+    }
+
+    // DOWN 이면 예비 프린터로 (예비도 DOWN 이면 실패)
+    private PrinterDevice available(PrinterDevice device) {
+        if (healthMonitor.isAvailable(device)) {
+            return device;
+        }
+        if (device.getBackup() != null) {
+            PrinterDevice backup = devicesById.get(device.getBackup());
+            if (healthMonitor.isAvailable(backup)) {
+                log.debug("프린터 {} DOWN, 예비 프린터 {} 로 보냅니다", device.getId(), backup.getId());
+                return backup;
+            }
+        }
+        throw new PrinterUnavailableException("프린터 " + device.getId() + " 사용 불가: "
+            + healthMonitor.getLastError(device.getId()).orElse("응답 없음"));
+    }
+
+    private PrinterDevice roundRobin() {
+        for (int i = 0; i < devices.size(); i++) {
+            PrinterDevice device = devices.get(Math.floorMod(nextIndex.getAndIncrement(), devices.size()));
+            if (healthMonitor.isAvailable(device)) {
+                return device;
+            }
+        }
+        return null;
+    }
+
+    private PrinterDevice leastLoaded() {
+        // 부하가 같으면 라운드로빈 순서로 고른다 (항상 첫 프린터로 몰리지 않도록)
+        int start = Math.floorMod(nextIndex.getAndIncrement(), devices.size());
+        PrinterDevice selected = null;
+        int minDepth = Integer.MAX_VALUE;
+        for (int i = 0; i < devices.size(); i++) {
+            PrinterDevice device = devices.get((start + i) % devices.size());
+            if (!healthMonitor.isAvailable(device)) {
+                continue;
+            }
+            int depth = printJobQueue.queueDepth(device.getId());
+            if (depth < minDepth) {
+                minDepth = depth;
+                selected = device;
+            }
+        }
+        return selected;
+    }
+}
@@ -1,133 +1,402 @@
 package com.pay.printer.printer.service;
 
 import com.fazecast.jSerialComm.SerialPort;
+import com.pay.printer.printer.config.FlowControl;
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.SerialSettings;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.FormattingState;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.LineWrapper;
+import com.pay.printer.printer.escpos.PrinterNotReadyException;
+import com.pay.printer.printer.escpos.PrinterStatusReader;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.escpos.StatusPollingOutputStream;
+import com.pay.printer.printer.metrics.CountingOutputStream;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.packet.PacketOutputStream;
+import com.pay.printer.printer.packet.PacketSettings;
+import com.pay.printer.printer.packet.PacketTransport;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class PrinterService {
-    
+
+    private final PrinterConnectionManager connectionManager;
+    private final KoreanTextEncoder textEncoder;
+    private final PrinterMetrics metrics;
+    private final PrinterHealthMonitor healthMonitor;
+
+    // 스트리밍 인쇄에서 한 번에 읽어서 보낼 글자 수 (메모리 사용량 상한)
+    private static final int STREAM_CHUNK_CHARS = 2048;
+
     @Value("${printer.port.name}")
     private String portName;  // application.yml에서 설정
-    
-    // ESC/POS 명령어
-    private static final byte[] ESC = {0x1B};
-    private static final byte[] GS = {0x1D};
-
-    // 초기화
-    private static final byte[] INIT = {0x1B, 0x40};
-
-    // 한글 모드 설정
-    private static final byte[] KOREAN_MODE = {0x1C, 0x26}; // 한글 모드 시작
-    private static final byte[] ASCII_MODE = {0x1C, 0x2E};  // 한글 모드 해제
-
-    // 줄바꿈
-    private static final byte[] NEW_LINE = {0x0A};
-
-    // 용지 컷팅 (전체 컷)
-    private static final byte[] PAPER_CUT = {0x1D, 0x56, 0x00};
-    // 용지 컷팅 (부분 컷)
-    private static final byte[] PAPER_PART_CUT = {0x1D, 0x56, 0x01};
-    private static final byte[] TEXT_NORMAL = {0x1B, 0x21, 0x00};  // 기본 크기
-    private static final byte[] ALIGN_LEFT = {0x1B, 0x61, 0x00};   // 왼쪽 정렬
-    private static final byte[] FEED_AND_CUT = {
-        0x1D, 0x56, 0x42, 0x50  // GS V B n - n은 커팅 전 피드할 라인 수
-    };
+
+    // 초기화 후 대기 (ms)
+    @Value("${printer.timing.init-delay-ms:100}")
+    private int initDelayMillis;
+
+    // 커팅 후 대기 (ms)
+    @Value("${printer.timing.cut-delay-ms:0}")
+    private int cutDelayMillis;
+
+    // STATUS_POLL 방식에서 한 구간 처리를 기다릴 최대 시간 (ms)
+    @Value("${printer.timing.drain-timeout-ms:10000}")
+    private int drainTimeoutMillis;
+
+    // 작업 스레드마다 영수증 버퍼 하나를 재사용
+    private final ThreadLocal<ReceiptBuilder> receiptBuffer =
+        ThreadLocal.withInitial(this::newReceiptBuilder);
+
+    @Autowired
+    public PrinterService(PrinterConnectionManager connectionManager, KoreanTextEncoder textEncoder,
+                          PrinterMetrics metrics, PrinterHealthMonitor healthMonitor) {
+        this.connectionManager = connectionManager;
+        this.textEncoder = textEncoder;
+        this.metrics = metrics;
+        this.healthMonitor = healthMonitor;
+    }
+
+    public PrinterService(PrinterConnectionManager connectionManager, KoreanTextEncoder textEncoder,
+                          PrinterMetrics metrics) {
+        this(connectionManager, textEncoder, metrics, PrinterHealthMonitor.none());
+    }
 
     public void print(String text) {
-        SerialPort serialPort = null;
-        try {
-            serialPort = openSerialPort();
-            if (serialPort == null) {
-                throw new RuntimeException("프린터 포트를 열 수 없습니다.");
+        print(PrinterDevice.of("default", portName), text);
+    }
+
+    public void print(PrinterDevice device, String text) {
+        print(device, ReceiptContent.text(text));
+    }
+
+    public void print(PrinterDevice device, ReceiptContent content) {
+        transmit(device, assemble(content));
+    }
+
+    /**
+     * 여러 장을 한 번의 포트 사용으로 이어서 보낸다 (초기화는 처음 한 번, 장마다 커팅).
+     * 한 장을 다 보낼 때마다 sent 에 순번을 알리고, 실패하면 그 뒤 장은 보내지 않는다.
+     */
+    public void printBatch(PrinterDevice device, List<ReceiptContent> contents, IntConsumer sent) {
+        transmit(device, (in, out) -> {
+            for (int i = 0; i < contents.size(); i++) {
+                // 상태 확인도 처음 한 번만 (용지가 떨어지면 다음 묶음의 확인에서 걸린다)
+                send(device, assemble(contents.get(i), i == 0), in, out, i == 0 && device.isStatusCheck());
+                sent.accept(i);
             }
+        });
+    }
 
-            // 프린터 완전 초기화
-            write(serialPort, INIT);
-            Thread.sleep(100);  // 초기화 후 잠시 대기
+    /**
+     * 긴 문서를 다 받기 전에 인쇄를 시작한다. reader 에서 읽은 조각마다 인코딩/줄바꿈해서 바로 보내고,
+     * 포트가 받을 수 있을 때까지 쓰기가 멈추는 동안 다음 조각을 읽지 않는다 (메모리는 조각 하나 크기).
+     *
+     * @return 읽은 글자 수
+     */
+    public long printStream(PrinterDevice device, Reader reader) {
+        long[] read = new long[1];
+        transmit(device, (in, out) -> read[0] = stream(device, reader, in, out));
+        return read[0];
+    }
+
+    private long stream(PrinterDevice device, Reader reader, InputStream in, OutputStream out)
+        throws IOException, InterruptedException {
+        FlowControl flowControl = device.getFlowControl();
+        if (device.getProtocol() == PrinterProtocol.PACKET) {
+            PacketSettings packet = flowControl.isPaced() ? device.getPacket().withoutInterval() : device.getPacket();
+            PacketTransport transport = new PacketTransport(in, out, packet);
+            PacketOutputStream packetOut = new PacketOutputStream(transport);
+            try {
+                long read = stream(device, reader, packetOut, !packet.isAck() && !flowControl.isPaced());
+                packetOut.finish();
+                return read;
+            } finally {
+                metrics.recordFrames(device.getId(), transport.getFramesSent(), transport.getRetransmits());
+            }
+        }
+
+        if (device.isStatusCheck()) {
+            PrinterStatusReader.requireReady(in, out, device.getStatusTimeoutMillis());
+        }
+        if (flowControl == FlowControl.STATUS_POLL) {
+            StatusPollingOutputStream polling = new StatusPollingOutputStream(
+                out, in, device.getReceiveBufferSize(), drainTimeoutMillis, device.getStatusTimeoutMillis());
+            long read = stream(device, reader, polling, false);
+            polling.finish();
+            return read;
+        }
+        return stream(device, reader, out, !flowControl.isPaced());
+    }
+
+    private long stream(PrinterDevice device, Reader reader, OutputStream out, boolean honorPauses)
+        throws IOException, InterruptedException {
+        ReceiptBuilder chunk = receiptBuffer.get().reset()
+            .init(initDelayMillis)
+            .command(EscPosCommands.ALIGN_LEFT)
+            .command(EscPosCommands.TEXT_NORMAL)
+            .command(EscPosCommands.KOREAN_MODE);
+        chunk.writeTo(out, honorPauses);
 
-            // 기본 설정
-            write(serialPort, ALIGN_LEFT);     // 왼쪽 정렬
-            write(serialPort, TEXT_NORMAL);    // 기본 글자 크기
-            write(serialPort, KOREAN_MODE);    // 한글 모드
+        LineWrapper wrapper = new LineWrapper(device.getLineColumns());
+        char[] chars = new char[STREAM_CHUNK_CHARS];
+        long read = 0;
+        int count;
+        while ((count = reader.read(chars)) != -1) {
+            chunk.reset();
+            wrapper.append(chars, 0, count, chunk);
+            if (chunk.size() > 0) {
+                chunk.writeTo(out, honorPauses);
+            }
+            read += count;
+        }
 
-            // 텍스트 출력
-//            byte[] textBytes = text.getBytes("EUC-KR");
-            byte[] textBytes = text.getBytes("KSC5601");
-            write(serialPort, textBytes);
+        chunk.reset();
+        wrapper.finish(chunk);
+        chunk.newLines(3)
+            .command(EscPosCommands.ASCII_MODE)
+            .cut(EscPosCommands.FEED_AND_CUT, cutDelayMillis)
+            .writeTo(out, honorPauses);
+        return read;
+    }
+
+    /**
+     * 본문만 (초기화/커팅 없이) 바이트로 조립한다
+     */
+    public byte[] render(ReceiptContent content) {
+        ReceiptBuilder receipt = receiptBuffer.get().reset();
+        content.writeTo(receipt);
+        return receipt.toByteArray();
+    }
 
-            // 충분한 여백 추가 (4~5줄 정도)
-            for (int i = 0; i < 3; i++) {
-                write(serialPort, NEW_LINE);
+    /**
+     * 본문을 조립해서 줄 끝에서 나눈다. 한 구간은 partBytes 를 넘지 않는다 (한 줄이 더 길면 그 줄 전체).
+     * 줄바꿈 없이 명령으로만 된 본문(이미지 등)은 나누지 않는다.
+     * 구간 시작의 정렬/굵게/글자 크기/한글 모드가 영수증 시작 상태와 다르면 그 상태를 다시 설정하는 명령을
+     * 구간 앞에 붙인다 (중간에 잘라 ESC @ 로 이어 보내도 모양이 이어지도록, 이어서 보낼 때는 같은 값을 다시 설정할 뿐).
+     */
+    public List<byte[]> split(ReceiptContent content, int partBytes) {
+        ReceiptBuilder receipt = receiptBuffer.get().reset();
+        content.writeTo(receipt);
+        if (partBytes <= 0) {
+            return List.of(receipt.toByteArray());
+        }
+
+        List<byte[]> parts = new ArrayList<>();
+        FormattingState state = FormattingState.afterPreamble();
+        int start = 0;
+        int lastEnd = 0;
+        for (int end : receipt.lineEnds()) {
+            if (end - start > partBytes && lastEnd > start) {
+                parts.add(part(receipt, state, start, lastEnd));
+                start = lastEnd;
             }
+            lastEnd = end;
+        }
+        if (receipt.size() - start > partBytes && lastEnd > start) {
+            parts.add(part(receipt, state, start, lastEnd));
+            start = lastEnd;
+        }
+        if (start < receipt.size() || parts.isEmpty()) {
+            parts.add(part(receipt, state, start, receipt.size()));
+        }
+        return parts;
+    }
 
-            // 버퍼 비우기
-            serialPort.flushIOBuffers();
+    // state 는 from 위치의 글자 모양 상태, 구간을 읽고 나면 to 위치 상태가 된다
+    private static byte[] part(ReceiptBuilder receipt, FormattingState state, int from, int to) {
+        byte[] body = receipt.copyOfRange(from, to);
+        byte[] restore = state.isDefault() ? null : state.restoreCommands();
+        state.scan(body, 0, body.length);
+        if (restore == null) {
+            return body;
+        }
+        byte[] part = Arrays.copyOf(restore, restore.length + body.length);
+        System.arraycopy(body, 0, part, restore.length, body.length);
+        return part;
+    }
 
-            // 잠시 대기
-            Thread.sleep(200);
+    /**
+     * 나눈 본문의 한 구간을 보낸다. start 면 영수증 처음처럼 초기화하고, end 면 영수증 끝처럼 여백을 두고 자른다.
+     * 다른 작업에 자리를 내줄 때도 end 로 잘라서 나머지는 다음 장에 이어서 나온다.
+     *
+     * @param endsWithCut 본문이 직접 커팅으로 끝나는 경우 (마지막 구간만)
+     */
+    public void printPart(PrinterDevice device, byte[] part, boolean start, boolean end, boolean endsWithCut) {
+        ReceiptBuilder receipt = receiptBuffer.get().reset();
+        if (start) {
+            receipt.init(initDelayMillis)
+                .command(EscPosCommands.ALIGN_LEFT)
+                .command(EscPosCommands.TEXT_NORMAL)
+                .command(EscPosCommands.KOREAN_MODE);
+        }
+        receipt.command(part);
+        if (end && endsWithCut) {
+            receipt.command(EscPosCommands.ASCII_MODE).pause(cutDelayMillis);
+        } else if (end) {
+            receipt.newLines(3)
+                .command(EscPosCommands.ASCII_MODE)
+                .cut(EscPosCommands.FEED_AND_CUT, cutDelayMillis);
+        }
+        transmit(device, receipt);
+    }
 
-            // 한글 모드 해제
-            write(serialPort, ASCII_MODE);
+    /**
+     * 초기화 ~ 커팅까지 영수증 한 장을 작업 스레드의 버퍼에 조립한다
+     */
+    ReceiptBuilder assemble(ReceiptContent content) {
+        return assemble(content, true);
+    }
 
-            // 용지 커팅 전 추가 대기
-            Thread.sleep(200);
+    // init 이 false 면 프린터 초기화 없이 정렬/글자 크기/한글 모드만 되돌린다 (묶음 인쇄의 두 번째 장부터)
+    ReceiptBuilder assemble(ReceiptContent content, boolean init) {
+        ReceiptBuilder receipt = receiptBuffer.get().reset();
+        if (init) {
+            receipt.init(initDelayMillis);         // 프린터 완전 초기화
+        }
+        receipt
+            .command(EscPosCommands.ALIGN_LEFT)    // 왼쪽 정렬
+            .command(EscPosCommands.TEXT_NORMAL)   // 기본 글자 크기
+            .command(EscPosCommands.KOREAN_MODE);  // 한글 모드
+        content.writeTo(receipt);                  // 본문 출력
+        if (content.endsWithCut()) {
+            // 템플릿이 직접 커팅한 경우 커팅 대기만 둔다
+            receipt.command(EscPosCommands.ASCII_MODE).pause(cutDelayMillis);
+        } else {
+            receipt.newLines(3)                        // 충분한 여백 추가
+                .command(EscPosCommands.ASCII_MODE)    // 한글 모드 해제
+                .cut(EscPosCommands.FEED_AND_CUT, cutDelayMillis);
+        }
+        return receipt;
+    }
 
-            // 용지 커팅
-//            write(serialPort, PAPER_CUT);
-            write(serialPort, FEED_AND_CUT);
+    /**
+     * 초기화/커팅 없이 명령만 보낸다 (NV 이미지 등록 등)
+     */
+    public void sendCommand(PrinterDevice device, ReceiptBuilder command) {
+        transmit(device, command);
+    }
 
-            // 최종 버퍼 비우기
-            serialPort.flushIOBuffers();
+    private void transmit(PrinterDevice device, ReceiptBuilder receipt) {
+        if (log.isDebugEnabled()) {
+            log.debug("Writing {} bytes", receipt.size());
+        }
+        transmit(device, (in, out) -> send(device, receipt, in, out));
+    }
+
+    // 포트를 빌려서 전송하고 전송 시간/바이트 수/실패를 기록한다
+    // DOWN 인 프린터는 포트를 열어 보지 않고 바로 실패 (retry-ms 마다 한 작업은 시험으로 보낸다)
+    private void transmit(PrinterDevice device, PortSession session) {
+        if (!healthMonitor.tryAcquire(device)) {
+            PrinterUnavailableException e = new PrinterUnavailableException("프린터 " + device.getId() + " 사용 불가: "
+                + healthMonitor.getLastError(device.getId()).orElse("응답 없음"));
+            metrics.recordFailure(device.getId(), e);
+            throw e;
+        }
+        try {
+            connectionManager.execute(device.getPort(), serialSettings(device), transport -> {
+                Timer.Sample sample = Timer.start();
+                CountingOutputStream out = new CountingOutputStream(transport.getOutputStream());
+                try {
+                    session.run(transport.getInputStream(), out);
+                } finally {
+                    sample.stop(metrics.transmission(device.getId()));
+                    metrics.recordBytesWritten(device.getId(), out.getCount());
+                }
+                return null;
+            });
+            healthMonitor.recordSuccess(device);
+        } catch (PrinterNotReadyException e) {
+            log.warn("프린터 {} 인쇄 불가: {}", device.getId(), e.getMessage());
+            metrics.recordFailure(device.getId(), e);
+            healthMonitor.recordFailure(device, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("프린터 출력 중 오류 발생", e);
+            metrics.recordFailure(device.getId(), e);
+            healthMonitor.recordFailure(device, e.getMessage());
             throw new RuntimeException("프린터 출력 실패", e);
-        } finally {
-            if (serialPort != null && serialPort.isOpen()) {
-                serialPort.closePort();
+        }
+    }
+
+    private ReceiptBuilder newReceiptBuilder() {
+        return new ReceiptBuilder(textEncoder);
+    }
+
+    // 포트 스트림에 프린터 방식(ESC/POS, 패킷)과 흐름 제어에 맞게 전송
+    void send(PrinterDevice device, ReceiptBuilder receipt, InputStream in, OutputStream out)
+        throws IOException, InterruptedException {
+        send(device, receipt, in, out, device.isStatusCheck());
+    }
+
+    private void send(PrinterDevice device, ReceiptBuilder receipt, InputStream in, OutputStream out,
+                      boolean statusCheck) throws IOException, InterruptedException {
+        FlowControl flowControl = device.getFlowControl();
+        if (device.getProtocol() == PrinterProtocol.PACKET) {
+            // 패킷마다 ACK 를 받으므로 영수증 안의 고정 대기는 쓰지 않는다
+            PacketSettings packet = flowControl.isPaced() ? device.getPacket().withoutInterval() : device.getPacket();
+            PacketTransport transport = new PacketTransport(in, out, packet);
+            PacketOutputStream packetOut = new PacketOutputStream(transport);
+            try {
+                receipt.writeTo(packetOut, !packet.isAck() && !flowControl.isPaced());
+                packetOut.finish();
+            } finally {
+                metrics.recordFrames(device.getId(), transport.getFramesSent(), transport.getRetransmits());
             }
+            return;
+        }
+
+        // 용지 없음/커버 열림이면 보내기 전에 실패 처리
+        if (statusCheck) {
+            PrinterStatusReader.requireReady(in, out, device.getStatusTimeoutMillis());
+        }
+
+        if (flowControl == FlowControl.STATUS_POLL) {
+            StatusPollingOutputStream polling = new StatusPollingOutputStream(
+                out, in, device.getReceiveBufferSize(), drainTimeoutMillis, device.getStatusTimeoutMillis());
+            receipt.writeTo(polling, false);
+            polling.finish();
+        } else {
+            // 흐름 제어가 있으면 드라이버가 CTS/XOFF 에 맞춰 쓰기를 멈추므로 고정 대기가 필요 없다
+            receipt.writeTo(out, !flowControl.isPaced());
         }
     }
-    private void write(SerialPort serialPort, byte[] data) {
-        // 디버깅을 위한 로그 추가
-        if (log.isDebugEnabled()) {
-            log.debug("Writing bytes: " + Arrays.toString(data));
-        }
-        serialPort.writeBytes(data, data.length);
-    }
-    
-    private SerialPort openSerialPort() {
-        SerialPort serialPort = SerialPort.getCommPort(portName);
-        
-        // 시리얼 포트 설정
-//        serialPort.setBaudRate(9600);
-        serialPort.setBaudRate(115200);
-        serialPort.setNumDataBits(8);
-        serialPort.setNumStopBits(1);
-        serialPort.setParity(SerialPort.NO_PARITY);
-        serialPort.setFlowControl(SerialPort.FLOW_CONTROL_DISABLED);  // 흐름 제어 없음
-        // 타임아웃 설정 수정
-        serialPort.setComPortTimeouts(
-            SerialPort.TIMEOUT_READ_SEMI_BLOCKING | SerialPort.TIMEOUT_WRITE_BLOCKING,
-            2000,  // Read timeout
-            2000   // Write timeout
-        );
-        
-        if (!serialPort.openPort()) {
-            log.error("포트를 열 수 없습니다: {}", portName);
-            return null;
-        }
-        
-        return serialPort;
-    }
-    
-    // 사용 가능한 시리얼 포트 목록 조회
-    public String[] getAvailablePorts() {
-        return Arrays.stream(SerialPort.getCommPorts())
-                .map(SerialPort::getSystemPortName)
-                .toArray(String[]::new);
-    }
-}
\ No newline at end of file
+
+    // 시리얼 포트 설정 (속도는 프린터별 설정)
+    static SerialSettings serialSettings(PrinterDevice device) {
+        return serialSettings(device, device.getBaudRate());
+    }
+
+    static SerialSettings serialSettings(PrinterDevice device, int baudRate) {
+        return SerialSettings.builder()
+            .baudRate(baudRate)
+            .flowControl(device.getFlowControl().getSerialFlags())
+            .timeoutMode(SerialPort.TIMEOUT_READ_SEMI_BLOCKING | SerialPort.TIMEOUT_WRITE_BLOCKING)
+            .readTimeout(2000)
+            .writeTimeout(2000)
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface PortSession {
+
+        void run(InputStream in, OutputStream out) throws IOException, InterruptedException;
+    }
+}
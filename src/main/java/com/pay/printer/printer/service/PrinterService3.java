@@ -1,8 +1,15 @@
 package com.pay.printer.printer.service;
 
 import com.fazecast.jSerialComm.SerialPort;
-import java.io.ByteArrayOutputStream;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.SerialSettings;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.packet.PacketFramer;
+import com.pay.printer.printer.packet.PacketSettings;
+import com.pay.printer.printer.packet.PacketTransport;
 import java.io.IOException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -17,20 +24,17 @@ import org.springframework.stereotype.Service;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class PrinterService3 {
 
+    private final PrinterConnectionManager connectionManager;
+    private final KoreanTextEncoder textEncoder;
+
     // ESC/POS 명령어
-    private static final byte[] ESC_INIT = {0x1B, 0x40};         // 프린터 초기화
     private static final byte[] LF = {0x0A};                     // 라인피드
-    private static final byte[] LINE_FEED = {0x0A};                     // 라인피드
     private static final byte[] ESC_CUT = {0x1D, 0x56, 0x41};   // 용지 커팅
     private static final byte[] PARTIAL_CUT = {0x1D, 0x56, 0x01};    // 부분 커팅
 
-    // 시리얼 통신용 패킷 명령어
-    private static final byte STX = 0x02;
-    private static final byte ETX = 0x03;
-    private static final byte CMD_PRINT = 0x20;
-    private static final String portName = "COM4";
 
     // 한글 설정
     private static final byte[] SET_KOREAN = {
@@ -44,23 +48,14 @@ public class PrinterService3 {
     };
 
     // 9600 통신으로 ESC/POS 명령어 전송
-    public void testWithESCPOS() {
-        SerialPort serialPort = null;
+    public void testWithESCPOS(String portName) {
         try {
-            serialPort = openSerialPort(9600);
-            if (serialPort == null) {
-                throw new RuntimeException("포트를 열 수 없습니다.");
-            }
-
-            System.out.println("ESC/POS 명령어로 테스트 시작");
-
-            // 초기화
-            sendRawCommand(serialPort, ESC_INIT);
-            Thread.sleep(100);
+            log.info("ESC/POS 명령어로 테스트 시작");
 
-            // 영어 출력
-            write(serialPort, SET_ENGLISH);
-            Thread.sleep(50);
+            // 테스트 영수증 전체를 버퍼 하나에 조립
+            ReceiptBuilder receipt = new ReceiptBuilder(textEncoder)
+                .init(100)                 // 초기화
+                .command(SET_ENGLISH);     // 영어 출력
 
             String[] englishSamples = {
                 "=================",
@@ -72,18 +67,14 @@ public class PrinterService3 {
             };
 
             for (String text : englishSamples) {
-                write(serialPort, text.getBytes());
-                write(serialPort, LINE_FEED);
-                Thread.sleep(50);
+                receipt.text(text).newLine();
             }
 
             // 빈 줄
-            write(serialPort, LINE_FEED);
-            write(serialPort, LINE_FEED);
+            receipt.newLines(2);
 
             // 한글 출력
-            write(serialPort, SET_KOREAN);
-            Thread.sleep(50);
+            receipt.command(SET_KOREAN).pause(100);  // SET_KOREAN 안에 초기화가 포함됨
 
             String[] koreanSamples = {
                 "=================",
@@ -95,163 +86,61 @@ public class PrinterService3 {
             };
 
             for (String text : koreanSamples) {
-                try {
-                    write(serialPort, text.getBytes("EUC-KR"));
-                    write(serialPort, LINE_FEED);
-                    Thread.sleep(50);
-                } catch (Exception e) {
-                    System.out.println("한글 인코딩 실패: " + e.getMessage());
-                }
+                receipt.text(text).newLine();
             }
 
             // 5줄 띄우기
-            for (int i = 0; i < 5; i++) {
-                sendRawCommand(serialPort, LF);
-                Thread.sleep(50);
-            }
+            receipt.newLines(5);
 
             // 용지 커팅
-//            sendRawCommand(serialPort, ESC_CUT);
-            sendRawCommand(serialPort, PARTIAL_CUT);
-
+//            receipt.command(ESC_CUT);
+            receipt.command(PARTIAL_CUT);
+
+            log.debug("전송 데이터 {} bytes", receipt.size());
+            connectionManager.execute(portName, serialSettings(9600), transport -> {
+                receipt.writeTo(transport.getOutputStream());
+                return null;
+            });
         } catch (Exception e) {
-            System.out.println("프린터 테스트 중 오류 발생: " + e.getMessage());
-        } finally {
-            if (serialPort != null && serialPort.isOpen()) {
-                serialPort.closePort();
-            }
-        }
-    }
-
-    private void write(SerialPort serialPort, byte[] data) {
-        try {
-            System.out.print("전송 데이터: ");
-            for (byte b : data) {
-                System.out.printf("%02X ", b);
-            }
-            System.out.println();
-
-            serialPort.getOutputStream().write(data);
-            serialPort.getOutputStream().flush();
-
-        } catch (Exception e) {
-            System.out.println("데이터 전송 실패: " + e.getMessage());
+            log.error("프린터 테스트 중 오류 발생: {}", e.getMessage());
         }
     }
 
     // 115200 통신으로 패킷 방식 전송
-    public void testWithPacket() {
-        SerialPort serialPort = null;
-        try {
-            serialPort = openSerialPort(115200);
-            if (serialPort == null) {
-                throw new RuntimeException("포트를 열 수 없습니다.");
-            }
-
-            System.out.println("패킷 방식으로 테스트 시작");
-
-            // 5줄 띄우기
-            for (int i = 0; i < 5; i++) {
-                byte[] packet = buildPacket(CMD_PRINT, LF);
-                sendPacket(serialPort, packet);
-                Thread.sleep(50);
-            }
-
-            // 용지 커팅
-            byte[] cutPacket = buildPacket(CMD_PRINT, ESC_CUT);
-            sendPacket(serialPort, cutPacket);
-
-        } catch (Exception e) {
-            System.out.println("프린터 테스트 중 오류 발생: " + e.getMessage());
-        } finally {
-            if (serialPort != null && serialPort.isOpen()) {
-                serialPort.closePort();
-            }
-        }
-    }
-
-    private SerialPort openSerialPort(int baudRate) {
-        SerialPort serialPort = SerialPort.getCommPort(portName);
-
-        serialPort.setBaudRate(baudRate);
-        serialPort.setNumDataBits(8);
-        serialPort.setNumStopBits(1);
-        serialPort.setParity(SerialPort.NO_PARITY);
-
-        serialPort.setComPortTimeouts(
-            SerialPort.TIMEOUT_WRITE_BLOCKING,
-            0,
-            1000
-        );
-
-        if (!serialPort.openPort()) {
-            System.out.println("포트를 열 수 없습니다: " + portName);
-            return null;
-        }
-
-        return serialPort;
-    }
-
-    // ESC/POS 명령어 직접 전송
-    private void sendRawCommand(SerialPort serialPort, byte[] command) {
+    public void testWithPacket(String portName) {
         try {
-            printBytes("전송 명령어", command);
-            serialPort.writeBytes(command, command.length);
-            serialPort.getOutputStream().flush();
-            Thread.sleep(50);
-        } catch (Exception e) {
-            System.out.println("명령어 전송 실패: " + e.getMessage());
-        }
-    }
-
-    // 패킷 구성
-    private byte[] buildPacket(byte command, byte[] data) throws IOException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        try {
-            bos.write(STX);
-            int length = data.length + 1;
-            bos.write((length >> 8) & 0xFF);
-            bos.write(length & 0xFF);
-            bos.write(command);
-            bos.write(data);
-            bos.write(ETX);
-
-            byte[] temp = bos.toByteArray();
-            byte lrc = calculateLRC(temp, 1, temp.length - 1);
-            bos.write(lrc);
-
-            return bos.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("패킷 생성 실패", e);
-        }
-    }
+            connectionManager.execute(portName, serialSettings(115200), port -> {
+                log.info("패킷 방식으로 테스트 시작");
+                PacketTransport transport = new PacketTransport(
+                    port.getInputStream(), port.getOutputStream(), new PacketSettings());
+
+                // 5줄 띄우기
+                for (int i = 0; i < 5; i++) {
+                    sendPacket(transport, LF);
+                }
 
-    // 패킷 전송
-    private void sendPacket(SerialPort serialPort, byte[] packet) {
-        try {
-            printBytes("전송 패킷", packet);
-            serialPort.writeBytes(packet, packet.length);
-            serialPort.getOutputStream().flush();
-            Thread.sleep(50);
+                // 용지 커팅
+                sendPacket(transport, ESC_CUT);
+                transport.finish();
+                return null;
+            });
         } catch (Exception e) {
-            System.out.println("패킷 전송 실패: " + e.getMessage());
+            log.error("프린터 테스트 중 오류 발생: {}", e.getMessage());
         }
     }
 
-    private byte calculateLRC(byte[] data, int start, int length) {
-        byte lrc = 0;
-        for (int i = start; i < start + length; i++) {
-            lrc ^= data[i];
-        }
-        return lrc;
+    private SerialSettings serialSettings(int baudRate) {
+        return SerialSettings.builder()
+            .baudRate(baudRate)
+            .timeoutMode(SerialPort.TIMEOUT_WRITE_BLOCKING)
+            .readTimeout(0)
+            .writeTimeout(1000)
+            .build();
     }
 
-    private void printBytes(String message, byte[] data) {
-        StringBuilder sb = new StringBuilder(message + ": ");
-        for (byte b : data) {
-            sb.append(String.format("%02X ", b));
-        }
-        System.out.println(sb.toString());
+    // 패킷 전송 (ACK 를 받을 때까지 재전송) - 보낸 바이트는 WireTracer 가 남긴다 (/actuator/wiretrace)
+    private void sendPacket(PacketTransport transport, byte[] data) throws IOException {
+        transport.send(PacketFramer.CMD_PRINT, data, 0, data.length);
     }
 }
 
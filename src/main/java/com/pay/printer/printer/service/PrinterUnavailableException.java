@@ -0,0 +1,20 @@
+package com.pay.printer.printer.service;
+
+import com.pay.printer.printer.escpos.PrinterNotReadyException;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterUnavailableException
+ * @date : 2026-10-17
+ * @description : DOWN 인 프린터로 보낼 요청 (포트를 열어 보지 않고 바로 실패)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class PrinterUnavailableException extends PrinterNotReadyException {
+
+    public PrinterUnavailableException(String message) {
+        super(message);
+    }
+}
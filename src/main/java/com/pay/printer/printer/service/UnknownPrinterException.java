@@ -0,0 +1,18 @@
+package com.pay.printer.printer.service;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : UnknownPrinterException
+ * @date : 2026-10-17
+ * @description : 설정에 없는 프린터 ID로 요청
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class UnknownPrinterException extends RuntimeException {
+
+    public UnknownPrinterException(String message) {
+        super(message);
+    }
+}
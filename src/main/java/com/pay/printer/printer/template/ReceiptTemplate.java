@@ -0,0 +1,156 @@
+package com.pay.printer.printer.template;
+
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.image.ImageMode;
+import com.pay.printer.printer.image.LogoRepository;
+import java.util.Collection;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : ReceiptTemplate
+ * @date : 2026-10-17
+ * @description : 미리 인코딩된 영수증 바이트 이미지 + 값 슬롯 (인쇄할 때는 값만 인코딩해서 끼워 넣는다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class ReceiptTemplate {
+
+    @Getter
+    private final String name;
+
+    // 고정 레이아웃 (머리글, 구분선, 제목, 꼬리글, 정렬/굵게/커팅 명령)
+    private final byte[] image;
+    private final Segment[] segments;
+    private final boolean endsWithCut;
+    private final LogoRepository logoRepository;
+
+    ReceiptTemplate(String name, byte[] image, Segment[] segments, boolean endsWithCut, LogoRepository logoRepository) {
+        this.name = name;
+        this.image = image;
+        this.segments = segments;
+        this.endsWithCut = endsWithCut;
+        this.logoRepository = logoRepository;
+    }
+
+    /**
+     * 값을 검사하고 인쇄할 본문을 만든다 (대기열에 넣기 전에 값 누락을 알 수 있도록)
+     *
+     * @throws TemplateException 슬롯 값이 없거나 반복 구간 값이 목록이 아닌 경우
+     */
+    public ReceiptContent bind(Map<String, ?> values) {
+        validate(segments, values);
+        validateLogos(segments);
+        return new ReceiptContent() {
+            @Override
+            public void writeTo(ReceiptBuilder receipt) {
+                render(segments, values, receipt);
+            }
+
+            @Override
+            public boolean endsWithCut() {
+                return endsWithCut;
+            }
+        };
+    }
+
+    /**
+     * 값이 없는 템플릿의 바이트 크기 (고정 부분)
+     */
+    public int fixedSize() {
+        return image.length;
+    }
+
+    private void render(Segment[] segments, Map<String, ?> values, ReceiptBuilder receipt) {
+        for (Segment segment : segments) {
+            switch (segment.kind) {
+                case FIXED:
+                    receipt.append(image, segment.offset, segment.length, segment.lineEnds);
+                    break;
+                case SLOT:
+                    // 값에 섞인 제어 문자는 버린다 (ESC/GS 가 프린터 명령이 되거나 칸 맞춤이 어긋나지 않게)
+                    CharSequence value = KoreanTextEncoder.stripControls(toText(values.get(segment.name)));
+                    if (segment.width > 0) {
+                        receipt.column(value, segment.width, segment.alignRight);
+                    } else {
+                        receipt.text(value);
+                    }
+                    break;
+                case EACH:
+                    for (Object item : (Collection<?>) values.get(segment.name)) {
+                        render(segment.body, itemValues(item), receipt);
+                    }
+                    break;
+                case SYMBOL:
+                    receipt.command(segment.symbol.apply(toText(values.get(segment.name)).toString()));
+                    break;
+                case LOGO:
+                    logoRepository.get(segment.name)
+                        .writeTo(receipt, segment.alignRight ? ImageMode.COLUMN : ImageMode.RASTER);
+                    break;
+                default:
+                    throw new IllegalStateException(segment.kind.name());
+            }
+        }
+    }
+
+    private static void validate(Segment[] segments, Map<String, ?> values) {
+        for (Segment segment : segments) {
+            if (segment.kind == Segment.Kind.FIXED || segment.kind == Segment.Kind.LOGO) {
+                continue;
+            }
+            Object value = values.get(segment.name);
+            if (value == null) {
+                throw new TemplateException("템플릿 값이 없습니다: " + segment.name);
+            }
+            if (segment.kind == Segment.Kind.SYMBOL) {
+                // 바코드 종류에 맞지 않는 값은 인쇄할 때가 아니라 접수할 때 거절 (만든 명령은 캐시에 남는다)
+                try {
+                    segment.symbol.apply(toText(value).toString());
+                } catch (IllegalArgumentException e) {
+                    throw new TemplateException(segment.name + ": " + e.getMessage());
+                }
+            }
+            if (segment.kind == Segment.Kind.EACH) {
+                if (!(value instanceof Collection)) {
+                    throw new TemplateException("반복 구간 값은 목록이어야 합니다: " + segment.name);
+                }
+                for (Object item : (Collection<?>) value) {
+                    validate(segment.body, itemValues(item));
+                }
+            }
+        }
+    }
+
+    private void validateLogos(Segment[] segments) {
+        for (Segment segment : segments) {
+            if (segment.kind == Segment.Kind.LOGO && !logoRepository.contains(segment.name)) {
+                throw new TemplateException("등록되지 않은 로고: " + segment.name);
+            }
+            if (segment.kind == Segment.Kind.EACH) {
+                validateLogos(segment.body);
+            }
+        }
+    }
+
+    /**
+     * 반복 항목이 객체면 그 필드를, 아니면 {{item}} 으로 항목 자체를 쓴다.
+     * 항목에 없는 이름은 바깥 값에서 찾지 않는다 (항목 필드 누락을 바로 알 수 있도록).
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> itemValues(Object item) {
+        if (item instanceof Map) {
+            return (Map<String, ?>) item;
+        }
+        return item == null ? Map.of() : Map.of("item", item);
+    }
+
+    private static CharSequence toText(Object value) {
+        return value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pay.printer.printer.template;
+
+import java.util.function.Function;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : Segment
+ * @date : 2026-10-17
+ * @description : 컴파일된 템플릿의 구간 (고정 바이트 / 값 슬롯 / 반복 구간)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+final class Segment {
+
+    enum Kind {
+        FIXED,  // image[offset, offset + length) 를 그대로 복사 (lineEnds 는 그 안의 줄 끝)
+        SLOT,   // name 값을 인코딩해서 삽입 (width > 0 이면 칸 맞춤)
+        EACH,   // name 목록의 항목마다 body 반복
+        LOGO,   // 등록된 로고 name 출력 (NV 메모리에 있으면 출력 명령만)
+        SYMBOL  // name 값을 QR/바코드 명령으로 삽입 (symbol 이 명령을 만든다)
+    }
+
+    final Kind kind;
+    final int offset;
+    final int length;
+    final int[] lineEnds;
+    final String name;
+    final int width;
+    final boolean alignRight;  // LOGO 는 ESC * 열 방식 여부
+    final Segment[] body;
+    final Function<String, byte[]> symbol;
+
+    private Segment(Kind kind, int offset, int length, int[] lineEnds, String name, int width, boolean alignRight,
+                    Segment[] body, Function<String, byte[]> symbol) {
+        this.kind = kind;
+        this.offset = offset;
+        this.length = length;
+        this.lineEnds = lineEnds;
+        this.name = name;
+        this.width = width;
+        this.alignRight = alignRight;
+        this.body = body;
+        this.symbol = symbol;
+    }
+
+    static Segment fixed(int offset, int length, int[] lineEnds) {
+        return new Segment(Kind.FIXED, offset, length, lineEnds, null, 0, false, null, null);
+    }
+
+    static Segment slot(String name, int width, boolean alignRight) {
+        return new Segment(Kind.SLOT, 0, 0, null, name, width, alignRight, null, null);
+    }
+
+    static Segment logo(String name, boolean column) {
+        return new Segment(Kind.LOGO, 0, 0, null, name, 0, column, null, null);
+    }
+
+    static Segment each(String name, Segment[] body) {
+        return new Segment(Kind.EACH, 0, 0, null, name, 0, false, body, null);
+    }
+
+    static Segment symbol(String name, Function<String, byte[]> symbol) {
+        return new Segment(Kind.SYMBOL, 0, 0, null, name, 0, false, null, symbol);
+    }
+}
@@ -0,0 +1,285 @@
+package com.pay.printer.printer.template;
+
+import com.pay.printer.printer.escpos.BarcodeType;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.HriPosition;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.QrErrorCorrection;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.SymbolEncoder;
+import com.pay.printer.printer.image.LogoRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : TemplateCompiler
+ * @date : 2026-10-17
+ * @description : 영수증 템플릿 문법을 ESC/POS 바이트 이미지 + 슬롯으로 컴파일
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 한 줄이 출력 한 줄이고, # 으로 시작하는 줄은 명령이다.
+ * <pre>
+ * #align left|center|right
+ * #bold on|off
+ * #size normal|wide|tall|double
+ * #feed 3
+ * #cut [partial]
+ * #each items ... #end      (items 목록의 항목마다 반복, 항목 필드는 {{name}})
+ * #logo name [column]       (등록된 로고, column 이면 ESC * 방식)
+ * #qr 내용 [크기 1~16] [L|M|Q|H]                           (내용은 고정값 또는 {{name}})
+ * #barcode code128 내용 [높이] [none|above|below|both] [막대 폭 2~6]
+ * ## 주석
+ * {{name}} {{price:>8}} {{menu:<20}}   (:>n 오른쪽 맞춤, :<n 또는 :n 왼쪽 맞춤, n 은 칸 수)
+ * </pre>
+ */
+public class TemplateCompiler {
+
+    private static final Pattern SLOT = Pattern.compile("\\{\\{\\s*([A-Za-z0-9_]+)\\s*(?::\\s*([<>])?(\\d+))?\\s*}}");
+    private static final Pattern SYMBOL_SLOT = Pattern.compile("\\{\\{([A-Za-z0-9_]+)}}");
+
+    private final KoreanTextEncoder textEncoder;
+    private final LogoRepository logoRepository;
+    private final SymbolEncoder symbolEncoder;
+
+    public TemplateCompiler(KoreanTextEncoder textEncoder) {
+        this(textEncoder, null);
+    }
+
+    public TemplateCompiler(KoreanTextEncoder textEncoder, LogoRepository logoRepository) {
+        this(textEncoder, logoRepository, new SymbolEncoder(32));
+    }
+
+    public TemplateCompiler(KoreanTextEncoder textEncoder, LogoRepository logoRepository, SymbolEncoder symbolEncoder) {
+        this.textEncoder = textEncoder;
+        this.logoRepository = logoRepository;
+        this.symbolEncoder = symbolEncoder;
+    }
+
+    /**
+     * @throws TemplateException 문법 오류 (몇 번째 줄인지 포함)
+     */
+    public ReceiptTemplate compile(String name, String source) {
+        Compilation compilation = new Compilation(name);
+        String[] lines = source.split("\r?\n", -1);
+        // 파일 끝 줄바꿈은 빈 줄로 보지 않는다
+        int count = lines.length > 0 && lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+        for (int i = 0; i < count; i++) {
+            try {
+                compilation.line(lines[i]);
+            } catch (TemplateException e) {
+                throw new TemplateException(name + " " + (i + 1) + "번째 줄: " + e.getMessage());
+            }
+        }
+        return compilation.finish();
+    }
+
+    private final class Compilation {
+
+        private final String name;
+        private final ReceiptBuilder image = new ReceiptBuilder(textEncoder);
+
+        // 반복 구간마다 구간 목록을 쌓는다 (맨 아래가 템플릿 전체)
+        private final Deque<List<Segment>> scopes = new ArrayDeque<>();
+        private final Deque<String> eachNames = new ArrayDeque<>();
+        private int fixedStart;
+        private boolean endsWithCut;
+
+        private Compilation(String name) {
+            this.name = name;
+            scopes.push(new ArrayList<>());
+        }
+
+        private void line(String line) {
+            if (line.startsWith("##")) {
+                return;
+            }
+            if (line.startsWith("#")) {
+                directive(line.substring(1).trim().split("\\s+"));
+                return;
+            }
+            endsWithCut = false;
+            Matcher matcher = SLOT.matcher(line);
+            int last = 0;
+            while (matcher.find()) {
+                image.text(line.substring(last, matcher.start()));
+                String width = matcher.group(3);
+                addSlot(Segment.slot(matcher.group(1),
+                    width == null ? 0 : Integer.parseInt(width),
+                    ">".equals(matcher.group(2))));
+                last = matcher.end();
+            }
+            image.text(line.substring(last)).newLine();
+        }
+
+        private void directive(String[] words) {
+            String argument = words.length > 1 ? words[1] : null;
+            endsWithCut = false;
+            switch (words[0]) {
+                case "align":
+                    image.command(align(argument));
+                    break;
+                case "bold":
+                    image.command("off".equals(argument) ? EscPosCommands.BOLD_OFF : EscPosCommands.BOLD_ON);
+                    break;
+                case "size":
+                    image.append(EscPosCommands.GS).append('!').append(size(argument));
+                    break;
+                case "feed":
+                    image.append(EscPosCommands.ESC).append('d').append(number(argument, 1, 255));
+                    break;
+                case "cut":
+                    image.command("partial".equals(argument) ? EscPosCommands.PAPER_PART_CUT : EscPosCommands.FEED_AND_CUT);
+                    endsWithCut = true;
+                    break;
+                case "logo":
+                    if (argument == null) {
+                        throw new TemplateException("#logo 에 로고 이름이 없습니다.");
+                    }
+                    if (logoRepository == null) {
+                        throw new TemplateException("로고를 쓸 수 없는 템플릿입니다.");
+                    }
+                    // 로고는 나중에 등록/교체될 수 있어서 인쇄할 때 찾는다
+                    addSlot(Segment.logo(argument, words.length > 2 && "column".equals(words[2])));
+                    break;
+                case "qr": {
+                    int moduleSize = words.length > 2 ? number(words[2], 1, 16) : 6;
+                    QrErrorCorrection level = words.length > 3 ? option(QrErrorCorrection.class, words[3]) : QrErrorCorrection.M;
+                    symbol(argument, data -> symbolEncoder.qr(data, moduleSize, level));
+                    break;
+                }
+                case "barcode": {
+                    if (argument == null || words.length < 3) {
+                        throw new TemplateException("#barcode 에 종류와 내용이 필요합니다.");
+                    }
+                    BarcodeType type = option(BarcodeType.class, argument);
+                    int height = words.length > 3 ? number(words[3], 1, 255) : 80;
+                    HriPosition hri = words.length > 4 ? option(HriPosition.class, words[4]) : HriPosition.BELOW;
+                    int moduleWidth = words.length > 5 ? number(words[5], 2, 6) : 2;
+                    symbol(words[2], data -> symbolEncoder.barcode(type, data, height, moduleWidth, hri));
+                    break;
+                }
+                case "each":
+                    if (argument == null) {
+                        throw new TemplateException("#each 에 목록 이름이 없습니다.");
+                    }
+                    flushFixed();
+                    eachNames.push(argument);
+                    scopes.push(new ArrayList<>());
+                    break;
+                case "end":
+                    if (eachNames.isEmpty()) {
+                        throw new TemplateException("#each 없이 #end 가 있습니다.");
+                    }
+                    flushFixed();
+                    Segment[] body = scopes.pop().toArray(new Segment[0]);
+                    scopes.peek().add(Segment.each(eachNames.pop(), body));
+                    break;
+                default:
+                    throw new TemplateException("알 수 없는 명령: #" + words[0]);
+            }
+        }
+
+        // 고정 내용은 지금 명령을 만들어 고정 바이트에 넣고, {{name}} 이면 인쇄할 때 값으로 만든다
+        private void symbol(String content, Function<String, byte[]> encode) {
+            if (content == null) {
+                throw new TemplateException("바코드/QR 내용이 없습니다.");
+            }
+            Matcher slot = SYMBOL_SLOT.matcher(content);
+            if (slot.matches()) {
+                addSlot(Segment.symbol(slot.group(1), encode));
+                return;
+            }
+            try {
+                image.command(encode.apply(content));
+            } catch (IllegalArgumentException e) {
+                throw new TemplateException(e.getMessage());
+            }
+        }
+
+        private void addSlot(Segment slot) {
+            flushFixed();
+            scopes.peek().add(slot);
+        }
+
+        // 지금까지 쌓인 고정 바이트를 구간 하나로 만든다 (인쇄할 때 긴 영수증을 나눌 수 있게 줄 끝도 같이)
+        private void flushFixed() {
+            if (image.size() > fixedStart) {
+                int[] lineEnds = Arrays.stream(image.lineEnds())
+                    .filter(end -> end > fixedStart && end <= image.size())
+                    .toArray();
+                scopes.peek().add(Segment.fixed(fixedStart, image.size() - fixedStart, lineEnds));
+                fixedStart = image.size();
+            }
+        }
+
+        private ReceiptTemplate finish() {
+            if (!eachNames.isEmpty()) {
+                throw new TemplateException(name + ": #each " + eachNames.peek() + " 에 #end 가 없습니다.");
+            }
+            flushFixed();
+            Segment[] segments = scopes.pop().toArray(new Segment[0]);
+            return new ReceiptTemplate(name, image.toByteArray(), segments, endsWithCut, logoRepository);
+        }
+    }
+
+    private static byte[] align(String argument) {
+        if ("center".equals(argument)) {
+            return EscPosCommands.ALIGN_CENTER;
+        }
+        if ("right".equals(argument)) {
+            return EscPosCommands.ALIGN_RIGHT;
+        }
+        if ("left".equals(argument)) {
+            return EscPosCommands.ALIGN_LEFT;
+        }
+        throw new TemplateException("#align 값은 left/center/right 입니다: " + argument);
+    }
+
+    // GS ! n - 상위 4비트 가로 배율, 하위 4비트 세로 배율
+    private static int size(String argument) {
+        if ("normal".equals(argument)) {
+            return 0x00;
+        }
+        if ("wide".equals(argument)) {
+            return 0x10;
+        }
+        if ("tall".equals(argument)) {
+            return 0x01;
+        }
+        if ("double".equals(argument)) {
+            return 0x11;
+        }
+        throw new TemplateException("#size 값은 normal/wide/tall/double 입니다: " + argument);
+    }
+
+    private static <E extends Enum<E>> E option(Class<E> type, String argument) {
+        try {
+            return Enum.valueOf(type, argument.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new TemplateException("알 수 없는 값입니다: " + argument);
+        }
+    }
+
+    private static int number(String argument, int min, int max) {
+        try {
+            int value = argument == null ? min : Integer.parseInt(argument);
+            if (value < min || value > max) {
+                throw new TemplateException("값은 " + min + "~" + max + " 사이여야 합니다: " + argument);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new TemplateException("숫자가 아닙니다: " + argument);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pay.printer.printer.template;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : TemplateException
+ * @date : 2026-10-17
+ * @description : 템플릿 문법 오류 또는 인쇄 값 누락
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class TemplateException extends RuntimeException {
+
+    public TemplateException(String message) {
+        super(message);
+    }
+}
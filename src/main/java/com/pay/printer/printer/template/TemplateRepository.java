@@ -0,0 +1,87 @@
+package com.pay.printer.printer.template;
+
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.SymbolEncoder;
+import com.pay.printer.printer.image.LogoRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : TemplateRepository
+ * @date : 2026-10-17
+ * @description : 컴파일된 영수증 템플릿 보관 (시작할 때 파일에서 읽고, API 로 등록/교체)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+@Slf4j
+@Component
+public class TemplateRepository {
+
+    private static final String EXTENSION = ".receipt";
+
+    private final TemplateCompiler compiler;
+    private final String location;
+    private final ConcurrentMap<String, ReceiptTemplate> templates = new ConcurrentHashMap<>();
+
+    public TemplateRepository(KoreanTextEncoder textEncoder, LogoRepository logoRepository, SymbolEncoder symbolEncoder,
+                              @Value("${printer.template.location:classpath*:templates/*.receipt}") String location) {
+        this.compiler = new TemplateCompiler(textEncoder, logoRepository, symbolEncoder);
+        this.location = location;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location);
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename == null || !filename.endsWith(EXTENSION)) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                register(filename.substring(0, filename.length() - EXTENSION.length()),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        log.info("영수증 템플릿 {}개 로드: {}", templates.size(), getNames());
+    }
+
+    /**
+     * 컴파일해서 등록한다 (같은 이름이 있으면 교체)
+     *
+     * @throws TemplateException 문법 오류
+     */
+    public ReceiptTemplate register(String name, String source) {
+        ReceiptTemplate template = compiler.compile(name, source);
+        templates.put(name, template);
+        return template;
+    }
+
+    /**
+     * @throws UnknownTemplateException 등록되지 않은 이름
+     */
+    public ReceiptTemplate get(String name) {
+        ReceiptTemplate template = name == null ? null : templates.get(name);
+        if (template == null) {
+            throw new UnknownTemplateException("등록되지 않은 템플릿: " + name);
+        }
+        return template;
+    }
+
+    public Set<String> getNames() {
+        return new TreeSet<>(templates.keySet());
+    }
+}
@@ -0,0 +1,18 @@
+package com.pay.printer.printer.template;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : UnknownTemplateException
+ * @date : 2026-10-17
+ * @description : 등록되지 않은 템플릿 이름으로 요청
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+public class UnknownTemplateException extends TemplateException {
+
+    public UnknownTemplateException(String message) {
+        super(message);
+    }
+}
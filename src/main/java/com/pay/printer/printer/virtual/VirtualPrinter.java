@@ -0,0 +1,566 @@
+package com.pay.printer.printer.virtual;
+
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.packet.PacketFramer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.virtual
+ * @fileName : VirtualPrinter
+ * @date : 2026-10-17
+ * @description : 수신 버퍼와 인쇄 속도를 흉내 내는 가상 프린터 (실물 없이 처리량 측정용)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 받은 바이트는 인쇄가 끝날 때까지 수신 버퍼를 차지한다. 줄바꿈(LF, ESC d)과 커팅(GS V),
+ * 래스터 이미지(GS v 0)가 인쇄 시간을 쓰고, 그 사이 글자와 명령은 다음 인쇄 단위에 묶인다.
+ * 응답은 실제 프린터처럼 보낸다.
+ * <ul>
+ *   <li>DLE EOT n - 받는 즉시 상태 바이트</li>
+ *   <li>GS r 1 - 앞의 데이터를 다 인쇄한 뒤 용지 센서 바이트</li>
+ *   <li>패킷 - LRC 가 틀리면 NAK, 맞으면 버퍼에 자리가 날 때 ACK.
+ *       NAK 를 호스트가 읽기 전에 도착한 패킷은 버린다 (PacketTransport 가 NAK 패킷부터 다시 보낸다)</li>
+ * </ul>
+ * 용지 없음/커버 열림이면 인쇄를 멈추고 (GS r 응답도 없음), 풀리면 이어서 인쇄한다.
+ * 시간은 호출하는 쪽이 넘겨 준 System.nanoTime 기준이다.
+ */
+public class VirtualPrinter {
+
+    private static final int DLE = 0x10;
+    private static final int EOT = 0x04;
+    private static final int ESC = 0x1B;
+    private static final int GS = 0x1D;
+    private static final int FS = 0x1C;
+    private static final int LF = 0x0A;
+
+    // 80mm 감열 프린터 기준 (수신 버퍼 4KB, 초당 약 250mm)
+    private static final int DEFAULT_BUFFER_SIZE = 4096;
+    private static final long DEFAULT_LINE_MILLIS = 15;
+    private static final long DEFAULT_CUT_MILLIS = 300;
+
+    // 래스터 이미지는 24도트를 한 줄로 친다
+    private static final int DOTS_PER_LINE = 24;
+
+    private final String name;
+    private final PrinterProtocol protocol;
+    private final int bufferSize;
+    private final long lineNanos;
+    private final long cutNanos;
+    private final double nakRate;
+    private final Random random;
+
+    // 인쇄를 기다리는 단위 (완료 시각 순서)
+    private final Deque<Work> works = new ArrayDeque<>();
+    private final PriorityQueue<Response> responses = new PriorityQueue<>();
+    private long busyUntil;
+    private int openBytes;
+    private long sequence;
+
+    // ESC/POS 명령 앞부분 (길이를 알 때까지 모은다)
+    private final byte[] command = new byte[8];
+    private int commandLength;
+    private long skip;
+    private long skipCost;
+    private byte[] setting;
+    private int settingLength;
+
+    // 통신 속도 (0 이면 어떤 속도로 보내도 받는다). 다르면 받은 바이트가 깨져서 버려진다
+    private volatile int baudRate;
+    private int pendingBaudRate;
+
+    // 패킷 수신 상태
+    private final byte[] frame = new byte[0xFFFF + 5];
+    private int frameLength;
+    private int frameExpected;
+    // 패킷 응답은 받은 순서대로 나간다 (NAK 가 앞 패킷의 늦은 ACK 를 앞지르지 않도록)
+    private long lastFrameResponseAt;
+    // 보낸 NAK 를 호스트가 읽기 전까지 받은 패킷은 버린다 (호스트가 NAK 패킷부터 다시 보낸다)
+    private int unreadNaks;
+
+    private boolean paperEnd;
+    private boolean coverOpen;
+
+    private long bytesReceived;
+    private long bytesDropped;
+    private long lines;
+    private long cuts;
+    private long frames;
+    private long naks;
+
+    public VirtualPrinter(String name, PrinterProtocol protocol, int bufferSize,
+                          long lineMillis, long cutMillis, double nakRate, long seed) {
+        this.name = name;
+        this.protocol = protocol;
+        this.bufferSize = bufferSize;
+        this.lineNanos = TimeUnit.MILLISECONDS.toNanos(lineMillis);
+        this.cutNanos = TimeUnit.MILLISECONDS.toNanos(cutMillis);
+        this.nakRate = nakRate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 포트 이름의 "virtual:" 뒤 부분으로 만든다.
+     * <pre>
+     * counter-1?protocol=PACKET&amp;buffer=4096&amp;line-ms=15&amp;cut-ms=300&amp;nak-rate=0.01&amp;baud=9600
+     * </pre>
+     * baud 를 주면 그 속도로 보낼 때만 받는다 (속도 자동 탐색 시험용).
+     *
+     * @throws IllegalArgumentException 알 수 없는 옵션이나 잘못된 값
+     */
+    public static VirtualPrinter parse(String spec) {
+        int query = spec.indexOf('?');
+        String name = query < 0 ? spec : spec.substring(0, query);
+        PrinterProtocol protocol = PrinterProtocol.ESCPOS;
+        int bufferSize = DEFAULT_BUFFER_SIZE;
+        long lineMillis = DEFAULT_LINE_MILLIS;
+        long cutMillis = DEFAULT_CUT_MILLIS;
+        double nakRate = 0;
+        int baudRate = 0;
+        if (query >= 0) {
+            for (String option : spec.substring(query + 1).split("&")) {
+                String[] pair = option.split("=", 2);
+                String value = pair.length > 1 ? pair[1] : "";
+                switch (pair[0]) {
+                    case "protocol":
+                        protocol = PrinterProtocol.valueOf(value.toUpperCase());
+                        break;
+                    case "buffer":
+                        bufferSize = Integer.parseInt(value);
+                        break;
+                    case "line-ms":
+                        lineMillis = Long.parseLong(value);
+                        break;
+                    case "cut-ms":
+                        cutMillis = Long.parseLong(value);
+                        break;
+                    case "nak-rate":
+                        nakRate = Double.parseDouble(value);
+                        break;
+                    case "baud":
+                        baudRate = Integer.parseInt(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 가상 프린터 옵션: " + pair[0]);
+                }
+            }
+        }
+        VirtualPrinter printer = new VirtualPrinter(name, protocol, bufferSize, lineMillis, cutMillis, nakRate, name.hashCode());
+        printer.setBaudRate(baudRate);
+        return printer;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PrinterProtocol getProtocol() {
+        return protocol;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getBaudRate() {
+        return baudRate;
+    }
+
+    public void setBaudRate(int baudRate) {
+        this.baudRate = baudRate;
+    }
+
+    /**
+     * 속도가 맞지 않아 깨진 바이트 (프레이밍 오류로 버려진다)
+     */
+    public synchronized void receiveGarbled(int length) {
+        bytesReceived += length;
+        bytesDropped += length;
+    }
+
+    /**
+     * 선로에서 다 받은 바이트를 넣는다.
+     * ESC/POS 는 버퍼가 차 있으면 넘친 바이트를 버린다 (흐름 제어 없이 보낸 경우).
+     */
+    public synchronized void receive(byte[] data, int offset, int length, long now) {
+        for (int i = offset; i < offset + length; i++) {
+            bytesReceived++;
+            if (protocol == PrinterProtocol.PACKET) {
+                receiveFrameByte(data[i], now);
+            } else if (occupied(now) >= bufferSize) {
+                bytesDropped++;
+            } else {
+                parse(data[i] & 0xFF, now);
+            }
+        }
+    }
+
+    /**
+     * 수신 버퍼 빈 공간 (RTS/CTS, XON/XOFF 가 이 값으로 전송을 멈춘다)
+     */
+    public synchronized int freeSpace(long now) {
+        return Math.max(0, bufferSize - occupied(now));
+    }
+
+    /**
+     * now 까지 보낼 시각이 된 응답 수
+     */
+    public synchronized int available(long now) {
+        int count = 0;
+        for (Response response : responses) {
+            if (response.dueAt <= now) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return 보낼 응답이 없으면 -1
+     */
+    public synchronized int poll(long now) {
+        Response next = responses.peek();
+        if (next == null || next.dueAt > now) {
+            return -1;
+        }
+        responses.poll();
+        if (protocol == PrinterProtocol.PACKET && next.value == PacketFramer.NAK) {
+            unreadNaks--;
+        }
+        return next.value;
+    }
+
+    /**
+     * 다음 응답을 보낼 시각 (없으면 Long.MAX_VALUE)
+     */
+    public synchronized long nextResponseAt() {
+        Response next = responses.peek();
+        return next == null ? Long.MAX_VALUE : next.dueAt;
+    }
+
+    /**
+     * 받은 데이터를 모두 인쇄하는 시각
+     */
+    public synchronized long idleAt() {
+        return works.isEmpty() ? 0 : works.peekLast().doneAt;
+    }
+
+    public synchronized void setPaperEnd(boolean paperEnd, long now) {
+        this.paperEnd = paperEnd;
+        resumeIfReady(now);
+    }
+
+    public synchronized void setCoverOpen(boolean coverOpen, long now) {
+        this.coverOpen = coverOpen;
+        resumeIfReady(now);
+    }
+
+    public synchronized VirtualPrinterStats getStats() {
+        VirtualPrinterStats stats = new VirtualPrinterStats();
+        stats.setName(name);
+        stats.setProtocol(protocol);
+        stats.setBufferSize(bufferSize);
+        stats.setBytesReceived(bytesReceived);
+        stats.setBytesDropped(bytesDropped);
+        stats.setLines(lines);
+        stats.setCuts(cuts);
+        stats.setFrames(frames);
+        stats.setNaks(naks);
+        stats.setPaperEnd(paperEnd);
+        stats.setCoverOpen(coverOpen);
+        return stats;
+    }
+
+    private boolean isReady() {
+        return !paperEnd && !coverOpen;
+    }
+
+    private int occupied(long now) {
+        while (!works.isEmpty() && works.peekFirst().doneAt <= now) {
+            works.pollFirst();
+        }
+        int occupied = openBytes;
+        for (Work work : works) {
+            occupied += work.bytes;
+        }
+        return occupied;
+    }
+
+    // ---- ESC/POS ----
+
+    private void parse(int b, long now) {
+        openBytes++;
+        if (setting != null) {
+            setting[settingLength++] = (byte) b;
+            if (settingLength == setting.length) {
+                userSetting(setting);
+                setting = null;
+            }
+            return;
+        }
+        if (skip > 0) {
+            // 이미지 데이터
+            if (--skip == 0) {
+                print(now, skipCost);
+            }
+            return;
+        }
+        if (commandLength == 0) {
+            if (b == LF) {
+                lines++;
+                print(now, lineNanos);
+                return;
+            }
+            if (b != DLE && b != ESC && b != GS && b != FS) {
+                return;  // 글자
+            }
+        }
+        command[commandLength++] = (byte) b;
+        int length = commandLength();
+        if (length > 0 && commandLength >= length) {
+            execute(now);
+            commandLength = 0;
+        }
+    }
+
+    // 명령 전체 길이 (이미지 데이터 제외), 아직 모르면 -1
+    private int commandLength() {
+        if (commandLength < 2) {
+            return -1;
+        }
+        int prefix = command[0] & 0xFF;
+        int code = command[1] & 0xFF;
+        switch (prefix) {
+            case DLE:
+                return 3;
+            case ESC:
+                if (code == '@' || code == '2' || code == '<') {
+                    return 2;
+                }
+                return code == '*' ? 5 : 3;
+            case GS:
+                if (code == 'V') {
+                    if (commandLength < 3) {
+                        return -1;
+                    }
+                    int m = command[2] & 0xFF;
+                    return m == 65 || m == 66 || m == 97 || m == 98 ? 4 : 3;
+                }
+                if (code == 'v') {
+                    return 8;
+                }
+                if (code == '(') {
+                    return 5;
+                }
+                return code == '8' ? 7 : 3;
+            default:
+                return code == '&' || code == '.' ? 2 : 3;
+        }
+    }
+
+    private void execute(long now) {
+        int prefix = command[0] & 0xFF;
+        int code = command[1] & 0xFF;
+        if (prefix == DLE && code == EOT) {
+            respond(now, status(command[2] & 0xFF));
+        } else if (prefix == ESC && code == 'd') {
+            int n = command[2] & 0xFF;
+            lines += n;
+            print(now, n * lineNanos);
+        } else if (prefix == ESC && code == '*') {
+            // ESC * m nL nH - 24도트 모드(m >= 32)는 열마다 3바이트
+            int columns = (command[3] & 0xFF) | (command[4] & 0xFF) << 8;
+            image(now, (long) columns * ((command[2] & 0xFF) >= 32 ? 3 : 1), 0);
+        } else if (prefix == GS && code == 'V') {
+            cuts++;
+            print(now, cutNanos);
+        } else if (prefix == GS && code == 'r') {
+            // 앞의 데이터를 다 인쇄한 뒤에 응답한다 (멈춰 있으면 응답 없음)
+            if (isReady()) {
+                respond(Math.max(now, busyUntil), 0x00);
+            }
+        } else if (prefix == GS && code == 'v') {
+            // GS v 0 m xL xH yL yH
+            int bytesPerRow = (command[4] & 0xFF) | (command[5] & 0xFF) << 8;
+            int rows = (command[6] & 0xFF) | (command[7] & 0xFF) << 8;
+            lines += (rows + DOTS_PER_LINE - 1) / DOTS_PER_LINE;
+            image(now, (long) bytesPerRow * rows, (rows + DOTS_PER_LINE - 1) / DOTS_PER_LINE * lineNanos);
+        } else if (prefix == GS && code == '(' && command[2] == 'E') {
+            // GS ( E pL pH fn ... 사용자 설정 (통신 속도 변경)
+            int length = (command[3] & 0xFF) | (command[4] & 0xFF) << 8;
+            if (length > 0) {
+                setting = new byte[length];
+                settingLength = 0;
+            }
+        } else if (prefix == GS && code == '(') {
+            // GS ( L pL pH ... (NV 이미지 등)
+            image(now, (command[3] & 0xFF) | (command[4] & 0xFF) << 8, 0);
+        } else if (prefix == GS && code == '8') {
+            // GS 8 L p1 p2 p3 p4 ...
+            image(now, (command[3] & 0xFFL) | (command[4] & 0xFFL) << 8
+                | (command[5] & 0xFFL) << 16 | (command[6] & 0xFFL) << 24, 0);
+        }
+    }
+
+    // GS ( E fn=11 a=1 "115200" 으로 속도를 정하고 fn=2 "OUT" 으로 설정을 끝내면 새 속도로 바뀐다
+    private void userSetting(byte[] data) {
+        int fn = data.length > 0 ? data[0] : -1;
+        if (fn == 11 && data.length > 2 && data[1] == 1) {
+            try {
+                pendingBaudRate = Integer.parseInt(new String(data, 2, data.length - 2, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                pendingBaudRate = 0;
+            }
+        } else if (fn == 2 && pendingBaudRate > 0) {
+            baudRate = pendingBaudRate;
+            pendingBaudRate = 0;
+        }
+    }
+
+    private void image(long now, long dataLength, long cost) {
+        if (dataLength == 0) {
+            print(now, cost);
+            return;
+        }
+        skip = dataLength;
+        skipCost = cost;
+    }
+
+    // 지금까지 받은 바이트를 인쇄 단위 하나로 묶어 인쇄 시간을 잡는다
+    private void print(long now, long cost) {
+        long doneAt = isReady() ? Math.max(now, busyUntil) + cost : Long.MAX_VALUE;
+        if (doneAt != Long.MAX_VALUE) {
+            busyUntil = doneAt;
+        }
+        works.addLast(new Work(openBytes, cost, doneAt));
+        openBytes = 0;
+    }
+
+    // 멈춰 있던 인쇄 단위를 이어서 인쇄한다
+    private void resumeIfReady(long now) {
+        if (!isReady()) {
+            return;
+        }
+        for (Work work : works) {
+            if (work.doneAt == Long.MAX_VALUE) {
+                busyUntil = Math.max(now, busyUntil) + work.cost;
+                work.doneAt = busyUntil;
+            }
+        }
+    }
+
+    // DLE EOT n 응답 (PrinterStatus.of 와 같은 비트)
+    private int status(int n) {
+        switch (n) {
+            case 1:
+                return 0x12 | (isReady() ? 0 : 0x08);
+            case 2:
+                return 0x12 | (coverOpen ? 0x04 : 0) | (paperEnd ? 0x20 : 0);
+            case 4:
+                return 0x12 | (paperEnd ? 0x60 : 0);
+            default:
+                return 0x12;
+        }
+    }
+
+    private void respond(long dueAt, int value) {
+        responses.add(new Response(dueAt, sequence++, value));
+    }
+
+    // ---- 패킷 ----
+
+    private void receiveFrameByte(byte b, long now) {
+        if (frameLength == 0 && b != PacketFramer.STX) {
+            return;  // 패킷 밖의 잡음
+        }
+        frame[frameLength++] = b;
+        if (frameLength == 3) {
+            // 길이 = 명령 1바이트 + 데이터
+            frameExpected = ((frame[1] & 0xFF) << 8 | frame[2] & 0xFF) + 5;
+        }
+        if (frameLength >= 3 && frameLength == frameExpected) {
+            completeFrame(now);
+            frameLength = 0;
+        }
+    }
+
+    private void completeFrame(long now) {
+        if (unreadNaks > 0) {
+            bytesDropped += frameExpected;
+            return;
+        }
+        frames++;
+        int dataLength = frameExpected - 6;
+        byte lrc = PacketFramer.calculateLRC(frame, 1, frameExpected - 2);
+        boolean valid = dataLength >= 0 && frame[frameExpected - 2] == PacketFramer.ETX && lrc == frame[frameExpected - 1];
+        if (!valid || random.nextDouble() < nakRate) {
+            naks++;
+            unreadNaks++;
+            respondToFrame(now, PacketFramer.NAK);
+            return;
+        }
+        if (frame[3] == PacketFramer.CMD_PRINT) {
+            for (int i = 0; i < dataLength; i++) {
+                parse(frame[4 + i] & 0xFF, now);
+            }
+        }
+        respondToFrame(spaceAvailableAt(now), PacketFramer.ACK);
+    }
+
+    private void respondToFrame(long dueAt, int value) {
+        lastFrameResponseAt = Math.max(dueAt, lastFrameResponseAt);
+        respond(lastFrameResponseAt, value);
+    }
+
+    // 버퍼에 쌓인 양이 버퍼 크기 이하로 내려가는 시각 (그때 ACK 를 보내서 다음 패킷을 받는다)
+    private long spaceAvailableAt(long now) {
+        int occupied = occupied(now);
+        long at = now;
+        for (Work work : works) {
+            if (occupied <= bufferSize) {
+                break;
+            }
+            occupied -= work.bytes;
+            at = work.doneAt;
+        }
+        return at;
+    }
+
+    private static final class Work {
+
+        private final int bytes;
+        private final long cost;
+        private long doneAt;
+
+        private Work(int bytes, long cost, long doneAt) {
+            this.bytes = bytes;
+            this.cost = cost;
+            this.doneAt = doneAt;
+        }
+    }
+
+    private static final class Response implements Comparable<Response> {
+
+        private final long dueAt;
+        private final long sequence;
+        private final int value;
+
+        private Response(long dueAt, long sequence, int value) {
+            this.dueAt = dueAt;
+            this.sequence = sequence;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Response other) {
+            int byTime = Long.compare(dueAt, other.dueAt);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
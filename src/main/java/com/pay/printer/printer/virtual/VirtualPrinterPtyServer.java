@@ -0,0 +1,103 @@
+package com.pay.printer.printer.virtual;
+
+import com.pay.printer.printer.connection.SerialSettings;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.virtual
+ * @fileName : VirtualPrinterPtyServer
+ * @date : 2026-10-17
+ * @description : pty 한쪽 끝에서 가상 프린터를 돌린다 (앱은 다른 끝을 pty:/경로 로 연다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * pty 에는 전송 속도가 없어서 받은 바이트마다 설정 속도의 선로 시간을 기다린 뒤 프린터에 넣는다.
+ * 흐름 제어 신호도 없으므로 버퍼가 넘치면 바이트가 버려진다 (STATUS_POLL 이나 PACKET 으로 시험).
+ * <pre>
+ * socat pty,raw,echo=0,link=/tmp/printer-host pty,raw,echo=0,link=/tmp/printer-dev &amp;
+ * java -cp printer.jar -Dloader.main=com.pay.printer.printer.virtual.VirtualPrinterPtyServer \
+ *     org.springframework.boot.loader.PropertiesLauncher /tmp/printer-dev 9600 "counter-1?line-ms=15"
+ * </pre>
+ */
+@Slf4j
+public class VirtualPrinterPtyServer implements Runnable {
+
+    private final VirtualPrinter printer;
+    private final SerialSettings settings;
+    private final InputStream in;
+    private final OutputStream out;
+    private volatile boolean running = true;
+
+    public VirtualPrinterPtyServer(VirtualPrinter printer, SerialSettings settings, InputStream in, OutputStream out) {
+        this.printer = printer;
+        this.settings = settings;
+        this.in = in;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("사용법: VirtualPrinterPtyServer <pty 경로> <baud> [이름?옵션]");
+            System.exit(1);
+        }
+        VirtualPrinter printer = VirtualPrinter.parse(args.length > 2 ? args[2] : "virtual");
+        SerialSettings settings = SerialSettings.builder().baudRate(Integer.parseInt(args[1])).build();
+        try (InputStream in = new FileInputStream(args[0]); OutputStream out = new FileOutputStream(args[0])) {
+            log.info("가상 프린터 {} 시작: {} ({} bps, {})", printer.getName(), args[0], settings.getBaudRate(),
+                printer.getProtocol());
+            new VirtualPrinterPtyServer(printer, settings, in, out).run();
+        }
+    }
+
+    public VirtualPrinter getPrinter() {
+        return printer;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        byte[] buffer = new byte[64];
+        long wireFreeAt = 0;
+        try {
+            while (running) {
+                int n = Math.min(in.available(), buffer.length);
+                if (n > 0) {
+                    n = in.read(buffer, 0, n);
+                    // 선로에서 다 받는 시각까지 기다린다
+                    wireFreeAt = Math.max(System.nanoTime(), wireFreeAt) + settings.wireNanos(n);
+                    VirtualPrinterTransport.sleepUntil(wireFreeAt);
+                    printer.receive(buffer, 0, n, wireFreeAt);
+                }
+                if (writeResponses() == 0 && n <= 0) {
+                    VirtualPrinterTransport.sleepUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("가상 프린터 {} 종료: {}", printer.getName(), e.getMessage());
+        }
+    }
+
+    private int writeResponses() throws IOException {
+        int count = 0;
+        int b;
+        while ((b = printer.poll(System.nanoTime())) >= 0) {
+            out.write(b);
+            count++;
+        }
+        if (count > 0) {
+            out.flush();
+        }
+        return count;
+    }
+}
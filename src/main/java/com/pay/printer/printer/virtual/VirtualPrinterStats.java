@@ -0,0 +1,20 @@
+package com.pay.printer.printer.virtual;
+
+import com.pay.printer.printer.config.PrinterProtocol;
+import lombok.Data;
+
+// 가상 프린터가 받은 양과 인쇄한 양
+@Data
+public class VirtualPrinterStats {
+    private String name;
+    private PrinterProtocol protocol;
+    private int bufferSize;
+    private long bytesReceived;
+    private long bytesDropped;
+    private long lines;
+    private long cuts;
+    private long frames;
+    private long naks;
+    private boolean paperEnd;
+    private boolean coverOpen;
+}
@@ -0,0 +1,179 @@
+package com.pay.printer.printer.virtual;
+
+import com.pay.printer.printer.connection.PrinterTransport;
+import com.pay.printer.printer.connection.SerialSettings;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.virtual
+ * @fileName : VirtualPrinterTransport
+ * @date : 2026-10-17
+ * @description : 가상 프린터 연결 (설정된 속도의 선로 시간만큼 쓰기가 걸린다)
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ * <p>
+ * 흐름 제어가 켜져 있으면 프린터 버퍼가 빌 때까지 쓰기를 멈추고 (RTS/CTS, XON/XOFF),
+ * 꺼져 있으면 그대로 보내서 넘친 바이트는 프린터에서 버려진다.
+ */
+public class VirtualPrinterTransport implements PrinterTransport {
+
+    // 한 번에 선로로 내보내는 양 (UART FIFO 크기 정도)
+    private static final int CHUNK_SIZE = 64;
+
+    private final String name;
+    private final VirtualPrinter printer;
+    private volatile SerialSettings settings;
+    private volatile boolean closed;
+
+    // 선로가 비는 시각 (앞의 바이트가 아직 나가는 중이면 그 뒤에 이어서 나간다)
+    private long wireFreeAt;
+
+    private final InputStream in = new InputStream() {
+        @Override
+        public int available() {
+            return printer.available(System.nanoTime());
+        }
+
+        @Override
+        public int read() throws IOException {
+            long deadline = settings.getReadTimeout() > 0
+                ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getReadTimeout()) : Long.MAX_VALUE;
+            while (true) {
+                ensureOpen();
+                long now = System.nanoTime();
+                int b = printer.poll(now);
+                if (b >= 0) {
+                    return b;
+                }
+                if (now >= deadline) {
+                    throw new InterruptedIOException("가상 프린터 응답 대기 시간 초과: " + name);
+                }
+                sleepUntil(Math.min(deadline, Math.min(printer.nextResponseAt(), now + TimeUnit.MILLISECONDS.toNanos(1))));
+            }
+        }
+
+        // 첫 바이트만 기다리고 나머지는 지금 있는 만큼만 읽는다
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            b[off] = (byte) read();
+            int n = 1;
+            int next;
+            while (n < len && (next = printer.poll(System.nanoTime())) >= 0) {
+                b[off + n++] = (byte) next;
+            }
+            return n;
+        }
+    };
+
+    private final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                int n = Math.min(len, CHUNK_SIZE);
+                if (settings.isFlowControlled()) {
+                    n = Math.min(n, awaitSpace());
+                }
+                long start = Math.max(System.nanoTime(), wireFreeAt);
+                wireFreeAt = start + settings.wireNanos(n);
+                sleepUntil(wireFreeAt);
+                if (printer.getBaudRate() > 0 && printer.getBaudRate() != settings.getBaudRate()) {
+                    printer.receiveGarbled(n);
+                } else {
+                    printer.receive(b, off, n, wireFreeAt);
+                }
+                off += n;
+                len -= n;
+            }
+        }
+    };
+
+    public VirtualPrinterTransport(String name, VirtualPrinter printer, SerialSettings settings) {
+        this.name = name;
+        this.printer = printer;
+        this.settings = settings;
+    }
+
+    public VirtualPrinter getPrinter() {
+        return printer;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void configure(SerialSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    // 프린터가 버퍼를 비울 때까지 기다린다 (쓰기 시간 제한을 넘으면 실패)
+    private int awaitSpace() throws IOException {
+        long deadline = settings.getWriteTimeout() > 0
+            ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getWriteTimeout()) : Long.MAX_VALUE;
+        while (true) {
+            long now = System.nanoTime();
+            int free = printer.freeSpace(now);
+            if (free > 0) {
+                return free;
+            }
+            if (now >= deadline) {
+                throw new InterruptedIOException("가상 프린터 버퍼가 비지 않습니다: " + name);
+            }
+            sleepUntil(now + TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("닫힌 연결입니다: " + name);
+        }
+    }
+
+    static void sleepUntil(long deadline) throws InterruptedIOException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("가상 프린터 전송 중단");
+            }
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.pay.printer.printer;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "printer.journal.path=")
 class PrinterApplicationTests {
 
 	@Test
@@ -0,0 +1,78 @@
+package com.pay.printer.printer.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : SerialPortInventoryTest
+ * @date : 2026-10-17
+ * @description : 포트 목록 갱신과 연결/분리 알림 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class SerialPortInventoryTest {
+
+    private static final SerialPortInfo PRINTER = port("ttyUSB0", "A10K3Z");
+    private static final SerialPortInfo SCANNER = port("ttyUSB1", "B77Q01");
+
+    private final List<PrinterPortEvent> events = new ArrayList<>();
+    private List<SerialPortInfo> attached = List.of(PRINTER);
+    private final SerialPortInventory inventory = new SerialPortInventory(
+        event -> events.add((PrinterPortEvent) event), () -> attached);
+
+    @Test
+    void answersFromLastScanAndReportsChanges() {
+        inventory.refresh();
+        assertTrue(events.isEmpty());  // 처음 열거는 알리지 않는다
+
+        attached = List.of(PRINTER, SCANNER);
+        inventory.refresh();
+        attached = List.of(SCANNER);
+        inventory.refresh();
+
+        assertEquals(List.of(SCANNER), inventory.getPorts());
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).isAttached());
+        assertEquals("ttyUSB1", events.get(0).getPort().getSystemName());
+        assertFalse(events.get(1).isAttached());
+        assertTrue(events.get(1).matches("/dev/ttyUSB0"));
+        assertTrue(inventory.find("ttyUSB0").isEmpty());
+    }
+
+    @Test
+    void swappedDeviceOnSameNameIsDetachedThenAttached() {
+        inventory.refresh();
+
+        attached = List.of(port("ttyUSB0", "OTHER"));
+        inventory.refresh();
+
+        assertEquals(2, events.size());
+        assertFalse(events.get(0).isAttached());
+        assertTrue(events.get(1).isAttached());
+    }
+
+    @Test
+    void connectionManagerClosesDetachedPort() {
+        PrinterConnectionManager manager = new PrinterConnectionManager(
+            new PrinterTransportFactory(new TcpSelectorLoop()), PrinterMetrics.noop());
+        String portName = "virtual:usb";
+        manager.execute(portName, SerialSettings.builder().baudRate(115200).build(), transport -> null);
+        assertTrue(manager.isOpen(portName));
+
+        manager.onPortChanged(new PrinterPortEvent(
+            new SerialPortInfo("usb", portName, null, null, null, null, null), false));
+
+        assertFalse(manager.isOpen(portName));
+    }
+
+    private static SerialPortInfo port(String name, String serialNumber) {
+        return new SerialPortInfo(name, "/dev/" + name, "USB-Serial", "0403", "6001", serialNumber, "1-1.2");
+    }
+}
@@ -0,0 +1,264 @@
+package com.pay.printer.printer.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.PrinterStatus;
+import com.pay.printer.printer.escpos.PrinterStatusReader;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.service.PrinterService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : TcpTransportTest
+ * @date : 2026-10-17
+ * @description : 로컬 소켓을 네트워크 프린터 대신 써서 TCP 전송 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class TcpTransportTest {
+
+    private final TcpSelectorLoop loop = new TcpSelectorLoop();
+    private final PrinterTransportFactory factory = new PrinterTransportFactory(loop);
+    private FakeNetworkPrinter printer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        printer = new FakeNetworkPrinter();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        printer.close();
+        loop.shutdown();
+    }
+
+    @Test
+    void writesLargeReceiptAndReadsStatus() throws Exception {
+        byte[] data = new byte[300_000];
+        new Random(1).nextBytes(data);
+
+        try (PrinterTransport transport = factory.open(printer.portName(), settings())) {
+            PrinterStatus status = PrinterStatusReader.requireReady(
+                transport.getInputStream(), transport.getOutputStream(), 1000);
+            assertTrue(status.isReady());
+
+            transport.getOutputStream().write(data);
+            transport.getOutputStream().flush();
+            printer.awaitReceived(9 + data.length);
+        }
+
+        byte[] received = printer.received();
+        assertArrayEquals(data, Arrays.copyOfRange(received, 9, received.length));
+    }
+
+    @Test
+    void printersShareOneSelectorThread() throws Exception {
+        try (FakeNetworkPrinter second = new FakeNetworkPrinter();
+             PrinterTransport first = factory.open(printer.portName(), settings());
+             PrinterTransport other = factory.open(second.portName(), settings())) {
+            byte[] data = new byte[100_000];
+            Thread writer = new Thread(() -> {
+                try {
+                    other.getOutputStream().write(data);
+                    other.getOutputStream().flush();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+            first.getOutputStream().write(data);
+            first.getOutputStream().flush();
+            writer.join(5000);
+
+            printer.awaitReceived(data.length);
+            second.awaitReceived(data.length);
+        }
+
+        long selectorThreads = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("printer-tcp-selector"))
+            .count();
+        assertEquals(1, selectorThreads);
+    }
+
+    @Test
+    void reportsClosedWhenPrinterDisconnects() throws Exception {
+        try (PrinterTransport transport = factory.open(printer.portName(), settings())) {
+            printer.awaitConnection();
+            printer.close();
+
+            for (int i = 0; i < 100 && transport.isOpen(); i++) {
+                Thread.sleep(10);
+            }
+            assertFalse(transport.isOpen());
+        }
+    }
+
+    @Test
+    void keepsOnlyNewestUnreadBytes() throws Exception {
+        byte[] data = new byte[TcpTransport.MAX_INBOUND * 3];
+        new Random(2).nextBytes(data);
+
+        try (PrinterTransport transport = factory.open(printer.portName(), settings())) {
+            printer.awaitConnection();
+            printer.sendAndClose(data);
+            for (int i = 0; i < 500 && transport.isOpen(); i++) {
+                Thread.sleep(10);
+            }
+
+            InputStream in = transport.getInputStream();
+            assertEquals(TcpTransport.MAX_INBOUND, in.available());
+            byte[] unread = new byte[TcpTransport.MAX_INBOUND];
+            int read = 0;
+            int n;
+            while ((n = in.read(unread, read, unread.length - read)) > 0) {
+                read += n;
+            }
+            assertArrayEquals(Arrays.copyOfRange(data, data.length - unread.length, data.length), unread);
+        }
+    }
+
+    @Test
+    void printsThroughServicePipeline() throws Exception {
+        PrinterConnectionManager connectionManager = new PrinterConnectionManager(factory, PrinterMetrics.noop());
+        PrinterService service = new PrinterService(connectionManager,
+            new KoreanTextEncoder("EUC-KR", "?", 16), PrinterMetrics.noop());
+
+        service.print(PrinterDevice.of("net", printer.portName()), "아메리카노 4,500");
+        connectionManager.closeAll();
+
+        // DLE EOT 상태 확인 → ESC @ ... → 커팅
+        byte[] cut = EscPosCommands.FEED_AND_CUT;
+        byte[] received = printer.received();
+        for (int i = 0; i < 100 && !endsWith(received, cut); i++) {
+            Thread.sleep(10);
+            received = printer.received();
+        }
+        assertEquals(0x10, received[0]);
+        assertTrue(endsWith(received, cut));
+    }
+
+    private static boolean endsWith(byte[] data, byte[] suffix) {
+        return data.length >= suffix.length
+            && Arrays.equals(suffix, Arrays.copyOfRange(data, data.length - suffix.length, data.length));
+    }
+
+    private static SerialSettings settings() {
+        return SerialSettings.builder().readTimeout(1000).writeTimeout(5000).build();
+    }
+
+    // 받은 바이트를 모아 두고 DLE EOT 에 "정상" 으로 답하는 소켓
+    private static final class FakeNetworkPrinter implements AutoCloseable {
+
+        private final ServerSocket server = new ServerSocket(0);
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+        private final Thread acceptor;
+
+        private FakeNetworkPrinter() throws IOException {
+            acceptor = new Thread(this::accept, "fake-network-printer");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private String portName() {
+            return "tcp:127.0.0.1:" + server.getLocalPort();
+        }
+
+        private void accept() {
+            try {
+                while (true) {
+                    Socket socket = server.accept();
+                    sockets.add(socket);
+                    Thread reader = new Thread(() -> serve(socket));
+                    reader.setDaemon(true);
+                    reader.start();
+                }
+            } catch (IOException e) {
+                // 닫힘
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (InputStream in = socket.getInputStream(); OutputStream out = socket.getOutputStream()) {
+                byte[] buffer = new byte[4096];
+                int n;
+                int state = 0;
+                while ((n = in.read(buffer)) > 0) {
+                    synchronized (received) {
+                        received.write(buffer, 0, n);
+                        received.notifyAll();
+                    }
+                    for (int i = 0; i < n; i++) {
+                        int b = buffer[i] & 0xFF;
+                        if (state == 2) {
+                            out.write(0x12);
+                            state = 0;
+                        } else if (state == 1) {
+                            state = b == 0x04 ? 2 : 0;
+                        } else if (b == 0x10) {
+                            state = 1;
+                        }
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // 연결 끊김
+            }
+        }
+
+        private void awaitConnection() throws InterruptedException {
+            for (int i = 0; i < 100 && sockets.isEmpty(); i++) {
+                Thread.sleep(10);
+            }
+        }
+
+        // 프린터 쪽에서 data 를 보내고 연결을 닫는다
+        private void sendAndClose(byte[] data) throws IOException {
+            Socket socket = sockets.get(0);
+            socket.getOutputStream().write(data);
+            socket.shutdownOutput();
+        }
+
+        private void awaitReceived(int length) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            synchronized (received) {
+                while (received.size() < length && System.currentTimeMillis() < deadline) {
+                    received.wait(100);
+                }
+                assertEquals(length, received.size());
+            }
+        }
+
+        private byte[] received() {
+            synchronized (received) {
+                return received.toByteArray();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.pay.printer.printer.connection;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.connection
+ * @fileName : WireTraceTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class WireTraceTest {
+
+    @Test
+    void keepsOnlyTheNewestBytesAcrossTheWrap() {
+        WireTrace trace = new WireTrace(8, 16);
+        trace.record(false, new byte[]{1, 2, 3, 4, 5, 6}, 0, 6);
+        trace.record(true, 0x12);
+        trace.record(false, new byte[]{7, 8, 9, 10}, 0, 4);
+
+        List<WireTrace.Record> records = trace.snapshot(1024);
+
+        assertEquals(11, trace.getBytesTraced());
+        assertEquals(3, records.size());
+        assertArrayEquals(new byte[]{4, 5, 6}, records.get(0).getBytes());  // 앞 3바이트는 덮어씀
+        assertTrue(records.get(1).isReceived());
+        assertArrayEquals(new byte[]{0x12}, records.get(1).getBytes());
+        assertArrayEquals(new byte[]{7, 8, 9, 10}, records.get(2).getBytes());
+        assertFalse(records.get(0).getTime().isAfter(records.get(2).getTime()));
+    }
+
+    @Test
+    void limitsSnapshotToRequestedBytes() {
+        WireTrace trace = new WireTrace(64, 2);
+        trace.record(false, new byte[]{1, 2}, 0, 2);
+        trace.record(false, new byte[]{3, 4}, 0, 2);
+        trace.record(false, new byte[]{5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16}, 4, 8);
+
+        List<WireTrace.Record> records = trace.snapshot(9);
+
+        // 기록 슬롯이 2개라 첫 쓰기는 사라지고, 두 번째 쓰기는 끝 1바이트만 남는다
+        assertEquals(2, records.size());
+        assertArrayEquals(new byte[]{4}, records.get(0).getBytes());
+        assertArrayEquals(new byte[]{9, 10, 11, 12, 13, 14, 15, 16}, records.get(1).getBytes());
+    }
+
+    @Test
+    void tracesWhatThePooledPortSends() {
+        PrinterTransportFactory factory = new PrinterTransportFactory(new TcpSelectorLoop());
+        WireTracer tracer = new WireTracer(true, 1024, 64);
+        PrinterConnectionManager manager = new PrinterConnectionManager(factory, PrinterMetrics.noop(), tracer);
+        SerialSettings settings = SerialSettings.builder().baudRate(115200).build();
+        try {
+            manager.execute("virtual:trace", settings, transport -> {
+                transport.getOutputStream().write(new byte[]{0x1B, 0x40});
+                transport.getOutputStream().flush();
+                return null;
+            });
+        } finally {
+            manager.closeAll();
+        }
+
+        List<WireTrace.Record> records = tracer.find("virtual:trace").orElseThrow().snapshot(1024);
+        assertArrayEquals(new byte[]{0x1B, 0x40}, records.get(0).getBytes());
+        assertFalse(records.get(0).isReceived());
+    }
+}
@@ -0,0 +1,72 @@
+package com.pay.printer.printer.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.job.IdempotencyCache;
+import com.pay.printer.printer.job.PrintJob;
+import com.pay.printer.printer.job.PrintJobQueue;
+import com.pay.printer.printer.job.PrintPriority;
+import com.pay.printer.printer.service.PrinterRouter;
+import com.pay.printer.printer.service.PrinterService;
+import com.pay.printer.printer.service.PrinterUnavailableException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.controller
+ * @fileName : PrinterControllerTest
+ * @date : 2026-10-17
+ * @description : 인쇄 API 응답 코드 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrinterControllerTest {
+
+    private final PrinterDevice device = PrinterDevice.of("counter", "virtual:counter");
+    private final PrinterService printerService = mock(PrinterService.class);
+    private final PrintJobQueue printJobQueue = mock(PrintJobQueue.class);
+    private final PrinterRouter printerRouter = mock(PrinterRouter.class);
+    private final PrinterController controller = new PrinterController(printerService, null, null, printJobQueue,
+        printerRouter, null, null, null, null, null, null, new IdempotencyCache(100, 60, false, 10), null, null, null);
+
+    @Test
+    void nullPriorityIsQueuedAsNormal() throws Exception {
+        when(printerRouter.route(null)).thenReturn(device);
+        when(printJobQueue.submit(eq(device), any(ReceiptContent.class), eq(PrintPriority.NORMAL)))
+            .thenReturn(new PrintJob(device, ReceiptContent.text("아메리카노"), PrintPriority.NORMAL));
+        PrintRequest request = new ObjectMapper()
+            .readValue("{\"text\":\"아메리카노\",\"priority\":null}", PrintRequest.class);
+
+        ResponseEntity<PrintJobResponse> response = controller.print(request, null);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        verify(printJobQueue).submit(eq(device), any(ReceiptContent.class), eq(PrintPriority.NORMAL));
+    }
+
+    @Test
+    void streamToDownPrinterIsServiceUnavailable() {
+        when(printerRouter.route(null)).thenReturn(device);
+        when(printerService.printStream(eq(device), any(Reader.class)))
+            .thenThrow(new PrinterUnavailableException("프린터 counter 사용 불가: 응답 없음"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("재고 현황\n".getBytes(StandardCharsets.UTF_8));
+
+        ResponseEntity<String> response = controller.printStream(request, null);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+}
@@ -0,0 +1,64 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pay.printer.printer.image.ImageMode;
+import com.pay.printer.printer.image.RasterCommands;
+import com.pay.printer.printer.image.RasterImage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : FormattingStateTest
+ * @date : 2026-10-17
+ * @description : 나눠 보낸 구간 사이의 글자 모양 상태 추적
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class FormattingStateTest {
+
+    @Test
+    void tracksAlignBoldSizeAndKoreanMode() {
+        byte[] data = new ReceiptBuilder()
+            .command(EscPosCommands.ALIGN_RIGHT)
+            .command(EscPosCommands.BOLD_ON)
+            .command(new byte[]{EscPosCommands.GS, '!', 0x11})
+            .command(EscPosCommands.ASCII_MODE)
+            .toByteArray();
+        FormattingState state = FormattingState.afterPreamble();
+        assertTrue(state.isDefault());
+
+        state.scan(data, 0, data.length);
+
+        assertFalse(state.isDefault());
+        byte[] expected = new ReceiptBuilder()
+            .command(new byte[]{EscPosCommands.ESC, '!', 0})
+            .command(EscPosCommands.BOLD_ON)
+            .command(new byte[]{EscPosCommands.ESC, '-', 0})
+            .command(new byte[]{EscPosCommands.GS, '!', 0x11})
+            .command(EscPosCommands.ALIGN_RIGHT)
+            .command(EscPosCommands.ASCII_MODE)
+            .toByteArray();
+        assertArrayEquals(expected, state.restoreCommands());
+    }
+
+    @Test
+    void skipsImageDataThatLooksLikeCommands() {
+        // 이미지 데이터 안의 1B 61 02 (ESC a 2) 는 정렬 명령이 아니다
+        byte[] row = {0x1B, 0x61, 0x02, 0x00};
+        ReceiptBuilder receipt = new ReceiptBuilder();
+        RasterCommands.image(receipt, new RasterImage(32, 1, row), ImageMode.RASTER, 0);
+        byte[] data = receipt.toByteArray();
+        FormattingState state = FormattingState.afterPreamble();
+
+        // 구간이 이미지 중간에서 나뉘어도 남은 데이터를 건너뛴다
+        state.scan(data, 0, data.length - 2);
+        state.scan(data, data.length - 2, data.length);
+
+        assertTrue(state.isDefault());
+    }
+}
@@ -0,0 +1,115 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : KoreanTextEncoderTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class KoreanTextEncoderTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private final KoreanTextEncoder encoder = new KoreanTextEncoder("EUC-KR", "?", 16);
+
+    @Test
+    void copiesAsciiAsIs() {
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder, 2).text("Hello 123");
+
+        assertArrayEquals("Hello 123".getBytes(EUC_KR), receipt.toByteArray());
+        assertEquals(0, encoder.getCache().size());
+    }
+
+    @Test
+    void encodesMixedTextSameAsStringGetBytes() {
+        String text = "아메리카노 x2  9,000원\n";
+
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder, 4).text(text);
+
+        assertArrayEquals(text.getBytes(EUC_KR), receipt.toByteArray());
+    }
+
+    @Test
+    void reusesCachedBytesForRepeatedText() {
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder);
+        receipt.text("합계").text("합계");
+
+        assertEquals(1, encoder.getCache().getMisses());
+        assertEquals(1, encoder.getCache().getHits());
+        assertArrayEquals("합계합계".getBytes(EUC_KR), receipt.toByteArray());
+    }
+
+    @Test
+    void encodesLongTextWithoutCaching() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            text.append("영수증 ");
+        }
+
+        byte[] bytes = encoder.encode(text);
+
+        assertArrayEquals(text.toString().getBytes(EUC_KR), bytes);
+        assertEquals(0, encoder.getCache().size());
+    }
+
+    @Test
+    void replacesUnmappableCharacters() {
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder).text("AกB");
+
+        assertArrayEquals(new byte[]{'A', '?', 'B'}, receipt.toByteArray());
+    }
+
+    @Test
+    void fallsBackToCharsetEncoderForMultiByteCodePages() {
+        KoreanTextEncoder utf8 = new KoreanTextEncoder("UTF-8", "?", 16);
+        String text = "영수증 Receipt 合計";
+
+        ReceiptBuilder receipt = new ReceiptBuilder(utf8, 4).text(text);
+
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), receipt.toByteArray());
+    }
+
+    @Test
+    void encodesSingleCharacters() {
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder);
+        encoder.encode('가', receipt);
+        encoder.encode('1', receipt);
+
+        assertArrayEquals("가1".getBytes(EUC_KR), receipt.toByteArray());
+    }
+
+    @Test
+    void measuresPrintedWidth() {
+        KoreanTextEncoder utf8 = new KoreanTextEncoder("UTF-8", "?", 16);
+
+        assertEquals(10, encoder.width("아메리카노", 0, 5));
+        assertEquals(1, encoder.width('A'));
+        assertEquals(0, encoder.width('\n'));
+        assertEquals(1, encoder.width('\u0E01'));  // 코드페이지에 없으면 대체 문자 폭
+        // 변환표가 없는 코드페이지는 유니코드 전각 범위로 판단
+        assertEquals(7, utf8.width("합계 OK", 0, 5));
+    }
+
+    @Test
+    void surrogatePairIsOneCharacterInEncodeAndWidth() {
+        String text = "A\uD83D\uDE00B";
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder);
+        encoder.encode(text.codePointAt(1), receipt);
+
+        assertArrayEquals(new byte[]{'?'}, receipt.toByteArray());
+        assertEquals(1, encoder.width(text.codePointAt(1)));
+        assertEquals(encoder.encode(text).length, encoder.width(text, 0, text.length()));
+        // 짝이 없는 서로게이트도 대체 문자 하나
+        assertEquals(encoder.encode("\uDE00").length, encoder.width("\uDE00", 0, 1));
+    }
+}
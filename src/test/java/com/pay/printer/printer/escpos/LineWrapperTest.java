@@ -0,0 +1,57 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.Charset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : LineWrapperTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class LineWrapperTest {
+
+    private final KoreanTextEncoder encoder = new KoreanTextEncoder("EUC-KR", "?", 16);
+
+    @Test
+    void wrapsAtColumnsAcrossChunks() {
+        assertEquals("abcd\nefgh\nij\n", wrap(4, "abcdef", "ghij"));
+    }
+
+    @Test
+    void fullLineFollowedByNewLineIsOneLine() {
+        assertEquals("abcd\nef\n", wrap(4, "abcd\nef"));
+    }
+
+    @Test
+    void movesWideCharacterToNextLine() {
+        // 한글은 2칸이라 3칸째부터는 들어가지 않는다
+        assertEquals("a가\n나\n", wrap(4, "a가나"));
+    }
+
+    @Test
+    void dropsControlCharactersAndExpandsTabs() {
+        assertEquals("a       b\n", wrap(16, "a\tb\u001B\r"));
+    }
+
+    @Test
+    void surrogatePairSplitAcrossChunksIsOneReplacement() {
+        // 이모지는 EUC-KR 에 없어서 대체 문자 하나, 짝 없는 서로게이트도 하나
+        assertEquals("a?b?\n", wrap(8, "a\uD83D", "\uDE00b\uD83D"));
+    }
+
+    private String wrap(int columns, String... chunks) {
+        LineWrapper wrapper = new LineWrapper(columns);
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder);
+        for (String chunk : chunks) {
+            wrapper.append(chunk.toCharArray(), 0, chunk.length(), receipt);
+        }
+        wrapper.finish(receipt);
+        return new String(receipt.toByteArray(), Charset.forName("EUC-KR"));
+    }
+}
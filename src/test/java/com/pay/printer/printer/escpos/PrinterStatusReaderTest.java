@@ -0,0 +1,131 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : PrinterStatusReaderTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrinterStatusReaderTest {
+
+    private static final int READY = 0x12;
+
+    @Test
+    void readsReadyStatus() throws Exception {
+        AnsweringPrinter printer = new AnsweringPrinter(READY, READY, READY);
+        PrinterStatus status = PrinterStatusReader.query(printer.in, printer.out, 100);
+
+        assertTrue(status.isReady());
+        assertEquals("정상", status.describe());
+    }
+
+    @Test
+    void detectsPaperEndAndCoverOpen() throws Exception {
+        // n=1 오프라인, n=2 커버 열림 + 용지 없음, n=4 용지 없음
+        AnsweringPrinter printer = new AnsweringPrinter(READY | 0x08, READY | 0x04 | 0x20, READY | 0x60);
+
+        PrinterNotReadyException e = assertThrows(PrinterNotReadyException.class,
+            () -> PrinterStatusReader.requireReady(printer.in, printer.out, 100));
+        assertTrue(e.getMessage().contains("커버 열림"));
+        assertTrue(e.getMessage().contains("용지 없음"));
+    }
+
+    @Test
+    void returnsNullWhenPrinterDoesNotAnswer() throws Exception {
+        assertNull(PrinterStatusReader.query(input(), new ByteArrayOutputStream(), 20));
+    }
+
+    @Test
+    void statusPollingWaitsForEachChunk() throws Exception {
+        AnsweringPrinter printer = new AnsweringPrinter();
+        StatusPollingOutputStream polling = new StatusPollingOutputStream(printer.out, printer.in, 256, 100, 20);
+
+        polling.write(new byte[300]);
+        polling.finish();
+
+        // 125 바이트 구간 3개 + 구간마다 GS r 1
+        assertEquals(300 + 3 * 3, printer.received.size());
+        assertEquals(0, printer.in.available());
+    }
+
+    @Test
+    void statusPollingFailsWhenPrinterStops() {
+        StatusPollingOutputStream polling = new StatusPollingOutputStream(
+            new ByteArrayOutputStream(), input(), 256, 20, 20);
+
+        assertThrows(PrinterNotReadyException.class, () -> {
+            polling.write(new byte[300]);
+            polling.finish();
+        });
+    }
+
+    /**
+     * DLE EOT n 에는 준비된 상태 바이트로, GS r 1 에는 0x00 으로 응답하는 프린터
+     */
+    private static class AnsweringPrinter {
+
+        private final Deque<Integer> statusAnswers = new ArrayDeque<>();
+        private final Deque<Integer> responses = new ArrayDeque<>();
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private int previous = -1;
+        private int beforePrevious = -1;
+
+        private final InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                Integer b = responses.poll();
+                return b == null ? -1 : b;
+            }
+
+            @Override
+            public int available() {
+                return responses.size();
+            }
+        };
+
+        private final OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                b &= 0xFF;
+                received.write(b);
+                if (beforePrevious == 0x10 && previous == 0x04 && !statusAnswers.isEmpty()) {
+                    responses.add(statusAnswers.poll());
+                } else if (beforePrevious == 0x1D && previous == 0x72) {
+                    responses.add(0x00);
+                }
+                beforePrevious = previous;
+                previous = b;
+            }
+        };
+
+        private AnsweringPrinter(int... statusBytes) {
+            for (int b : statusBytes) {
+                statusAnswers.add(b);
+            }
+        }
+    }
+
+    private static InputStream input(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        return new ByteArrayInputStream(data);
+    }
+}
@@ -0,0 +1,72 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : ReceiptBuilderTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class ReceiptBuilderTest {
+
+    @Test
+    void writesWholeReceiptInOneWriteWithoutPauses() throws Exception {
+        ReceiptBuilder receipt = new ReceiptBuilder(4)
+            .command(EscPosCommands.INIT)
+            .text("AB", StandardCharsets.US_ASCII)
+            .newLines(2)
+            .command(EscPosCommands.PAPER_PART_CUT);
+
+        CountingOutputStream out = new CountingOutputStream();
+        receipt.writeTo(out);
+
+        assertEquals(1, out.writes);
+        assertArrayEquals(new byte[]{0x1B, 0x40, 'A', 'B', 0x0A, 0x0A, 0x1D, 0x56, 0x01}, out.toByteArray());
+    }
+
+    @Test
+    void splitsWritesOnlyAtPausePoints() throws Exception {
+        ReceiptBuilder receipt = new ReceiptBuilder()
+            .init(1)
+            .text("A", StandardCharsets.US_ASCII)
+            .cut(EscPosCommands.PAPER_CUT, 1);
+
+        CountingOutputStream out = new CountingOutputStream();
+        receipt.writeTo(out);
+
+        assertEquals(2, out.writes);
+        assertEquals(6, out.size());
+    }
+
+    @Test
+    void resetReusesBuffer() throws Exception {
+        ReceiptBuilder receipt = new ReceiptBuilder().init(1).text("first", StandardCharsets.US_ASCII);
+        receipt.reset().text("B", StandardCharsets.US_ASCII);
+
+        CountingOutputStream out = new CountingOutputStream();
+        receipt.writeTo(out);
+
+        assertEquals(1, out.writes);
+        assertArrayEquals(new byte[]{'B'}, out.toByteArray());
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int writes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.Charset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : ReceiptLayoutTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class ReceiptLayoutTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private static final LayoutColumn[] MENU = {
+        new LayoutColumn(0, TextAlign.LEFT, true),
+        new LayoutColumn(3, TextAlign.RIGHT, false),
+        new LayoutColumn(7, TextAlign.RIGHT, false)
+    };
+
+    private final KoreanTextEncoder encoder = new KoreanTextEncoder("EUC-KR", "?", 16);
+    private final ReceiptBuilder receipt = new ReceiptBuilder(encoder);
+    private final ReceiptLayout layout = new ReceiptLayout(receipt, 24);
+
+    @Test
+    void alignsColumnsCountingHangulAsTwo() {
+        layout.row(MENU, "아메리카노", "2", "9,000")
+            .row(MENU, "Latte", "10", "45,000");
+
+        assertEquals(
+            "아메리카노     2   9,000\n"
+                + "Latte         10  45,000\n",
+            printed());
+    }
+
+    @Test
+    void dropsControlCharactersFromCells() {
+        layout.row(MENU, "아메\u001B리카노\u001D\u007F", "2", "9,000");
+
+        assertEquals("아메리카노     2   9,000\n", printed());
+    }
+
+    @Test
+    void wrapsLongCellAtWordsAndKeepsOtherColumns() {
+        layout.row(MENU, "아이스 바닐라 라떼 (벤티)", "1", "6,500");
+
+        assertEquals(
+            "아이스         1   6,500\n"
+                + "바닐라 라떼\n"
+                + "(벤티)\n",
+            printed());
+    }
+
+    @Test
+    void truncatesWithoutSplittingHangul() {
+        LayoutColumn[] columns = {new LayoutColumn(5, TextAlign.LEFT, false), new LayoutColumn(0, TextAlign.RIGHT, false)};
+        layout.row(columns, "카페라떼", "OK");
+
+        // 5칸에는 한글 2자 (4칸) 까지만
+        assertEquals("카페" + " ".repeat(18) + "OK\n", printed());
+    }
+
+    @Test
+    void centersTextAndDrawsRule() {
+        layout.text("영수증", TextAlign.CENTER).rule('-');
+
+        assertEquals(" ".repeat(9) + "영수증\n" + "-".repeat(24) + "\n", printed());
+    }
+
+    @Test
+    void rejectsColumnsWiderThanLine() {
+        LayoutColumn[] columns = {new LayoutColumn(20, TextAlign.LEFT, true), new LayoutColumn(4, TextAlign.LEFT, true)};
+
+        assertThrows(IllegalArgumentException.class, () -> ReceiptLayout.validate(columns, 24));
+    }
+
+    private String printed() {
+        return new String(receipt.toByteArray(), EUC_KR);
+    }
+}
@@ -0,0 +1,76 @@
+package com.pay.printer.printer.escpos;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.escpos
+ * @fileName : SymbolEncoderTest
+ * @date : 2026-10-17
+ * @description : QR / 바코드 명령 바이트와 캐시
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class SymbolEncoderTest {
+
+    private final SymbolEncoder encoder = new SymbolEncoder(4);
+
+    @Test
+    void qrStoresDataAndPrints() {
+        String url = "https://pay.example/s/42";
+        byte[] command = encoder.qr(url, 6, QrErrorCorrection.Q);
+
+        int dataLength = url.length();
+        byte[] store = {0x1D, 0x28, 0x6B, (byte) (dataLength + 3), 0x00, 0x31, 0x50, 0x30};
+        assertEquals(9 + 8 + 8 + store.length + dataLength + 8, command.length);
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x6B, 0x03, 0x00, 0x31, 0x43, 6}, Arrays.copyOfRange(command, 9, 17));
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x6B, 0x03, 0x00, 0x31, 0x45, 50}, Arrays.copyOfRange(command, 17, 25));
+        assertArrayEquals(store, Arrays.copyOfRange(command, 25, 33));
+        assertEquals(url, new String(command, 33, dataLength, StandardCharsets.UTF_8));
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x6B, 0x03, 0x00, 0x31, 0x51, 0x30},
+            Arrays.copyOfRange(command, command.length - 8, command.length));
+    }
+
+    @Test
+    void repeatedPayloadComesFromCache() {
+        byte[] first = encoder.qr("store-42", 6, QrErrorCorrection.M);
+
+        assertSame(first, encoder.qr("store-42", 6, QrErrorCorrection.M));
+        assertEquals(1, encoder.getCache().getHits());
+        encoder.qr("store-42", 8, QrErrorCorrection.M);
+        assertEquals(2, encoder.getCache().size());
+    }
+
+    @Test
+    void code128PacksDigitsInCodeSetC() {
+        byte[] command = encoder.barcode(BarcodeType.CODE128, "20261017", 80, 2, HriPosition.BELOW);
+
+        byte[] expected = {
+            0x1D, 0x68, 80, 0x1D, 0x77, 2, 0x1D, 0x48, 2,
+            0x1D, 0x6B, 73, 6, '{', 'C', 20, 26, 10, 17};
+        assertArrayEquals(expected, command);
+
+        byte[] text = encoder.barcode(BarcodeType.CODE128, "A{1", 80, 2, HriPosition.NONE);
+        assertEquals("{BA{{1", new String(text, 13, text.length - 13, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void rejectsDataTheBarcodeCannotCarry() {
+        assertThrows(IllegalArgumentException.class,
+            () -> encoder.barcode(BarcodeType.EAN13, "12345", 80, 2, HriPosition.BELOW));
+        assertThrows(IllegalArgumentException.class,
+            () -> encoder.barcode(BarcodeType.CODE39, "abc", 80, 2, HriPosition.BELOW));
+        assertThrows(IllegalArgumentException.class,
+            () -> encoder.barcode(BarcodeType.CODE128, "주문", 80, 2, HriPosition.BELOW));
+        assertThrows(IllegalArgumentException.class, () -> encoder.qr("", 6, QrErrorCorrection.M));
+        assertThrows(IllegalArgumentException.class, () -> encoder.qr("x", 17, QrErrorCorrection.M));
+    }
+}
@@ -0,0 +1,92 @@
+package com.pay.printer.printer.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : ImageConverterTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class ImageConverterTest {
+
+    @Test
+    void thresholdPacksDarkPixelsMsbFirst() {
+        int[] gray = new int[10];
+        Arrays.fill(gray, 255);
+        gray[0] = 0;
+        gray[9] = 10;
+
+        RasterImage image = ImageConverter.threshold(gray, 10, 1);
+
+        assertEquals(2, image.getBytesPerRow());
+        assertEquals((byte) 0x80, image.getData()[0]);
+        assertEquals((byte) 0x40, image.getData()[1]);
+        assertTrue(image.isBlack(9, 0));
+        assertFalse(image.isBlack(1, 0));
+    }
+
+    @Test
+    void floydSteinbergKeepsAverageGrayLevel() {
+        int width = 64;
+        int height = 64;
+        int[] gray = new int[width * height];
+        Arrays.fill(gray, 191);  // 25% 검정
+
+        RasterImage image = ImageConverter.floydSteinberg(gray, width, height);
+
+        int black = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                black += image.isBlack(x, y) ? 1 : 0;
+            }
+        }
+        double ratio = black / (double) (width * height);
+        assertTrue(ratio > 0.2 && ratio < 0.3, "black ratio " + ratio);
+    }
+
+    @Test
+    void scalesToTargetWidthAndFillsTransparencyWithWhite() {
+        BufferedImage source = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = source.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, 100, 100);  // 왼쪽 절반만 검정, 오른쪽은 투명
+        g.dispose();
+
+        RasterImage image = ImageConverter.convert(source, 100, Dithering.THRESHOLD);
+
+        assertEquals(100, image.getWidth());
+        assertEquals(50, image.getHeight());
+        assertTrue(image.isBlack(10, 10));
+        assertFalse(image.isBlack(90, 10));
+    }
+
+    @Test
+    void convertsEachImageOnlyOncePerWidth() throws Exception {
+        BufferedImage source = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+        ImageService service = new ImageService(8);
+
+        RasterImage first = service.convert(png.toByteArray(), 16, Dithering.THRESHOLD);
+
+        assertSame(first, service.convert(png.toByteArray(), 16, Dithering.THRESHOLD));
+        assertEquals(1, service.getCache().getHits());
+        service.convert(png.toByteArray(), 8, Dithering.THRESHOLD);
+        assertEquals(2, service.getCache().size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.pay.printer.printer.image;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.image
+ * @fileName : RasterCommandsTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class RasterCommandsTest {
+
+    @Test
+    void writesRasterHeaderAndSplitsTallImagesIntoBands() {
+        int height = RasterCommands.MAX_BAND_HEIGHT + 4;
+        RasterImage image = new RasterImage(16, height, new byte[2 * height]);
+
+        byte[] bytes = RasterCommands.raster(new ReceiptBuilder(), image).toByteArray();
+
+        assertArrayEquals(new byte[]{0x1D, 0x76, 0x30, 0x00, 2, 0, 0, 1}, Arrays.copyOf(bytes, 8));
+        int second = 8 + 2 * RasterCommands.MAX_BAND_HEIGHT;
+        assertArrayEquals(new byte[]{0x1D, 0x76, 0x30, 0x00, 2, 0, 4, 0}, Arrays.copyOfRange(bytes, second, second + 8));
+        assertEquals(second + 8 + 2 * 4, bytes.length);
+    }
+
+    @Test
+    void writesColumnsOfThreeVerticalBytes() {
+        byte[] data = new byte[24];
+        data[0] = (byte) 0x80;   // (0, 0)
+        data[23] = (byte) 0x80;  // (0, 23)
+        RasterImage image = new RasterImage(8, 24, data);
+
+        byte[] bytes = RasterCommands.column(new ReceiptBuilder(), image).toByteArray();
+
+        assertArrayEquals(new byte[]{0x1B, 0x33, 24, 0x1B, 0x2A, 33, 8, 0, (byte) 0x80, 0, 0x01},
+            Arrays.copyOf(bytes, 11));
+        assertEquals(3 + 5 + 8 * 3 + 1 + 2, bytes.length);
+    }
+
+    @Test
+    void nvImageIsDefinedOnceAndPrintedWithShortCommand() {
+        RasterImage image = new RasterImage(8, 2, new byte[]{(byte) 0xFF, 0x00});
+
+        byte[] define = RasterCommands.defineNvImage(new ReceiptBuilder(), 'A', 'B', image).toByteArray();
+        byte[] print = RasterCommands.printNvImage(new ReceiptBuilder(), 'A', 'B').toByteArray();
+
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x4C, 13, 0, 0x30, 67, 0x30, 'A', 'B', 1, 8, 0, 2, 0, 0x31, (byte) 0xFF, 0},
+            define);
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x4C, 6, 0, 0x30, 69, 'A', 'B', 1, 1}, print);
+    }
+
+    @Test
+    void replacesBlankBandsWithPaperFeed() {
+        byte[] data = new byte[2 * 40];
+        data[0] = (byte) 0xFF;        // 첫 행
+        data[2 * 30] = 0x01;          // 30번째 행 (사이 29행은 비어 있다)
+        RasterImage image = new RasterImage(16, 40, data);
+
+        byte[] bytes = RasterCommands.graphics(new ReceiptBuilder(), image, 0).toByteArray();
+
+        // fn 112 한 행 + fn 50
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x4C, 12, 0, 0x30, 112, 0x30, 1, 1, 0x31, 16, 0, 1, 0, (byte) 0xFF, 0,
+            0x1D, 0x28, 0x4C, 2, 0, 0x30, 50, 0x1B, 0x4A, 29}, Arrays.copyOf(bytes, 27));
+        int second = 27;
+        assertArrayEquals(new byte[]{0x1D, 0x28, 0x4C, 12, 0, 0x30, 112}, Arrays.copyOfRange(bytes, second, second + 7));
+        // 끝의 빈 9행도 종이 밀기
+        assertArrayEquals(new byte[]{0x1B, 0x4A, 9}, Arrays.copyOfRange(bytes, bytes.length - 3, bytes.length));
+        assertEquals(27 + 17 + 7 + 3, bytes.length);
+        assertTrue(bytes.length < RasterCommands.rasterSize(image));
+    }
+
+    @Test
+    void shortBlankRunsStayInsideTheBand() {
+        byte[] data = new byte[4];
+        data[0] = 0x01;
+        data[3] = 0x01;  // 사이 2행은 MIN_BLANK_ROWS 보다 짧다
+        RasterImage image = new RasterImage(8, 4, data);
+
+        byte[] bytes = RasterCommands.graphics(new ReceiptBuilder(), image, 0).toByteArray();
+
+        assertEquals(15 + 4 + 7, bytes.length);
+        assertEquals(4, bytes[13]);  // yL
+    }
+
+    @Test
+    void compressesOnlyWhenSmaller() {
+        int compressed = 0x60;
+        byte[] solid = new byte[72 * 16];
+        Arrays.fill(solid, (byte) 0xFF);
+        byte[] packed = RasterCommands.graphics(new ReceiptBuilder(), new RasterImage(576, 16, solid), compressed)
+            .toByteArray();
+
+        assertEquals(compressed, packed[6]);
+        assertTrue(packed.length < 100);
+
+        byte[] noise = new byte[16];
+        new Random(7).nextBytes(noise);
+        noise[0] = 1;
+        byte[] plain = RasterCommands.graphics(new ReceiptBuilder(), new RasterImage(128, 1, noise), compressed)
+            .toByteArray();
+
+        assertEquals(112, plain[6]);
+        assertEquals(15 + 16 + 7, plain.length);
+    }
+
+    @Test
+    void packBitsRoundTrips() {
+        byte[] source = new byte[300];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = (byte) (i < 150 ? 0 : i % 7 == 0 ? i : i % 3);
+        }
+        byte[] packed = new byte[RasterCommands.maxPackedSize(source.length)];
+        int length = RasterCommands.packBits(source, 0, source.length, packed);
+
+        ByteArrayOutputStream unpacked = new ByteArrayOutputStream();
+        for (int i = 0; i < length; ) {
+            int n = packed[i++];
+            if (n >= 0) {
+                unpacked.write(packed, i, n + 1);
+                i += n + 1;
+            } else {
+                for (int k = 0; k < 1 - n; k++) {
+                    unpacked.write(packed[i]);
+                }
+                i++;
+            }
+        }
+        assertArrayEquals(source, unpacked.toByteArray());
+    }
+}
@@ -0,0 +1,155 @@
+package com.pay.printer.printer.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : IdempotencyCacheTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class IdempotencyCacheTest {
+
+    private final PrinterDevice device = PrinterDevice.of("counter", "COM9");
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final Supplier<PrintJob> submission = () -> {
+        submitted.incrementAndGet();
+        return new PrintJob(device, ReceiptContent.text("x"));
+    };
+
+    @Test
+    void retryWithSameKeyReturnsFirstJob() {
+        IdempotencyCache cache = new IdempotencyCache(100, 60, false, 10);
+
+        IdempotencyCache.Result<PrintJob> first = cache.submit("text", "pos-1-0001", () -> "x", submission);
+        IdempotencyCache.Result<PrintJob> retry = cache.submit("text", "pos-1-0001", () -> "x", submission);
+
+        assertFalse(first.isDuplicate());
+        assertTrue(retry.isDuplicate());
+        assertSame(first.getValue(), retry.getValue());
+        assertEquals(1, submitted.get());
+    }
+
+    @Test
+    void requestsWithoutKeyAreNotMatchedUnlessContentHashIsOn() {
+        IdempotencyCache off = new IdempotencyCache(100, 60, false, 10);
+        off.submit("text", null, () -> "same", submission);
+        off.submit("text", null, () -> "same", submission);
+        assertEquals(2, submitted.get());
+
+        IdempotencyCache on = new IdempotencyCache(100, 60, true, 10);
+        on.submit("text", null, () -> "same", submission);
+        assertTrue(on.submit("text", null, () -> "same", submission).isDuplicate());
+        assertFalse(on.submit("text", null, () -> "other", submission).isDuplicate());
+        assertEquals(4, submitted.get());
+    }
+
+    @Test
+    void expiredKeyPrintsAgain() {
+        IdempotencyCache cache = new IdempotencyCache(100, 0, false, 0);
+
+        cache.submit("text", "k", () -> "x", submission);
+
+        assertFalse(cache.submit("text", "k", () -> "x", submission).isDuplicate());
+        assertEquals(2, submitted.get());
+    }
+
+    @Test
+    void keepsAtMostMaxEntries() {
+        IdempotencyCache cache = new IdempotencyCache(3, 60, false, 10);
+
+        for (int i = 0; i < 10; i++) {
+            cache.submit("text", "k" + i, () -> "x", submission);
+        }
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.submit("text", "k9", () -> "x", submission).isDuplicate());
+    }
+
+    @Test
+    void rejectedSubmissionIsNotRemembered() {
+        IdempotencyCache cache = new IdempotencyCache(100, 60, false, 10);
+
+        assertThrows(PrintQueueFullException.class, () -> cache.submit("text", "k", () -> "x", () -> {
+            throw new PrintQueueFullException("가득 참");
+        }));
+
+        assertFalse(cache.submit("text", "k", () -> "x", submission).isDuplicate());
+    }
+
+    @Test
+    void concurrentRetriesPrintOnce() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(100, 60, false, 10);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PrintJob>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return cache.submit("text", "same", () -> "x", submission).getValue();
+            }));
+        }
+        start.countDown();
+
+        PrintJob first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<PrintJob> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, submitted.get());
+        pool.shutdown();
+    }
+
+    @Test
+    void keysAreScopedPerEndpoint() {
+        IdempotencyCache cache = new IdempotencyCache(100, 60, false, 10);
+
+        cache.submit("text", "k", () -> "x", submission);
+
+        assertFalse(cache.submit("image", "k", () -> "x", submission).isDuplicate());
+        assertEquals(2, submitted.get());
+    }
+
+    @Test
+    void slowSubmissionDoesNotBlockOtherKeys() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(100, 60, false, 10);
+        CountDownLatch converting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Future<PrintJob> slow = pool.submit(() -> cache.submit("image", "slow", () -> "x", () -> {
+            converting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return submission.get();
+        }).getValue());
+        assertTrue(converting.await(5, TimeUnit.SECONDS));
+
+        // 접수 중인 키가 있어도 다른 키는 (같은 버킷이어도) 기다리지 않는다
+        for (int i = 0; i < 100; i++) {
+            String key = "k" + i;
+            assertFalse(pool.submit(() -> cache.submit("text", key, () -> "x", submission).isDuplicate())
+                .get(1, TimeUnit.SECONDS));
+        }
+        release.countDown();
+        assertSame(slow.get(5, TimeUnit.SECONDS), cache.submit("image", "slow", () -> "x", submission).getValue());
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,164 @@
+package com.pay.printer.printer.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.service.PrinterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJobQueueTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrintJobQueueTest {
+
+    private final PrinterService printerService = mock(PrinterService.class);
+    private final PrinterDevice device = PrinterDevice.of("counter", "COM9");
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PrintJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new PrintJobQueue(printerService, new PrinterMetrics(registry), PrintJournal.disabled());
+        ReflectionTestUtils.setField(queue, "capacity", 1);
+        ReflectionTestUtils.setField(queue, "writersPerPort", 1);
+        ReflectionTestUtils.setField(queue, "retainedJobs", 10);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+            .when(printerService).print(eq(device), any(ReceiptContent.class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        queue.shutdown();
+    }
+
+    @Test
+    void rejectsWhenPortQueueIsFull() {
+        queue.submit(device, "first");   // 전송 중
+        queue.submit(device, "second");  // 대기
+
+        assertThrows(PrintQueueFullException.class, () -> queue.submit(device, "third"));
+    }
+
+    @Test
+    void reportsCompletedStatus() throws InterruptedException {
+        PrintJob job = queue.submit(device, "hello");
+        release.countDown();
+
+        for (int i = 0; i < 100 && !job.isFinished(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(PrintJobStatus.COMPLETED, queue.find(job.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reportsEachReceiptOfBatch() throws InterruptedException {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, IntConsumer.class).accept(0);
+            throw new IllegalStateException("용지 없음");
+        }).when(printerService).printBatch(eq(device), any(List.class), any(IntConsumer.class));
+
+        List<PrintJob> batch = queue.submitBatch(device, List.of(ReceiptContent.text("1"), ReceiptContent.text("2")));
+        for (int i = 0; i < 100 && !batch.get(1).isFinished(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(PrintJobStatus.COMPLETED, batch.get(0).getStatus());
+        assertEquals(PrintJobStatus.FAILED, batch.get(1).getStatus());
+        assertEquals("용지 없음", batch.get(1).getErrorMessage());
+    }
+
+    @Test
+    void recordsQueueDepthAndJobTime() throws InterruptedException {
+        queue.submit(device, "first");
+        queue.submit(device, "second");
+        // 첫 작업이 작업 스레드에서 시작될 때까지
+        for (int i = 0; i < 100 && queue.queueDepth("counter") < 2; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(2.0, registry.get("printer.queue.depth").tag("printer", "counter").gauge().value());
+
+        release.countDown();
+        // 완료 표시 뒤에 기록되므로 기록될 때까지 기다린다
+        for (int i = 0; i < 100 && registry.find("printer.job.total").timers().stream()
+            .mapToLong(timer -> timer.count()).sum() < 2; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(2, registry.get("printer.job.queue.wait").tag("printer", "counter").timer().count());
+        assertEquals(2, registry.get("printer.job.total").tags("printer", "counter", "outcome", "success")
+            .timer().count());
+    }
+
+    @Test
+    void urgentJobCutsInBetweenBulkParts() throws InterruptedException {
+        assertUrgentCutsInBetweenBulkParts();
+    }
+
+    @Test
+    void urgentJobCutsInBetweenBulkPartsWithAging() throws InterruptedException {
+        // 유휴 프린터의 첫 작업은 대기열을 거치지 않고 작업 스레드로 바로 간다 (그래도 접수 시간이 있어야 한다)
+        ReflectionTestUtils.setField(queue, "agingMillis", 5000L);
+
+        assertUrgentCutsInBetweenBulkParts();
+    }
+
+    private void assertUrgentCutsInBetweenBulkParts() throws InterruptedException {
+        List<byte[]> parts = List.of(new byte[]{1}, new byte[]{2}, new byte[]{3});
+        ReceiptContent report = ReceiptContent.text("마감 보고서");
+        ReceiptContent receipt = ReceiptContent.text("영수증");
+        when(printerService.split(report, 0)).thenReturn(parts);
+        CountDownLatch firstPart = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstPart.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(printerService).printPart(eq(device), same(parts.get(0)), eq(true), eq(false), eq(false));
+
+        PrintJob bulk = queue.submit(device, report, PrintPriority.BULK);
+        firstPart.await(5, TimeUnit.SECONDS);
+        PrintJob urgent = queue.submit(device, receipt, PrintPriority.URGENT);
+        release.countDown();
+        for (int i = 0; i < 100 && !(bulk.isFinished() && urgent.isFinished()); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(PrintJobStatus.COMPLETED, bulk.getStatus());
+        InOrder order = inOrder(printerService);
+        order.verify(printerService).printPart(eq(device), same(parts.get(0)), eq(true), eq(false), eq(false));
+        order.verify(printerService).printPart(eq(device), any(byte[].class), eq(false), eq(true), eq(false));  // 잘라서 양보
+        order.verify(printerService).print(device, receipt);
+        order.verify(printerService).printPart(eq(device), same(parts.get(1)), eq(true), eq(false), eq(false));
+        order.verify(printerService).printPart(eq(device), same(parts.get(2)), eq(false), eq(true), eq(false));
+        assertEquals(1, registry.get("printer.job.queue.wait").tags("printer", "counter", "priority", "URGENT")
+            .timer().count());
+    }
+}
@@ -0,0 +1,85 @@
+package com.pay.printer.printer.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintJournalTest
+ * @date : 2026-10-17
+ * @description : 작업 일지 복구/압축 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrintJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversOnlyUnfinishedJobsAfterCrash() throws Exception {
+        PrintJournal journal = open(4096);
+        journal.accepted("a", "counter", new byte[]{'A'}, false);
+        journal.accepted("b", "counter", new byte[]{'B'}, true);
+        journal.accepted("c", "kitchen", "주문".getBytes("EUC-KR"), false);
+        journal.sent("a");
+        journal.cut("a");
+        journal.sent("b");
+        // close 없이 새로 연다 (프로세스가 죽은 경우)
+
+        List<PrintJournal.Entry> recovered = open(4096).takeRecovered();
+
+        assertEquals(2, recovered.size());
+        assertEquals("b", recovered.get(0).getJobId());
+        assertTrue(recovered.get(0).isSent());
+        assertTrue(recovered.get(0).isEndsWithCut());
+        assertEquals("c", recovered.get(1).getJobId());
+        assertEquals("kitchen", recovered.get(1).getPrinterId());
+        assertFalse(recovered.get(1).isSent());
+        assertArrayEquals("주문".getBytes("EUC-KR"), recovered.get(1).getBody());
+    }
+
+    @Test
+    void compactionKeepsFileSmallUnderConstantLoad() throws Exception {
+        PrintJournal journal = open(4096);
+        byte[] body = new byte[200];
+        for (int i = 0; i < 1000; i++) {
+            String id = "job-" + i;
+            journal.accepted(id, "counter", body, false);
+            journal.sent(id);
+            journal.cut(id);
+            assertTrue(journal.position() <= 2048, "position " + journal.position());
+        }
+        journal.accepted("last", "counter", body, false);
+        journal.close();
+
+        assertEquals(4096, Files.size(directory.resolve("journal.0")));
+        assertEquals(4096, Files.size(directory.resolve("journal.1")));
+        List<PrintJournal.Entry> recovered = open(4096).takeRecovered();
+        assertEquals(1, recovered.size());
+        assertEquals("last", recovered.get(0).getJobId());
+    }
+
+    @Test
+    void growsWhenUnfinishedJobsDoNotFit() throws Exception {
+        PrintJournal journal = open(1024);
+        for (int i = 0; i < 10; i++) {
+            journal.accepted("job-" + i, "counter", new byte[500], false);
+        }
+
+        assertEquals(10, open(1024).takeRecovered().size());
+    }
+
+    private PrintJournal open(int size) throws Exception {
+        PrintJournal journal = new PrintJournal(directory.resolve("journal").toString(), size, false);
+        journal.open();
+        return journal;
+    }
+}
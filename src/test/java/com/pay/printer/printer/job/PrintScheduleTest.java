@@ -0,0 +1,84 @@
+package com.pay.printer.printer.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.job
+ * @fileName : PrintScheduleTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrintScheduleTest {
+
+    @Test
+    void takesHigherPriorityFirst() {
+        PrintSchedule schedule = new PrintSchedule(10, 0);
+        PrintSchedule.Task report = task(PrintPriority.BULK);
+        PrintSchedule.Task normal = task(PrintPriority.NORMAL);
+        PrintSchedule.Task receipt = task(PrintPriority.URGENT);
+        schedule.offer(report);
+        schedule.offer(normal);
+        schedule.offer(receipt);
+
+        assertTrue(schedule.hasWaitingAbove(report));
+        assertSame(receipt, schedule.poll());
+        assertSame(normal, schedule.poll());
+        assertFalse(schedule.hasWaitingAbove(report));
+        assertSame(report, schedule.poll());
+    }
+
+    @Test
+    void agedBulkIsNotStarved() throws InterruptedException {
+        PrintSchedule schedule = new PrintSchedule(10, 1);
+        PrintSchedule.Task report = task(PrintPriority.BULK);
+        schedule.offer(report);
+        Thread.sleep(5);  // 두 단계 이상 올라서 URGENT 와 같은 단계
+        schedule.offer(task(PrintPriority.URGENT));
+
+        assertSame(report, schedule.poll());
+    }
+
+    @Test
+    void requeuedRemainderIgnoresCapacity() {
+        PrintSchedule schedule = new PrintSchedule(1, 0);
+        PrintSchedule.Task first = task(PrintPriority.BULK);
+        PrintSchedule.Task remainder = task(PrintPriority.BULK);
+
+        assertTrue(schedule.offer(first));
+        assertFalse(schedule.offer(task(PrintPriority.URGENT)));
+        schedule.requeue(remainder);
+
+        assertEquals(2, schedule.size());
+        assertSame(remainder, schedule.poll());
+    }
+
+    @Test
+    void requeuedRemainderKeepsItsAge() throws InterruptedException {
+        PrintSchedule schedule = new PrintSchedule(10, 1);
+        PrintSchedule.Task report = task(PrintPriority.BULK);
+        schedule.offer(report);
+        assertSame(report, schedule.poll());
+        Thread.sleep(5);  // 인쇄하는 동안에도 나이는 쌓인다
+
+        schedule.offer(task(PrintPriority.URGENT));
+        // 오래 기다린 보고서는 새 URGENT 와 같은 단계이고 먼저 접수되었으므로 자리를 내주지 않는다
+        assertFalse(schedule.hasWaitingAbove(report));
+        PrintSchedule.Task remainder = report.resume(self -> {
+        });
+        schedule.requeue(remainder);
+        assertSame(remainder, schedule.poll());
+    }
+
+    private static PrintSchedule.Task task(PrintPriority priority) {
+        return new PrintSchedule.Task(priority, () -> {
+        });
+    }
+}
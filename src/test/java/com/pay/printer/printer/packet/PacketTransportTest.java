@@ -0,0 +1,183 @@
+package com.pay.printer.printer.packet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.packet
+ * @fileName : PacketTransportTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PacketTransportTest {
+
+    @Test
+    void framesWithLengthCommandAndLrc() {
+        byte[] packet = PacketFramer.buildPacket(PacketFramer.CMD_PRINT, new byte[]{0x0A});
+
+        // STX, 길이 0x0002, CMD, 데이터, ETX, LRC(00 ^ 02 ^ 20 ^ 0A ^ 03)
+        assertArrayEquals(new byte[]{0x02, 0x00, 0x02, 0x20, 0x0A, 0x03, 0x2B}, packet);
+    }
+
+    @Test
+    void retransmitsAfterNak() throws Exception {
+        FakePrinter printer = new FakePrinter(1);
+        PacketTransport transport = new PacketTransport(printer.in, printer.out, settings(1));
+
+        transport.send(PacketFramer.CMD_PRINT, new byte[]{0x0A}, 0, 1);
+        transport.send(PacketFramer.CMD_PRINT, new byte[]{0x0B}, 0, 1);
+        transport.finish();
+
+        assertEquals(2, printer.accepted.size());
+        assertEquals(1, transport.getRetransmits());
+    }
+
+    @Test
+    void keepsSeveralFramesInFlight() throws Exception {
+        FakePrinter printer = new FakePrinter(0);
+        printer.holdResponses = true;
+        PacketTransport transport = new PacketTransport(printer.in, printer.out, settings(4));
+
+        for (int i = 0; i < 4; i++) {
+            transport.send(PacketFramer.CMD_PRINT, new byte[]{(byte) i}, 0, 1);
+        }
+        // 창이 가득 찰 때까지 응답 없이 보낸다
+        assertEquals(4, printer.framesReceived);
+
+        printer.releaseResponses();
+        transport.finish();
+        assertEquals(4, printer.accepted.size());
+    }
+
+    @Test
+    void splitsLargePayloadIntoMaxSizedFrames() throws Exception {
+        FakePrinter printer = new FakePrinter(0);
+        PacketTransport transport = new PacketTransport(printer.in, printer.out, settings(2));
+
+        transport.send(PacketFramer.CMD_PRINT, new byte[PacketFramer.MAX_DATA_LENGTH * 2 + 10], 0,
+            PacketFramer.MAX_DATA_LENGTH * 2 + 10);
+        transport.finish();
+
+        assertEquals(3, transport.getFramesSent());
+    }
+
+    @Test
+    void failsAfterMaxRetriesWithoutAnswer() {
+        FakePrinter printer = new FakePrinter(0);
+        printer.silent = true;
+        PacketSettings settings = settings(1);
+        settings.setAckTimeoutMillis(10);
+
+        PacketTransport transport = new PacketTransport(printer.in, printer.out, settings);
+
+        assertThrows(PacketDeliveryException.class, () -> {
+            transport.send(PacketFramer.CMD_PRINT, new byte[]{0x0A}, 0, 1);
+            transport.finish();
+        });
+    }
+
+    @Test
+    void defaultSettingsSendEachFrameOnceWithoutWaitingForAnswers() throws Exception {
+        FakePrinter printer = new FakePrinter(0);
+        printer.silent = true;
+        PacketSettings settings = new PacketSettings();
+        settings.setIntervalMillis(0);
+
+        PacketTransport transport = new PacketTransport(printer.in, printer.out, settings);
+        transport.send(PacketFramer.CMD_PRINT, new byte[]{0x0A}, 0, 1);
+        transport.send(PacketFramer.CMD_PRINT, new byte[]{0x0B}, 0, 1);
+        transport.finish();
+
+        // 응답하지 않는 프린터에도 재전송하지 않는다
+        assertEquals(2, printer.framesReceived);
+        assertEquals(0, transport.getRetransmits());
+    }
+
+    private static PacketSettings settings(int windowSize) {
+        PacketSettings settings = new PacketSettings();
+        settings.setAck(true);
+        settings.setWindowSize(windowSize);
+        return settings;
+    }
+
+    /**
+     * 패킷을 해석해서 LRC 를 확인하고 ACK/NAK 로 응답하는 프린터
+     */
+    private static class FakePrinter {
+
+        private final Deque<Integer> responses = new ArrayDeque<>();
+        private final Deque<Integer> held = new ArrayDeque<>();
+        private final Deque<byte[]> accepted = new ArrayDeque<>();
+        private final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        private int naksToSend;
+        private int framesReceived;
+        private boolean holdResponses;
+        private boolean silent;
+
+        private final InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                Integer b = responses.poll();
+                return b == null ? -1 : b;
+            }
+
+            @Override
+            public int available() {
+                return responses.size();
+            }
+        };
+
+        private final OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                frame.write(b);
+                byte[] bytes = frame.toByteArray();
+                if (bytes.length >= 3) {
+                    int length = ((bytes[1] & 0xFF) << 8) | (bytes[2] & 0xFF);
+                    if (bytes.length == length + 5) {
+                        frame.reset();
+                        onFrame(bytes);
+                    }
+                }
+            }
+        };
+
+        private FakePrinter(int naksToSend) {
+            this.naksToSend = naksToSend;
+        }
+
+        private void onFrame(byte[] bytes) {
+            framesReceived++;
+            if (silent) {
+                return;
+            }
+            boolean valid = PacketFramer.calculateLRC(bytes, 1, bytes.length - 2) == bytes[bytes.length - 1];
+            int response;
+            if (!valid || naksToSend > 0) {
+                naksToSend--;
+                response = PacketFramer.NAK;
+            } else {
+                accepted.add(bytes);
+                response = PacketFramer.ACK;
+            }
+            (holdResponses ? held : responses).add(response);
+        }
+
+        private void releaseResponses() {
+            responses.addAll(held);
+            held.clear();
+            holdResponses = false;
+        }
+    }
+}
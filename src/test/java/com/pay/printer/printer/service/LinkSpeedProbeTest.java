@@ -0,0 +1,92 @@
+package com.pay.printer.printer.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.connection.PrinterConnectionException;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.PrinterTransportFactory;
+import com.pay.printer.printer.connection.TcpSelectorLoop;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.virtual.VirtualPrinter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : LinkSpeedProbeTest
+ * @date : 2026-10-17
+ * @description : 가상 프린터의 고정 속도를 찾고 바꾸는지 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class LinkSpeedProbeTest {
+
+    private final PrinterTransportFactory transportFactory = new PrinterTransportFactory(new TcpSelectorLoop());
+    private final PrinterConnectionManager connectionManager =
+        new PrinterConnectionManager(transportFactory, PrinterMetrics.noop());
+    private final LinkSpeedProbe probe = new LinkSpeedProbe(connectionManager, null);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(probe, "baudRates", new int[]{9600, 115200, 38400});
+        ReflectionTestUtils.setField(probe, "probeTimeoutMillis", 100);
+        ReflectionTestUtils.setField(probe, "switchResetMillis", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.closeAll();
+    }
+
+    @Test
+    void findsRateThePrinterListensOn() {
+        PrinterDevice device = PrinterDevice.of("slow", "virtual:slow?baud=38400");
+
+        assertEquals(38400, probe.probe(device));
+        assertEquals(38400, device.getBaudRate());
+    }
+
+    @Test
+    void findsRateForPacketPrinter() {
+        PrinterDevice device = PrinterDevice.of("packet", "virtual:packet?protocol=PACKET&baud=9600");
+        device.setProtocol(PrinterProtocol.PACKET);
+
+        assertEquals(9600, probe.probe(device));
+    }
+
+    @Test
+    void switchesPrinterToFasterRate() {
+        PrinterDevice device = PrinterDevice.of("switch", "virtual:switch?baud=9600");
+        device.setSwitchBaudRate(115200);
+
+        assertEquals(115200, probe.probe(device));
+        VirtualPrinter printer = transportFactory.getVirtualPrinter(device.getPort());
+        assertEquals(115200, printer.getBaudRate());
+    }
+
+    @Test
+    void failsWhenNoRateAnswers() {
+        PrinterDevice device = PrinterDevice.of("odd", "virtual:odd?baud=4800");
+        device.setBaudRate(4800);
+
+        assertThrows(PrinterConnectionException.class, () -> probe.probe(device));
+        assertEquals(4800, device.getBaudRate());
+    }
+
+    @Test
+    void buildsUserSettingCommand() {
+        byte[] command = LinkSpeedProbe.switchCommand(115200);
+
+        // IN (8) + GS ( E 08 00 0B 01 "115200" (13) + OUT (9)
+        assertEquals(30, command.length);
+        assertEquals(11, command[13]);
+        assertEquals('1', command[15]);
+        assertEquals('T', command[command.length - 1]);
+    }
+}
@@ -0,0 +1,123 @@
+package com.pay.printer.printer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.PrinterTransportFactory;
+import com.pay.printer.printer.connection.TcpSelectorLoop;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.virtual.VirtualPrinter;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterHealthMonitorTest
+ * @date : 2026-10-17
+ * @description : 연속 실패로 DOWN, 상태 조회 성공으로 복귀
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrinterHealthMonitorTest {
+
+    private final PrinterTransportFactory transportFactory = new PrinterTransportFactory(new TcpSelectorLoop());
+    private final PrinterConnectionManager connectionManager =
+        new PrinterConnectionManager(transportFactory, PrinterMetrics.noop());
+    private final PrinterHealthMonitor monitor = new PrinterHealthMonitor(connectionManager, PrinterMetrics.noop());
+    private final PrinterService service = new PrinterService(connectionManager,
+        new KoreanTextEncoder("EUC-KR", "?", 16), PrinterMetrics.noop(), monitor);
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.closeAll();
+    }
+
+    @Test
+    void downAfterConsecutiveFailures() {
+        PrinterDevice device = PrinterDevice.of("a", "virtual:a");
+        monitor.watch(List.of(device));
+
+        assertEquals(PrinterHealth.HEALTHY, monitor.getHealth("a"));
+        monitor.recordFailure(device, "응답 없음");
+        assertEquals(PrinterHealth.DEGRADED, monitor.getHealth("a"));
+        assertTrue(monitor.isAvailable(device));
+        monitor.recordFailure(device, "응답 없음");
+        monitor.recordFailure(device, "응답 없음");
+        assertEquals(PrinterHealth.DOWN, monitor.getHealth("a"));
+        assertFalse(monitor.isAvailable(device));
+
+        monitor.recordSuccess(device);
+        assertEquals(PrinterHealth.HEALTHY, monitor.getHealth("a"));
+    }
+
+    @Test
+    void downPrinterFailsFastAndRecoversOnCheck() {
+        PrinterDevice device = PrinterDevice.of("paper", "virtual:paper");
+        VirtualPrinter printer = transportFactory.getVirtualPrinter(device.getPort());
+        monitor.watch(List.of(device));
+        printer.setPaperEnd(true, System.nanoTime());
+
+        for (int i = 0; i < 3; i++) {
+            monitor.check(device);
+        }
+        assertEquals(PrinterHealth.DOWN, monitor.getHealth("paper"));
+
+        long received = printer.getStats().getBytesReceived();
+        assertThrows(PrinterUnavailableException.class, () -> service.print(device, "x"));
+        assertEquals(received, printer.getStats().getBytesReceived());
+
+        printer.setPaperEnd(false, System.nanoTime());
+        monitor.check(device);
+        assertEquals(PrinterHealth.HEALTHY, monitor.getHealth("paper"));
+        service.print(device, "x");
+    }
+
+    @Test
+    void packetPrinterWithoutAckStaysHealthy() {
+        // ESC/POS 가상 프린터는 상태 패킷에 답하지 않는다 (ACK 없는 패킷 프린터와 같다)
+        PrinterDevice device = PrinterDevice.of("quiet", "virtual:quiet");
+        device.setProtocol(PrinterProtocol.PACKET);
+        device.getPacket().setIntervalMillis(0);
+        monitor.watch(List.of(device));
+
+        for (int i = 0; i < 3; i++) {
+            monitor.check(device);
+        }
+
+        assertEquals(PrinterHealth.HEALTHY, monitor.getHealth("quiet"));
+        service.print(device, "x");
+        assertEquals(PrinterHealth.HEALTHY, monitor.getHealth("quiet"));
+    }
+
+    @Test
+    void trialJobClosesBreakerWithoutProbe() {
+        PrinterDevice device = PrinterDevice.of("solo", "virtual:solo");
+        device.setHealthCheck(false);
+        monitor.watch(List.of(device));
+        for (int i = 0; i < 3; i++) {
+            monitor.recordFailure(device, "응답 없음");
+        }
+        assertThrows(PrinterUnavailableException.class, () -> service.print(device, "x"));
+
+        ReflectionTestUtils.setField(monitor, "retryMillis", 0L);
+        assertTrue(monitor.isAvailable(device));
+        assertTrue(monitor.tryAcquire(device));
+        // 시험 작업이 나가 있는 동안 다른 작업은 막는다
+        assertFalse(monitor.tryAcquire(device));
+        monitor.recordFailure(device, "응답 없음");
+        assertEquals(PrinterHealth.DOWN, monitor.getHealth("solo"));
+
+        service.print(device, "x");
+        assertEquals(PrinterHealth.HEALTHY, monitor.getHealth("solo"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.pay.printer.printer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.config.PrinterProperties;
+import com.pay.printer.printer.config.PrinterProperties.RoutingMode;
+import com.pay.printer.printer.job.PrintJobQueue;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterRouterTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrinterRouterTest {
+
+    private final PrinterProperties properties = new PrinterProperties();
+    private final PrintJobQueue queue = mock(PrintJobQueue.class);
+    private final PrinterHealthMonitor monitor = PrinterHealthMonitor.none();
+    private PrinterRouter router;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDevices(List.of(
+            PrinterDevice.of("a", "COM4"),
+            PrinterDevice.of("b", "COM5"),
+            PrinterDevice.of("c", "COM6")));
+        router = new PrinterRouter(properties, queue, monitor);
+    }
+
+    @Test
+    void routesByExplicitId() {
+        router.init();
+
+        assertEquals("COM5", router.route("b").getPort());
+        assertThrows(UnknownPrinterException.class, () -> router.route("x"));
+    }
+
+    @Test
+    void roundRobinCyclesThroughPrinters() {
+        properties.getRouting().setMode(RoutingMode.ROUND_ROBIN);
+        router.init();
+
+        assertEquals("a", router.route(null).getId());
+        assertEquals("b", router.route(null).getId());
+        assertEquals("c", router.route(null).getId());
+        assertEquals("a", router.route(null).getId());
+    }
+
+    @Test
+    void leastLoadedPicksShortestQueue() {
+        when(queue.queueDepth("a")).thenReturn(3);
+        when(queue.queueDepth("b")).thenReturn(0);
+        when(queue.queueDepth("c")).thenReturn(5);
+        router.init();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("b", router.route(null).getId());
+        }
+    }
+
+    @Test
+    void skipsDownPrinters() {
+        properties.getRouting().setMode(RoutingMode.ROUND_ROBIN);
+        router.init();
+        markDown("b");
+
+        assertEquals("a", router.route(null).getId());
+        assertEquals("c", router.route(null).getId());
+        assertEquals("a", router.route(null).getId());
+    }
+
+    @Test
+    void failsOverToBackup() {
+        PrinterDevice a = PrinterDevice.of("a", "COM4");
+        a.setBackup("b");
+        properties.setDevices(List.of(a, PrinterDevice.of("b", "COM5"), PrinterDevice.of("c", "COM6")));
+        router.init();
+        markDown("a");
+
+        assertEquals("b", router.route("a").getId());
+        assertThrows(PrinterUnavailableException.class, () -> {
+            markDown("b");
+            router.route("a");
+        });
+        assertThrows(PrinterUnavailableException.class, () -> router.route("b"));
+    }
+
+    @Test
+    void rejectsUnknownBackup() {
+        PrinterDevice a = PrinterDevice.of("a", "COM4");
+        a.setBackup("x");
+        properties.setDevices(List.of(a));
+
+        assertThrows(IllegalStateException.class, router::init);
+    }
+
+    @Test
+    void rejectsDuplicateIds() {
+        properties.setDevices(List.of(PrinterDevice.of("a", "COM4"), PrinterDevice.of("a", "COM5")));
+
+        assertThrows(IllegalStateException.class, router::init);
+    }
+
+    private void markDown(String printerId) {
+        PrinterDevice device = router.getDevice(printerId);
+        for (int i = 0; i < 3; i++) {
+            monitor.recordFailure(device, "응답 없음");
+        }
+    }
+}
@@ -2,6 +2,14 @@ package com.pay.printer.printer.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.pay.printer.printer.packet.PacketFramer;
+import com.pay.printer.printer.packet.PacketTransport;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -16,7 +24,52 @@ import org.junit.jupiter.api.Test;
 class PrinterService2Test {
 
     @Test
-    void testPrinter() {
-        testPrinter();
+    void testPrinter() throws Exception {
+        AckingPrinter printer = new AckingPrinter();
+        PrinterService2 service = new PrinterService2(null);
+
+        PacketTransport transport = service.sendTestPage(printer.in, printer.out);
+
+        // 줄바꿈 6개 + 커팅 1개, 모두 ACK
+        assertEquals(7, transport.getFramesSent());
+        assertEquals(0, transport.getRetransmits());
+        byte[] last = PacketFramer.buildPacket(PacketFramer.CMD_PRINT, new byte[]{0x1D, 0x56, 0x41});
+        byte[] written = printer.written.toByteArray();
+        assertArrayEquals(last, Arrays.copyOfRange(written, written.length - last.length, written.length));
+    }
+
+    // 패킷 한 개를 받을 때마다 ACK 를 돌려주는 프린터
+    private static final class AckingPrinter {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final Deque<Integer> responses = new ArrayDeque<>();
+
+        private final OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.write(b, off, len);
+                if (len > 0 && b[off] == PacketFramer.STX) {
+                    responses.add((int) PacketFramer.ACK);
+                }
+            }
+        };
+
+        private final InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                Integer b = responses.poll();
+                return b == null ? -1 : b;
+            }
+
+            @Override
+            public int available() {
+                return responses.size();
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,220 @@
+package com.pay.printer.printer.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pay.printer.printer.config.FlowControl;
+import com.pay.printer.printer.config.PrinterDevice;
+import com.pay.printer.printer.connection.PrinterConnectionManager;
+import com.pay.printer.printer.connection.PrinterTransportFactory;
+import com.pay.printer.printer.connection.TcpSelectorLoop;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.FormattingState;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.metrics.PrinterMetrics;
+import com.pay.printer.printer.template.TemplateCompiler;
+import com.pay.printer.printer.virtual.VirtualPrinter;
+import com.pay.printer.printer.virtual.VirtualPrinterStats;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.service
+ * @fileName : PrinterServiceTest
+ * @date : 2026-10-17
+ * @description : 가상 프린터로 묶음 인쇄 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class PrinterServiceTest {
+
+    private final KoreanTextEncoder encoder = new KoreanTextEncoder("EUC-KR", "?", 16);
+    private final PrinterTransportFactory transportFactory = new PrinterTransportFactory(new TcpSelectorLoop());
+    private final PrinterConnectionManager connectionManager =
+        new PrinterConnectionManager(transportFactory, PrinterMetrics.noop());
+    private final PrinterService service = new PrinterService(connectionManager, encoder, PrinterMetrics.noop());
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.closeAll();
+    }
+
+    @Test
+    void batchInitsOnceAndCutsEveryReceipt() {
+        List<ReceiptContent> contents = Collections.nCopies(3, ReceiptContent.text("아메리카노 4,500"));
+
+        byte[] first = service.assemble(contents.get(0), true).toByteArray();
+        byte[] next = service.assemble(contents.get(1), false).toByteArray();
+
+        assertTrue(startsWith(first, EscPosCommands.INIT));
+        assertFalse(contains(next, EscPosCommands.INIT));
+        assertTrue(contains(next, EscPosCommands.FEED_AND_CUT));
+    }
+
+    @Test
+    void splitsLongBodyOnlyAtLineEnds() {
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            report.append("매출 ").append(i).append('\n');  // 7바이트
+        }
+        ReceiptContent content = ReceiptContent.text(report.toString());
+
+        List<byte[]> parts = service.split(content, 20);
+
+        assertEquals(5, parts.size());  // 두 줄씩
+        int total = 0;
+        for (byte[] part : parts) {
+            assertTrue(part.length <= 20);
+            assertEquals(EscPosCommands.LF, part[part.length - 1]);
+            total += part.length;
+        }
+        assertEquals(service.render(content).length, total);
+    }
+
+    @Test
+    void splitsRenderedTemplateAtLineEnds() {
+        StringBuilder source = new StringBuilder("#bold on\n");
+        for (int i = 0; i < 10; i++) {
+            source.append("매출 ").append(i).append('\n');  // 7바이트
+        }
+        source.append("합계 {{total}}\n");
+        ReceiptContent content = new TemplateCompiler(encoder).compile("report", source.toString())
+            .bind(Map.of("total", "10"));
+
+        List<byte[]> parts = service.split(content, 20);
+
+        assertTrue(parts.size() > 1);
+        for (byte[] part : parts) {
+            assertEquals(EscPosCommands.LF, part[part.length - 1]);
+        }
+    }
+
+    @Test
+    void laterPartsRestoreFormattingSetBeforeTheSplit() {
+        ReceiptContent content = receipt -> {
+            receipt.command(EscPosCommands.ALIGN_CENTER).command(EscPosCommands.BOLD_ON);
+            for (int i = 0; i < 10; i++) {
+                receipt.text("매출 " + i).newLine();
+            }
+        };
+
+        List<byte[]> parts = service.split(content, 20);
+
+        FormattingState expected = FormattingState.afterPreamble();
+        byte[] first = parts.get(0);
+        expected.scan(first, 0, first.length);
+        byte[] restore = expected.restoreCommands();
+        for (byte[] part : parts.subList(1, parts.size())) {
+            assertTrue(startsWith(part, restore));
+        }
+    }
+
+    @Test
+    void batchOfFiftyIsBoundByWireTime() {
+        PrinterDevice device = PrinterDevice.of("burst", "virtual:burst?line-ms=0&cut-ms=0");
+        device.setBaudRate(115200);
+        device.setFlowControl(FlowControl.RTS_CTS);
+        List<ReceiptContent> contents = Collections.nCopies(50, ReceiptContent.text(
+            "주문 #1024\n아메리카노          2     9,000\n카페라떼            1     5,000\n합계               14,000"));
+        List<Integer> sent = new ArrayList<>();
+
+        long start = System.nanoTime();
+        service.printBatch(device, contents, sent::add);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        VirtualPrinterStats stats = transportFactory.getVirtualPrinter(device.getPort()).getStats();
+        assertEquals(50, sent.size());
+        assertEquals(50, stats.getCuts());
+        assertEquals(0, stats.getBytesDropped());
+        // 115200 8N1 에서 바이트당 약 0.087ms - 장마다 포트를 다시 빌리거나 초기화 대기를 하지 않는다
+        long wireMillis = stats.getBytesReceived() * 10 * 1000 / 115200;
+        assertTrue(elapsedMillis < wireMillis + 500, "elapsed " + elapsedMillis + "ms, wire " + wireMillis + "ms");
+    }
+
+    @Test
+    void stopsAtFirstFailedReceipt() {
+        PrinterDevice device = PrinterDevice.of("paper", "virtual:paper");
+        transportFactory.getVirtualPrinter(device.getPort()).setPaperEnd(true, System.nanoTime());
+        List<Integer> sent = new ArrayList<>();
+
+        assertThrows(RuntimeException.class, () ->
+            service.printBatch(device, Collections.nCopies(3, ReceiptContent.text("x")), sent::add));
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    void streamPrintsFirstLinesBeforeBodyEnds() {
+        PrinterDevice device = PrinterDevice.of("report", "virtual:report?line-ms=0&cut-ms=0");
+        device.setLineColumns(32);
+        VirtualPrinter printer = transportFactory.getVirtualPrinter(device.getPort());
+        Reader body = new Reader() {
+            private int reads;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (reads == 100) {
+                    return -1;
+                }
+                // 두 번째 조각을 주기 전에 첫 조각이 이미 인쇄되어 있어야 한다
+                if (reads++ == 1 && !waitForLines(printer, 1)) {
+                    throw new IOException("첫 조각을 받기 전에 인쇄가 시작되지 않았습니다.");
+                }
+                String line = "재고 " + reads + " 원두 1kg 12개\n";
+                line.getChars(0, line.length(), buffer, offset);
+                return line.length();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertTrue(service.printStream(device, body) > 0);
+
+        VirtualPrinterStats stats = printer.getStats();
+        assertTrue(stats.getLines() >= 100, "lines " + stats.getLines());
+        assertEquals(1, stats.getCuts());
+    }
+
+    private static boolean waitForLines(VirtualPrinter printer, long lines) throws InterruptedIOException {
+        try {
+            for (int i = 0; i < 200 && printer.getStats().getLines() < lines; i++) {
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+        return printer.getStats().getLines() >= lines;
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        return data.length >= prefix.length && indexOf(data, prefix) == 0;
+    }
+
+    private static boolean contains(byte[] data, byte[] part) {
+        return indexOf(data, part) >= 0;
+    }
+
+    private static int indexOf(byte[] data, byte[] part) {
+        outer:
+        for (int i = 0; i <= data.length - part.length; i++) {
+            for (int j = 0; j < part.length; j++) {
+                if (data[i + j] != part[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
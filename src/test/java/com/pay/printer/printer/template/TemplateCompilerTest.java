@@ -0,0 +1,135 @@
+package com.pay.printer.printer.template;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pay.printer.printer.escpos.BarcodeType;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.HriPosition;
+import com.pay.printer.printer.escpos.KoreanTextEncoder;
+import com.pay.printer.printer.escpos.QrErrorCorrection;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.escpos.ReceiptContent;
+import com.pay.printer.printer.escpos.SymbolEncoder;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.template
+ * @fileName : TemplateCompilerTest
+ * @date : 2026-10-17
+ * @description : ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class TemplateCompilerTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private final KoreanTextEncoder encoder = new KoreanTextEncoder("EUC-KR", "?", 16);
+    private final TemplateCompiler compiler = new TemplateCompiler(encoder);
+
+    @Test
+    void compilesDirectivesIntoFixedImage() {
+        ReceiptTemplate template = compiler.compile("header", "#align center\n#bold on\n매장\n#bold off\n#cut partial\n");
+
+        byte[] printed = render(template.bind(Map.of()));
+
+        ReceiptBuilder expected = new ReceiptBuilder(encoder)
+            .command(EscPosCommands.ALIGN_CENTER)
+            .command(EscPosCommands.BOLD_ON)
+            .text("매장").newLine()
+            .command(EscPosCommands.BOLD_OFF)
+            .command(EscPosCommands.PAPER_PART_CUT);
+        assertArrayEquals(expected.toByteArray(), printed);
+        assertEquals(printed.length, template.fixedSize());
+        assertTrue(template.bind(Map.of()).endsWithCut());
+    }
+
+    @Test
+    void fillsSlotsAndRepeatsItems() {
+        ReceiptTemplate template = compiler.compile("order",
+            "## 주석\n#each items\n{{name:<6}}{{amount:>6}}\n#end\n합계 {{total}}\n");
+
+        ReceiptContent content = template.bind(Map.of(
+            "items", List.of(Map.of("name", "라떼", "amount", 4500), Map.of("name", "Tea", "amount", 3000)),
+            "total", "7,500"));
+
+        String expected = "라떼    4500\nTea     3000\n합계 7,500\n";
+        assertArrayEquals(expected.getBytes(EUC_KR), render(content));
+        assertFalse(content.endsWithCut());
+    }
+
+    @Test
+    void rejectsMissingValuesBeforePrinting() {
+        ReceiptTemplate template = compiler.compile("order", "#each items\n{{name}} {{qty}}\n#end\n");
+
+        assertThrows(TemplateException.class, () -> template.bind(Map.of()));
+        assertThrows(TemplateException.class, () -> template.bind(Map.of("items", "라떼")));
+        assertThrows(TemplateException.class,
+            () -> template.bind(Map.of("items", List.of(Map.of("name", "라떼")))));
+    }
+
+    @Test
+    void reportsSyntaxErrorsWithLineNumber() {
+        TemplateException e = assertThrows(TemplateException.class,
+            () -> compiler.compile("bad", "첫 줄\n#align middle\n"));
+        assertTrue(e.getMessage().contains("2번째 줄"));
+
+        assertThrows(TemplateException.class, () -> compiler.compile("open", "#each items\n{{name}}\n"));
+        assertThrows(TemplateException.class, () -> compiler.compile("close", "#end\n"));
+    }
+
+    @Test
+    void encodesFixedSymbolsAtCompileTime() {
+        SymbolEncoder symbols = new SymbolEncoder(4);
+        TemplateCompiler compiler = new TemplateCompiler(encoder, null, symbols);
+        ReceiptTemplate template = compiler.compile("pay",
+            "#qr https://pay.example/s/42 4 H\n#barcode code128 {{orderNo}} 60 none\n");
+
+        byte[] qr = symbols.qr("https://pay.example/s/42", 4, QrErrorCorrection.H);
+        assertEquals(qr.length, template.fixedSize());
+        byte[] printed = render(template.bind(Map.of("orderNo", "20261017")));
+        byte[] barcode = symbols.barcode(BarcodeType.CODE128, "20261017", 60, 2, HriPosition.NONE);
+        assertEquals(qr.length + barcode.length, printed.length);
+
+        assertThrows(TemplateException.class, () -> compiler.compile("bad", "#barcode ean13 12345\n"));
+        assertThrows(TemplateException.class,
+            () -> compiler.compile("ean", "#barcode ean13 {{code}}\n").bind(Map.of("code", "주문")));
+    }
+
+    @Test
+    void loadsBundledTemplates() throws Exception {
+        TemplateRepository repository = new TemplateRepository(encoder, null, new SymbolEncoder(32),
+            "classpath*:templates/*.receipt");
+        repository.load();
+
+        ReceiptContent content = repository.get("sample").bind(Map.of(
+            "storeName", "테스트 매장", "address", "서울", "orderNo", "A-001", "orderedAt", "2026-10-17 12:00",
+            "total", "4,500", "items", List.of(Map.of("name", "아메리카노", "qty", 1, "amount", "4,500"))));
+
+        assertTrue(render(content).length > repository.get("sample").fixedSize());
+        assertThrows(UnknownTemplateException.class, () -> repository.get("none"));
+    }
+
+    @Test
+    void dropsControlCharactersFromSlotValues() {
+        ReceiptTemplate template = compiler.compile("menu", "{{name:<6}}|\n");
+
+        byte[] printed = render(template.bind(Map.of("name", "라떼\u001Bi\u0007")));
+
+        assertArrayEquals("라떼i |\n".getBytes(EUC_KR), printed);
+    }
+
+    private byte[] render(ReceiptContent content) {
+        ReceiptBuilder receipt = new ReceiptBuilder(encoder);
+        content.writeTo(receipt);
+        return receipt.toByteArray();
+    }
+}
@@ -0,0 +1,177 @@
+package com.pay.printer.printer.virtual;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fazecast.jSerialComm.SerialPort;
+import com.pay.printer.printer.config.PrinterProtocol;
+import com.pay.printer.printer.connection.SerialSettings;
+import com.pay.printer.printer.escpos.EscPosCommands;
+import com.pay.printer.printer.escpos.PrinterNotReadyException;
+import com.pay.printer.printer.escpos.PrinterStatus;
+import com.pay.printer.printer.escpos.PrinterStatusReader;
+import com.pay.printer.printer.escpos.ReceiptBuilder;
+import com.pay.printer.printer.packet.PacketFramer;
+import com.pay.printer.printer.packet.PacketSettings;
+import com.pay.printer.printer.packet.PacketTransport;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : MinjaeKim
+ * @packageName : com.pay.printer.printer.virtual
+ * @fileName : VirtualPrinterTest
+ * @date : 2026-10-17
+ * @description : 가상 프린터 선로 시간, 버퍼, 응답 확인
+ * ===========================================================
+ * @DATE @AUTHOR       @NOTE ----------------------------------------------------------- 2026-10-17
+ * MinjaeKim       최초 생성
+ */
+class VirtualPrinterTest {
+
+    @Test
+    void writeTakesWireTimeAtBaudRate() throws IOException {
+        VirtualPrinterTransport transport = transport("wire?line-ms=0&cut-ms=0", settings(9600, false));
+
+        // 8N1 은 바이트당 10비트 → 9600 bps 에서 480 바이트는 500ms
+        long start = System.nanoTime();
+        transport.getOutputStream().write(new byte[480]);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 490, "elapsed " + elapsedMillis);
+        assertTrue(elapsedMillis < 1000, "elapsed " + elapsedMillis);
+        assertEquals(480, transport.getPrinter().getStats().getBytesReceived());
+    }
+
+    @Test
+    void fasterBaudRatePrintsMoreReceiptsPerMinute() throws IOException {
+        byte[] receipt = receipt(20);
+
+        long slow = timeToPrint(receipt, 9600);
+        long fast = timeToPrint(receipt, 115200);
+
+        // 인쇄 시간은 같고 선로 시간만 다르다
+        assertTrue(slow > fast * 2, "9600: " + slow + "ms, 115200: " + fast + "ms");
+    }
+
+    @Test
+    void overflowWithoutFlowControlDropsBytes() throws IOException {
+        VirtualPrinterTransport transport = transport("overflow?buffer=256&line-ms=50", settings(115200, false));
+
+        transport.getOutputStream().write(receipt(40));
+
+        assertTrue(transport.getPrinter().getStats().getBytesDropped() > 0);
+    }
+
+    @Test
+    void flowControlWaitsForBufferSpace() throws IOException {
+        VirtualPrinterTransport transport = transport("rtscts?buffer=256&line-ms=5", settings(115200, true));
+        byte[] receipt = receipt(40);
+
+        transport.getOutputStream().write(receipt);
+
+        VirtualPrinterStats stats = transport.getPrinter().getStats();
+        assertEquals(0, stats.getBytesDropped());
+        assertEquals(receipt.length, stats.getBytesReceived());
+        assertEquals(1, stats.getCuts());
+    }
+
+    @Test
+    void answersStatusQuery() throws IOException {
+        VirtualPrinterTransport transport = transport("status", settings(115200, false));
+
+        PrinterStatus status = PrinterStatusReader.requireReady(
+            transport.getInputStream(), transport.getOutputStream(), 300);
+        assertTrue(status.isReady());
+
+        transport.getPrinter().setPaperEnd(true, System.nanoTime());
+        assertThrows(PrinterNotReadyException.class, () -> PrinterStatusReader.requireReady(
+            transport.getInputStream(), transport.getOutputStream(), 300));
+    }
+
+    @Test
+    void acksFramesAndRetransmitsAfterNak() throws IOException {
+        VirtualPrinterTransport transport = transport("packet?protocol=PACKET&nak-rate=0.2&line-ms=1",
+            settings(115200, false));
+        PacketSettings packetSettings = new PacketSettings();
+        packetSettings.setAck(true);
+        packetSettings.setWindowSize(4);
+        packetSettings.setMaxRetries(10);
+        PacketTransport packets = new PacketTransport(
+            transport.getInputStream(), transport.getOutputStream(), packetSettings);
+
+        byte[] line = "0123456789\n".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < 30; i++) {
+            packets.send(PacketFramer.CMD_PRINT, line, 0, line.length);
+        }
+        packets.finish();
+
+        VirtualPrinterStats stats = transport.getPrinter().getStats();
+        assertEquals(30, packets.getFramesSent());
+        assertTrue(stats.getNaks() > 0);
+        assertTrue(packets.getRetransmits() >= stats.getNaks());
+        // NAK 뒤에 다시 보낸 패킷도 한 번씩만 인쇄된다
+        assertEquals(30, stats.getLines());
+    }
+
+    @Test
+    void rejectsFrameWithBadLrc() {
+        VirtualPrinter printer = VirtualPrinter.parse("lrc?protocol=PACKET");
+        byte[] frame = PacketFramer.buildPacket(PacketFramer.CMD_PRINT, new byte[]{'A', 0x0A});
+        frame[frame.length - 1] ^= 0x01;
+
+        long now = System.nanoTime();
+        printer.receive(frame, 0, frame.length, now);
+
+        assertEquals(PacketFramer.NAK, printer.poll(now));
+        assertEquals(0, printer.getStats().getLines());
+    }
+
+    @Test
+    void skipsRasterImageData() {
+        VirtualPrinter printer = new VirtualPrinter("raster", PrinterProtocol.ESCPOS, 4096, 10, 0, 0, 0);
+        // GS v 0 0 - 가로 2바이트, 48줄 (데이터 안의 0x0A 는 줄바꿈이 아니다)
+        byte[] image = new byte[8 + 96];
+        System.arraycopy(new byte[]{0x1D, 'v', '0', 0, 2, 0, 48, 0}, 0, image, 0, 8);
+        Arrays.fill(image, 8, image.length, (byte) 0x0A);
+
+        long now = System.nanoTime();
+        printer.receive(image, 0, image.length, now);
+
+        assertEquals(2, printer.getStats().getLines());
+        assertEquals(now + TimeUnit.MILLISECONDS.toNanos(20), printer.idleAt());
+    }
+
+    private static long timeToPrint(byte[] receipt, int baudRate) throws IOException {
+        VirtualPrinterTransport transport = transport("capacity-" + baudRate + "?line-ms=2&cut-ms=20",
+            settings(baudRate, true));
+        long start = System.nanoTime();
+        transport.getOutputStream().write(receipt);
+        VirtualPrinterTransport.sleepUntil(transport.getPrinter().idleAt());
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static byte[] receipt(int lines) {
+        ReceiptBuilder receipt = new ReceiptBuilder().command(EscPosCommands.INIT);
+        for (int i = 0; i < lines; i++) {
+            receipt.text("Americano          1       4,500", StandardCharsets.US_ASCII).newLine();
+        }
+        return receipt.command(EscPosCommands.FEED_AND_CUT).toByteArray();
+    }
+
+    private static VirtualPrinterTransport transport(String spec, SerialSettings settings) {
+        return new VirtualPrinterTransport("virtual:" + spec, VirtualPrinter.parse(spec), settings);
+    }
+
+    private static SerialSettings settings(int baudRate, boolean flowControl) {
+        return SerialSettings.builder()
+            .baudRate(baudRate)
+            .flowControl(flowControl ? SerialPort.FLOW_CONTROL_RTS_ENABLED | SerialPort.FLOW_CONTROL_CTS_ENABLED
+                : SerialPort.FLOW_CONTROL_DISABLED)
+            .readTimeout(1000)
+            .writeTimeout(5000)
+            .build();
+    }
+}